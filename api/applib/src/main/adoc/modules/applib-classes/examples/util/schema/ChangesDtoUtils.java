@@ -59,6 +59,10 @@ public static ChangesDto fromXml(final Reader reader) {
         }
     }
 
+    public static ChangesDto clone(final ChangesDto changesDto) {
+        return fromXml(toXml(changesDto));
+    }
+
     public static ChangesDto fromXml(final String xml) {
         return fromXml(new StringReader(xml));
     }
@@ -19,6 +19,7 @@
 package org.apache.isis.applib.services.queryresultscache;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.concurrent.Callable;
 
 import org.springframework.beans.factory.DisposableBean;
@@ -49,6 +50,38 @@ <T> T execute(                                      // <.>
 
     // end::refguide[]
 
+    /**
+     * As per {@link #execute(Callable, Class, String, Object...)}, however (if enabled by configuration) the result
+     * is additionally cached in a bounded second-level tier, shared across interactions.
+     *
+     * <p>
+     * A shared result is invalidated once a transaction has committed, that created, updated or deleted
+     * any entity whose type is (a subtype of) one of the {@code dependsOn} types; it is otherwise evicted
+     * once it expires or the cache is full. Within a transaction that itself changed any such entity,
+     * the shared tier is bypassed.
+     * </p>
+     *
+     * <p>
+     * Only results that are values, persistent entities or lists thereof are shared (any other result is
+     * cached for the interaction only). Entities are shared by identifier only, and re-fetched within
+     * the persistence session of the interaction asking for them. Shared values must be treated as immutable.
+     * </p>
+     *
+     * <p>
+     * By default, the result is cached for the interaction only, as per
+     * {@link #execute(Callable, Class, String, Object...)}.
+     * </p>
+     *
+     * @param dependsOn - the entity types the result is derived from
+     */
+    default <T> T executeShared(
+            Callable<T> callable,
+            Collection<Class<?>> dependsOn,
+            Class<?> callingClass, String methodName,
+            Object... keys) {
+        return execute(callable, callingClass, methodName, keys);
+    }
+
     /**
      * Not API, for framework use only.
      */
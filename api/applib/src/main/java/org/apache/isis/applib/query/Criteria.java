@@ -0,0 +1,242 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.query;
+
+import java.io.Serializable;
+import java.lang.invoke.SerializedLambda;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.apache.isis.applib.services.repository.RepositoryService;
+import org.apache.isis.commons.internal.base._Strings;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Type-safe conjunction of conditions on the properties of an entity, for example:
+ * <pre>
+ * Criteria.of(Customer.class)
+ *     .where(Customer::getLastName).eq("Smith")
+ *     .where(Customer::getAge).ge(18);
+ * </pre>
+ *
+ * <p>
+ * Properties are referenced by getter method references, which are resolved to property names such that
+ * the persistence layer can translate the criteria into a datastore filter, along with server-side
+ * offset/limit; see {@link QueryFindByCriteria}.
+ * </p>
+ *
+ * <p>
+ * Criteria are also a {@link Predicate}, evaluated in-memory; when passed to
+ * {@link RepositoryService#allMatches(Class, Predicate, long, long)} filtering is pushed down to the
+ * datastore rather than being performed client-side.
+ * </p>
+ *
+ * @since 2.0
+ */
+public final class Criteria<T> implements Predicate<T>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Getter method reference, eg. {@code Customer::getLastName}.
+     */
+    @FunctionalInterface
+    public static interface Property<T, V> extends Function<T, V>, Serializable {
+    }
+
+    public static enum Operator {
+        EQ,
+        NE,
+        LT,
+        LE,
+        GT,
+        GE,
+        IS_NULL,
+        IS_NOT_NULL;
+
+        /**
+         * Whether this operator takes no operand.
+         */
+        public boolean isUnary() {
+            return this==IS_NULL || this==IS_NOT_NULL;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        boolean test(final Object value, final Object operand) {
+            switch (this) {
+            case EQ: return Objects.equals(value, operand);
+            case NE: return !Objects.equals(value, operand);
+            case IS_NULL: return value==null;
+            case IS_NOT_NULL: return value!=null;
+            default:
+                if(value==null) {
+                    return false;
+                }
+                final int compared = ((Comparable) value).compareTo(operand);
+                switch (this) {
+                case LT: return compared < 0;
+                case LE: return compared <= 0;
+                case GT: return compared > 0;
+                case GE: return compared >= 0;
+                default: throw new IllegalStateException("unmatched operator " + this);
+                }
+            }
+        }
+    }
+
+    /**
+     * A single condition on a property.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Criterion<T> implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @Getter private final @NonNull String propertyName;
+        @Getter private final @NonNull Operator operator;
+        /**
+         * The value to compare against, {@code null} for {@link Operator#isUnary() unary} operators.
+         */
+        @Getter private final Object operand;
+        private final @NonNull Property<T, ?> property;
+
+        public boolean test(final T pojo) {
+            return operator.test(property.apply(pojo), operand);
+        }
+
+        @Override
+        public String toString() {
+            return operator.isUnary()
+                    ? String.format("%s %s", propertyName, operator)
+                    : String.format("%s %s %s", propertyName, operator, operand);
+        }
+    }
+
+    /**
+     * Binds an operator and its operand to a property, completing a {@link Criterion}.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Condition<T, V> {
+
+        private final Criteria<T> criteria;
+        private final Property<T, V> property;
+
+        public Criteria<T> eq(final @NonNull V operand) { return append(Operator.EQ, operand); }
+        public Criteria<T> ne(final @NonNull V operand) { return append(Operator.NE, operand); }
+        public Criteria<T> lt(final @NonNull V operand) { return append(Operator.LT, operand); }
+        public Criteria<T> le(final @NonNull V operand) { return append(Operator.LE, operand); }
+        public Criteria<T> gt(final @NonNull V operand) { return append(Operator.GT, operand); }
+        public Criteria<T> ge(final @NonNull V operand) { return append(Operator.GE, operand); }
+        public Criteria<T> isNull() { return append(Operator.IS_NULL, null); }
+        public Criteria<T> isNotNull() { return append(Operator.IS_NOT_NULL, null); }
+
+        private Criteria<T> append(final Operator operator, final V operand) {
+            val criterion = new Criterion<T>(propertyNameOf(property), operator, operand, property);
+            val criteria = new ArrayList<Criterion<T>>(this.criteria.criteria);
+            criteria.add(criterion);
+            return new Criteria<>(this.criteria.resultType, Collections.unmodifiableList(criteria));
+        }
+    }
+
+    // -- FACTORIES
+
+    /**
+     * Criteria without any conditions, matching all instances of given {@code resultType}.
+     */
+    public static <T> Criteria<T> of(final @NonNull Class<T> resultType) {
+        return new Criteria<>(resultType, Collections.emptyList());
+    }
+
+    // -- CONSTRUCTION
+
+    @Getter private final Class<T> resultType;
+    @Getter private final List<Criterion<T>> criteria;
+
+    private Criteria(final Class<T> resultType, final List<Criterion<T>> criteria) {
+        this.resultType = resultType;
+        this.criteria = criteria;
+    }
+
+    /**
+     * Starts a condition on given {@code property}, to be conjoined with any existing ones.
+     * <p>
+     * (Not named {@code and}, as that would clash with {@link Predicate#and(Predicate)}.)
+     */
+    public <V> Condition<T, V> where(final @NonNull Property<T, V> property) {
+        return new Condition<>(this, property);
+    }
+
+    // -- PREDICATE
+
+    @Override
+    public boolean test(final T pojo) {
+        for(val criterion : criteria) {
+            if(!criterion.test(pojo)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return criteria.isEmpty()
+                ? "(all instances)"
+                : criteria.stream()
+                    .map(Criterion::toString)
+                    .collect(Collectors.joining(" AND "));
+    }
+
+    // -- HELPER
+
+    /**
+     * Resolves the property name from given getter method reference, eg. {@code lastName} from
+     * {@code Customer::getLastName}.
+     */
+    static String propertyNameOf(final Property<?, ?> property) {
+        final String methodName;
+        try {
+            val writeReplace = property.getClass().getDeclaredMethod("writeReplace");
+            writeReplace.setAccessible(true);
+            methodName = ((SerializedLambda) writeReplace.invoke(property)).getImplMethodName();
+        } catch (Exception e) {
+            throw new IllegalArgumentException(
+                    "Criteria require a getter method reference, eg. Customer::getLastName", e);
+        }
+        if(methodName.startsWith("get") && methodName.length()>3) {
+            return _Strings.decapitalize(methodName.substring(3));
+        }
+        if(methodName.startsWith("is") && methodName.length()>2) {
+            return _Strings.decapitalize(methodName.substring(2));
+        }
+        throw new IllegalArgumentException(String.format(
+                "Criteria require a getter method reference, eg. Customer::getLastName, got '%s'", methodName));
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.query;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Finds the instances matching given {@link Criteria}, translated by the persistence layer into
+ * a datastore filter, with the range (start, count) applied server-side.
+ *
+ * @since 2.0
+ */
+public class QueryFindByCriteria<T> extends QueryAbstract<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    @Getter
+    private final Criteria<? super T> criteria;
+
+    /**
+     * @param resultType - either the {@link Criteria#getResultType() criteria's type} or a subtype thereof
+     */
+    public QueryFindByCriteria(
+            final @NonNull Class<T> resultType, 
+            final @NonNull Criteria<? super T> criteria, 
+            final long start, final long count) {
+        super(resultType, start, count);
+        if(!criteria.getResultType().isAssignableFrom(resultType)) {
+            throw new IllegalArgumentException(String.format(
+                    "criteria on %s not applicable to %s", criteria.getResultType().getName(), resultType.getName()));
+        }
+        this.criteria = criteria;
+    }
+
+    public QueryFindByCriteria(final @NonNull Criteria<T> criteria, final long start, final long count) {
+        this(criteria.getResultType(), criteria, start, count);
+    }
+
+    public QueryFindByCriteria(final @NonNull Criteria<T> criteria) {
+        this(criteria, 0L, Long.MAX_VALUE);
+    }
+
+    @Override
+    public String getDescription() {
+        return getResultTypeName() + " where " + criteria;
+    }
+
+}
@@ -41,6 +41,11 @@ default void onTransactionStarted() {
     default void onTransactionEnding() {
         // default: do nothing
     }
+
+    /** triggered once the transaction has been committed successfully*/
+    default void onTransactionCommitted() {
+        // default: do nothing
+    }
     
     
 }
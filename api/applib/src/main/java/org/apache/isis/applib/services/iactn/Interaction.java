@@ -37,6 +37,7 @@
 import org.apache.isis.applib.services.eventbus.EventBusService;
 import org.apache.isis.applib.services.metrics.MetricsService;
 import org.apache.isis.applib.services.wrapper.WrapperFactory;
+import org.apache.isis.applib.util.schema.CommandDtoUtils;
 import org.apache.isis.applib.util.schema.MemberExecutionDtoUtils;
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.collections._Maps;
@@ -609,6 +610,47 @@ public void setDto(final T executionDto) {
         }
 
 
+        // -- snapshot
+
+        /**
+         * <b>NOT API</b>: intended to be called only by the framework.
+         *
+         * <p>
+         *     A detached copy of this execution, such that it can be handed over to another thread (eg. to be
+         *     published asynchronously): it carries values and (deep copies of) the dtos only, its
+         *     {@link #getInteraction() interaction} being detached likewise. Neither the target, the arguments,
+         *     the domain event, the object returned, the exception thrown nor any parent or child executions
+         *     are retained; these are represented by the {@link #getDto() dto}.
+         * </p>
+         */
+        public Execution<T, E> snapshot() {
+            return copyValuesTo(new ExecutionSnapshot<>(this));
+        }
+
+        <X extends Execution<T, E>> X copyValuesTo(final X snapshot) {
+            final Execution<T, E> copy = snapshot;
+            copy.startedAt = startedAt != null ? (Timestamp) startedAt.clone() : null;
+            copy.completedAt = completedAt != null ? (Timestamp) completedAt.clone() : null;
+            copy.numberObjectsLoadedBefore = numberObjectsLoadedBefore;
+            copy.numberObjectsDirtiedBefore = numberObjectsDirtiedBefore;
+            copy.dto = dto != null ? MemberExecutionDtoUtils.clone(dto) : null;
+            return snapshot;
+        }
+
+        /**
+         * A detached copy of the {@link #getInteraction() interaction}, retaining (a deep copy of) its
+         * command's dto only.
+         */
+        Interaction detachedInteraction() {
+            val command = new Command();
+            val commandDto = interaction.getCommand().getCommandDto();
+            if(commandDto != null) {
+                command.updater().setCommandDto(CommandDtoUtils.clone(commandDto));
+            }
+            return new Interaction(command);
+        }
+
+
         // -- helpers (syncMetrics)
 
         // tag::refguide-2a[]
@@ -724,6 +766,13 @@ public ActionInvocation(
             super(interaction, InteractionType.ACTION_INVOCATION, memberId, target, targetMember, targetClass);
             this.args = args;
         }
+
+        @Override
+        public ActionInvocation snapshot() {
+            return copyValuesTo(new ActionInvocation(
+                    detachedInteraction(), getMemberIdentifier(), null, Collections.emptyList(), 
+                    getTargetMember(), getTargetClass()));
+        }
         // tag::refguide-3[]
         // ...
     }
@@ -747,11 +796,31 @@ public PropertyEdit(
             this.newValue = newValue;
         }
 
+        @Override
+        public PropertyEdit snapshot() {
+            return copyValuesTo(new PropertyEdit(
+                    detachedInteraction(), getMemberIdentifier(), null, null, 
+                    getTargetMember(), getTargetClass()));
+        }
+
         // tag::refguide-4[]
         // ...
     }
     // end::refguide-4[]
 
+    /**
+     * Detached copy of an execution of a type other than {@link ActionInvocation} or {@link PropertyEdit}.
+     */
+    private static class ExecutionSnapshot<T extends MemberExecutionDto, E extends AbstractDomainEvent<?>> 
+    extends Execution<T, E> {
+
+        ExecutionSnapshot(final Execution<T, E> execution) {
+            super(execution.detachedInteraction(), execution.getInteractionType(), execution.getMemberIdentifier(), 
+                    null, execution.getTargetMember(), execution.getTargetClass());
+        }
+
+    }
+
     // tag::refguide[]
 }
 // end::refguide[]
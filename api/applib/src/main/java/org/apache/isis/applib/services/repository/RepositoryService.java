@@ -22,6 +22,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
@@ -197,6 +198,26 @@ <T> List<T> allMatches(                                 // <.>
     // tag::refguide[]
     <T> List<T> allMatches(Query<T> query);                 // <.>
 
+    // end::refguide[]
+    /**
+     * As {@link #allMatches(Query)}, but returning the matching instances as a {@link Stream},
+     * backed by a database cursor rather than a fully materialized list.
+     *
+     * <p>
+     * Instances are only adapted (and have services injected) as the stream is consumed, so memory
+     * consumption stays flat regardless of the number of matching instances. The number of rows fetched
+     * per round-trip is governed by the <code>isis.core.runtime-services.repository-service.stream-fetch-size</code>
+     * configuration property.
+     * </p>
+     *
+     * <p>
+     *     The stream holds on to database resources, hence must be consumed within the current transaction
+     *     and should be closed once done with, preferably using a <i>try-with-resources</i> block.
+     * </p>
+     */
+    // tag::refguide[]
+    <T> Stream<T> streamMatches(Query<T> query);            // <.>
+
     // end::refguide[]
     /**
      * Find the only instance of the specified type (including subtypes) that
@@ -24,6 +24,7 @@
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.function.Function;
 
 import lombok.Getter;
 import lombok.NonNull;
@@ -56,16 +57,56 @@ private AsyncControl(final Class<R> returnType) {
         });
     }
 
-    @Getter @NonNull
-    private ExecutorService executorService =                           // <.>
-                            ForkJoinPool.commonPool();
-    public AsyncControl<R> with(ExecutorService executorService) {
+    // end::refguide[]
+    /**
+     * Defaults to the framework's (bounded) thread pool for the {@link #getWorkload() workload}, 
+     * if not overridden
+     */
+    // tag::refguide[]
+    private ExecutorService executorService;                            // <.>
+    public AsyncControl<R> with(@NonNull ExecutorService executorService) {
         // end::refguide[]
         this.executorService = executorService;
         return this;
         // tag::refguide[]
         // ...
     }
+    public @NonNull ExecutorService getExecutorService() {
+        // end::refguide[]
+        if(executorService != null) {
+            return executorService;
+        }
+        // only if never handed over to the framework
+        return executorServiceByWorkload != null
+                ? executorServiceByWorkload.apply(workload)
+                : ForkJoinPool.commonPool();
+        // tag::refguide[]
+        // ...
+    }
+
+    // end::refguide[]
+    /**
+     * Set by framework; resolves the framework's thread pool for given workload, used unless an
+     * {@link #with(ExecutorService) executor service} is provided.
+     */
+    @Setter
+    private Function<String, ExecutorService> executorServiceByWorkload;
+
+    /**
+     * Selects the framework's thread pool to use (as configured), if no
+     * {@link #getExecutorService() executor service} is provided. Defaults to the <tt>default</tt> workload,
+     * if not overridden
+     */
+    // tag::refguide[]
+    @Getter
+    private String workload;                                            // <.>
+    public AsyncControl<R> withWorkload(final String workload) {
+        // end::refguide[]
+        this.workload = workload;
+        return this;
+        // tag::refguide[]
+        // ...
+    }
 
     // end::refguide[]
     /**
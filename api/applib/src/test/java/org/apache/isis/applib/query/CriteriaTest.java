@@ -0,0 +1,104 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.query;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+public class CriteriaTest {
+
+    @AllArgsConstructor
+    static class Customer {
+        @Getter String lastName;
+        @Getter Integer age;
+        @Getter boolean active;
+    }
+
+    static class VipCustomer extends Customer {
+        VipCustomer() {
+            super("Vip", 50, true);
+        }
+    }
+
+    @Test
+    public void resolvesPropertyNames() throws Exception {
+        final Criteria<Customer> criteria = Criteria.of(Customer.class)
+                .where(Customer::getLastName).eq("Smith")
+                .where(Customer::getAge).ge(18)
+                .where(Customer::isActive).eq(true);
+
+        assertThat(criteria.getCriteria().size(), is(3));
+        assertThat(criteria.getCriteria().get(0).getPropertyName(), is("lastName"));
+        assertThat(criteria.getCriteria().get(1).getPropertyName(), is("age"));
+        assertThat(criteria.getCriteria().get(1).getOperator(), is(Criteria.Operator.GE));
+        assertThat(criteria.getCriteria().get(2).getPropertyName(), is("active"));
+    }
+
+    @Test
+    public void evaluatesInMemory() throws Exception {
+        final Criteria<Customer> criteria = Criteria.of(Customer.class)
+                .where(Customer::getLastName).eq("Smith")
+                .where(Customer::getAge).ge(18);
+
+        assertThat(criteria.test(new Customer("Smith", 18, true)), is(true));
+        assertThat(criteria.test(new Customer("Smith", 17, true)), is(false));
+        assertThat(criteria.test(new Customer("Jones", 30, true)), is(false));
+        assertThat(criteria.test(new Customer("Smith", null, true)), is(false));
+
+        final Criteria<Customer> withoutAge = Criteria.of(Customer.class).where(Customer::getAge).isNull();
+        assertThat(withoutAge.test(new Customer("Smith", null, true)), is(true));
+    }
+
+    @Test
+    public void isImmutable() throws Exception {
+        final Criteria<Customer> all = Criteria.of(Customer.class);
+        final Criteria<Customer> smiths = all.where(Customer::getLastName).eq("Smith");
+
+        assertThat(all.getCriteria().size(), is(0));
+        assertThat(smiths.getCriteria().size(), is(1));
+        assertThat(all.test(new Customer("Jones", 30, true)), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsLambdas() throws Exception {
+        Criteria.of(Customer.class).where(customer->customer.getLastName()).eq("Smith");
+    }
+
+    @Test
+    public void queryForSubtype() throws Exception {
+        final Criteria<Customer> criteria = Criteria.of(Customer.class).where(Customer::isActive).eq(true);
+        final QueryFindByCriteria<VipCustomer> query = new QueryFindByCriteria<>(VipCustomer.class, criteria, 0L, 10L);
+
+        assertThat(query.getResultType().equals(VipCustomer.class), is(true));
+        assertThat(query.getCount(), is(10L));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Test(expected = IllegalArgumentException.class)
+    public void queryForUnrelatedType() throws Exception {
+        final Criteria criteria = Criteria.of(Integer.class);
+        new QueryFindByCriteria<String>(String.class, criteria, 0L, 10L);
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.applib.services.interaction;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.apache.isis.applib.services.command.Command;
+import org.apache.isis.applib.services.iactn.Interaction;
+import org.apache.isis.schema.cmd.v2.CommandDto;
+
+public class InteractionTest_snapshot {
+
+    private Interaction interaction;
+    private Interaction.ActionInvocation parent;
+    private Interaction.ActionInvocation execution;
+
+    @Before
+    public void setUp() throws Exception {
+        final CommandDto commandDto = new CommandDto();
+        commandDto.setTransactionId(UUID.randomUUID().toString());
+        final Command command = new Command();
+        command.updater().setCommandDto(commandDto);
+        interaction = new Interaction(command);
+
+        parent = new Interaction.ActionInvocation(
+                interaction, "Customer#placeOrder", new Object(), Collections.emptyList(), "Place Order", "Customer");
+        execution = new Interaction.ActionInvocation(
+                interaction, "Order#addItem", new Object(), Collections.singletonList(new Object()), "Add Item", "Order");
+        execution.setParent(parent);
+        execution.setReturned(new Object());
+    }
+
+    @Test
+    public void retainsValues() {
+        final Interaction.ActionInvocation snapshot = execution.snapshot();
+
+        assertThat(snapshot.getMemberIdentifier(), is("Order#addItem"));
+        assertThat(snapshot.getTargetMember(), is("Add Item"));
+        assertThat(snapshot.getTargetClass(), is("Order"));
+        assertThat(snapshot.getInteraction().getUniqueId(), is(interaction.getUniqueId()));
+    }
+
+    @Test
+    public void detachedFromLiveState() {
+        final Interaction.ActionInvocation snapshot = execution.snapshot();
+
+        assertThat(snapshot.getInteraction(), is(not(sameInstance(interaction))));
+        assertThat(snapshot.getInteraction().getCommand().getCommandDto(),
+                is(not(sameInstance(interaction.getCommand().getCommandDto()))));
+        assertThat(snapshot.getTarget(), is(nullValue()));
+        assertThat(snapshot.getArgs().isEmpty(), is(true));
+        assertThat(snapshot.getParent(), is(nullValue()));
+        assertThat(snapshot.getReturned(), is(nullValue()));
+        assertThat(parent.getChildren().size(), is(1));
+    }
+
+}
@@ -19,6 +19,7 @@
 package org.apache.isis.applib.services.wrapper.control;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import org.assertj.core.api.Assertions;
 import org.junit.Test;
@@ -37,6 +38,27 @@ public void defaults() throws Exception {
 
         // then
         Assertions.assertThat(control.getExecutionModes()).isEmpty();
+        Assertions.assertThat(control.getExecutorService()).isSameAs(ForkJoinPool.commonPool());
+        Assertions.assertThat(control.getWorkload()).isNull();
+    }
+
+    @Test
+    public void executorService_resolvedByWorkload() throws Exception {
+
+        // given
+        val executorService = new ExecutorServiceAdapter(new TaskExecutorAdapter(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+            }
+        }));
+        val control = AsyncControl.returningVoid()
+                .withWorkload("reports");
+
+        // when
+        control.setExecutorServiceByWorkload(workload->"reports".equals(workload) ? executorService : null);
+
+        // then
+        Assertions.assertThat(control.getExecutorService()).isSameAs(executorService);
     }
 
     @Test
@@ -90,6 +112,19 @@ public void roles() throws Exception {
         Assertions.assertThat(control.getRoles()).containsExactlyInAnyOrder("role-1", "role-2");
     }
 
+    @Test
+    public void workload() throws Exception {
+
+        // given
+        val control = AsyncControl.returningVoid();
+
+        // when
+        control.withWorkload("reports");
+
+        // then
+        Assertions.assertThat(control.getWorkload()).isEqualTo("reports");
+    }
+
     @Test
     public void chaining() throws Exception {
 
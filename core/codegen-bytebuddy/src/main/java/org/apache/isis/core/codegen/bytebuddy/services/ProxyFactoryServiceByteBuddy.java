@@ -18,9 +18,12 @@
  */
 package org.apache.isis.core.codegen.bytebuddy.services;
 
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
-import java.util.function.Function;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
 
 import javax.annotation.Nullable;
 
@@ -37,29 +40,57 @@
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
-import net.bytebuddy.dynamic.DynamicType.Builder.MethodDefinition.ImplementationDefinition;
-import net.bytebuddy.implementation.InvocationHandlerAdapter;
+import net.bytebuddy.TypeCache;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.implementation.MethodDelegation;
+import net.bytebuddy.implementation.bind.annotation.AllArguments;
+import net.bytebuddy.implementation.bind.annotation.FieldValue;
+import net.bytebuddy.implementation.bind.annotation.Origin;
+import net.bytebuddy.implementation.bind.annotation.RuntimeType;
+import net.bytebuddy.implementation.bind.annotation.SuperCall;
+import net.bytebuddy.implementation.bind.annotation.This;
 import net.bytebuddy.matcher.ElementMatchers;
 
+/**
+ * Generates proxy classes once per (base class, interfaces) and reuses them; the {@link InvocationHandler}
+ * is not baked into the generated class, but assigned to each proxy instance after instantiation
+ * (until then, proxied methods delegate to the base class).
+ */
 @Service
 public class ProxyFactoryServiceByteBuddy extends _ProxyFactoryServiceAbstract {
 
+    private static final String HANDLER_FIELD_NAME = "$$isisInvocationHandler";
+
+    private static final ClassValue<Field> HANDLER_FIELD = new ClassValue<Field>() {
+        @Override
+        protected Field computeValue(Class<?> proxyClass) {
+            try {
+                final Field handlerField = proxyClass.getDeclaredField(HANDLER_FIELD_NAME);
+                handlerField.setAccessible(true);
+                return handlerField;
+            } catch (NoSuchFieldException e) {
+                throw new IllegalStateException(
+                        String.format("Not a proxy class '%s'", proxyClass.getName()), e);
+            }
+        }
+    };
+
     private final ClassLoadingStrategyAdvisor strategyAdvisor = new ClassLoadingStrategyAdvisor();
 
+    // soft references, such that unused proxy classes (and their class-loaders) can be unloaded
+    private final TypeCache<TypeCache.SimpleKey> proxyClassCache =
+            new TypeCache.WithInlineExpunction<>(TypeCache.Sort.SOFT);
+
+    private final Objenesis objenesis = new ObjenesisStd(true);
+
     @Override
     public <T> _ProxyFactory<T> factory(
             Class<T> base,
             Class<?>[] interfaces,
             Class<?>[] constructorArgTypes) {
 
-        final Objenesis objenesis = new ObjenesisStd();
-
-        final Function<InvocationHandler, Class<? extends T>> proxyClassFactory = handler->
-        nextProxyDef(base, interfaces)
-        .intercept(InvocationHandlerAdapter.of(handler))
-        .make()
-        .load(_Context.getDefaultClassLoader(), strategyAdvisor.getSuitableStrategy(base))
-        .getLoaded();
+        final Class<? extends T> proxyClass = proxyClassFor(base, interfaces);
 
         return new _ProxyFactory<T>() {
 
@@ -98,20 +129,20 @@ public T createInstance(InvocationHandler handler, Object[] constructorArgs) {
 
             // -- HELPER (create w/o initialize)
 
-            private Object createNotUsingConstructor(InvocationHandler invocationHandler) {
-                final Class<? extends T> proxyClass = proxyClassFactory.apply(invocationHandler);
+            private Object createNotUsingConstructor(InvocationHandler invocationHandler)
+                    throws IllegalAccessException {
                 final Object object = objenesis.newInstance(proxyClass);
-                return object;
+                return attachHandler(object, invocationHandler);
             }
 
             // -- HELPER (create with initialize)
 
             private Object createUsingConstructor(InvocationHandler invocationHandler, @Nullable Object[] constructorArgs)
                     throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
-                final Class<? extends T> proxyClass = proxyClassFactory.apply(invocationHandler);
-                return proxyClass
+                final Object object = proxyClass
                         .getConstructor(constructorArgTypes==null ? _Constants.emptyClasses : constructorArgTypes)
                         .newInstance(constructorArgs==null ? _Constants.emptyObjects : constructorArgs);
+                return attachHandler(object, invocationHandler);
             }
 
         };
@@ -120,14 +151,80 @@ private Object createUsingConstructor(InvocationHandler invocationHandler, @Null
 
     // -- HELPER
 
-    private static <T> ImplementationDefinition<T> nextProxyDef(
+    private <T> Class<? extends T> proxyClassFor(
+            Class<T> base,
+            @Nullable Class<?>[] interfaces) {
+
+        final TypeCache.SimpleKey key = new TypeCache.SimpleKey(base,
+                interfaces==null ? _Constants.emptyClasses : interfaces);
+
+        // the cache is keyed by the same class-loader the proxy class is loaded with
+        final ClassLoader classLoader = _Context.getDefaultClassLoader();
+
+        // the monitor prevents concurrent generation of the same proxy class
+        final Class<?> proxyClass = proxyClassCache.findOrInsert(classLoader, key, ()->
+            nextProxyDef(base, interfaces)
+            .make()
+            .load(classLoader, strategyAdvisor.getSuitableStrategy(base))
+            .getLoaded(),
+            proxyClassCache);
+
+        return _Casts.uncheckedCast(proxyClass);
+    }
+
+    private static <T> DynamicType.Builder<T> nextProxyDef(
             Class<T> base,
-            Class<?>[] interfaces) {
+            @Nullable Class<?>[] interfaces) {
         return new ByteBuddy()
                 .with(new NamingStrategy.SuffixingRandom("bb"))
                 .subclass(base)
-                .implement(interfaces)
-                .method(ElementMatchers.any());
+                .implement(interfaces==null ? _Constants.emptyClasses : interfaces)
+                .defineField(HANDLER_FIELD_NAME, InvocationHandler.class, Visibility.PRIVATE)
+                .method(ElementMatchers.any())
+                .intercept(MethodDelegation.to(HandlerDispatcher.class));
+    }
+
+    /**
+     * Dispatches proxied method calls to the proxy's {@link InvocationHandler}; calls made before the
+     * handler is attached (that is, by the base class constructor) are delegated to the base class instead.
+     * <p>
+     * Public, as it is referenced by the generated proxy classes.
+     */
+    public static final class HandlerDispatcher {
+
+        private HandlerDispatcher() {
+        }
+
+        @RuntimeType
+        public static Object dispatch(
+                @This Object proxy,
+                @FieldValue(HANDLER_FIELD_NAME) InvocationHandler handler,
+                @Origin Method method,
+                @AllArguments Object[] args,
+                @SuperCall(nullIfImpossible = true) Callable<?> superCall) throws Throwable {
+
+            if(handler != null) {
+                return handler.invoke(proxy, method, args);
+            }
+            if(superCall != null) {
+                return superCall.call();
+            }
+            // abstract method, there is nothing to delegate to
+            return defaultValueOf(method.getReturnType());
+        }
+
+        private static Object defaultValueOf(Class<?> type) {
+            return type.isPrimitive() && type != void.class
+                    ? Array.get(Array.newInstance(type, 1), 0)
+                    : null;
+        }
+
+    }
+
+    private static Object attachHandler(Object proxy, InvocationHandler invocationHandler)
+            throws IllegalAccessException {
+        HANDLER_FIELD.get(proxy.getClass()).set(proxy, invocationHandler);
+        return proxy;
     }
 
     private static void ensureSameSize(Class<?>[] a, Object[] b) {
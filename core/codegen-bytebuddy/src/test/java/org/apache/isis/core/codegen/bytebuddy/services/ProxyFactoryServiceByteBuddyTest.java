@@ -0,0 +1,91 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.codegen.bytebuddy.services;
+
+import java.lang.reflect.InvocationHandler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ProxyFactoryServiceByteBuddyTest {
+
+    public static class Greeter {
+
+        private final String greetingOnConstruction;
+
+        public Greeter() {
+            // calls an overridable (hence proxied) method
+            this.greetingOnConstruction = greet();
+        }
+
+        public String greet() {
+            return "hello";
+        }
+
+        // final, hence not proxied
+        public final String getGreetingOnConstruction() {
+            return greetingOnConstruction;
+        }
+    }
+
+    private ProxyFactoryServiceByteBuddy proxyFactoryService;
+
+    @BeforeEach
+    void setUp() {
+        proxyFactoryService = new ProxyFactoryServiceByteBuddy();
+    }
+
+    @Test
+    void proxyClass_isReused() {
+        final Greeter proxy1 = proxyFactoryService.factory(Greeter.class, null, null)
+                .createInstance(returning("hi"), false);
+        final Greeter proxy2 = proxyFactoryService.factory(Greeter.class, null, null)
+                .createInstance(returning("howdy"), false);
+
+        assertSame(proxy1.getClass(), proxy2.getClass());
+        assertNotSame(proxy1, proxy2);
+
+        // each instance dispatches to its own handler
+        assertEquals("hi", proxy1.greet());
+        assertEquals("howdy", proxy2.greet());
+    }
+
+    @Test
+    void constructorCallingProxiedMethod_delegatesToBaseClass() {
+        final Greeter proxy = proxyFactoryService.factory(Greeter.class, null, null)
+                .createInstance(returning("hi"), true);
+
+        // the handler is attached only once constructed
+        assertEquals("hello", proxy.getGreetingOnConstruction());
+        assertEquals("hi", proxy.greet());
+    }
+
+    // -- HELPER
+
+    private static InvocationHandler returning(final String greeting) {
+        return (proxy, method, args) -> method.getName().equals("greet")
+                ? greeting
+                : null;
+    }
+
+}
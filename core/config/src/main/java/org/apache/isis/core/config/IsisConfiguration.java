@@ -21,6 +21,7 @@
 import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -132,6 +133,26 @@ public static class Shiro {
             private boolean autoLogoutIfAlreadyAuthenticated = false;
             
         }
+
+        private final Sessions sessions = new Sessions();
+        @Data
+        public static class Sessions {
+            /**
+             * The maximum number of authenticated sessions the <code>AuthenticationManager</code> keeps track of;
+             * once exceeded, the sessions used least recently are discarded (and so need to authenticate again).
+             */
+            @javax.validation.constraints.Min(1)
+            private int maxSessions = 100_000;
+
+            /**
+             * How long an authenticated session remains valid without being used.
+             *
+             * <p>
+             * Should be no shorter than the timeout of the (HTTP) sessions of the viewers.
+             * </p>
+             */
+            private Duration idleTimeout = Duration.ofHours(1);
+        }
     }
 
     private final Applib applib = new Applib();
@@ -1246,6 +1267,17 @@ public static class Introspector {
                  */
                 private boolean parallelize = false; //TODO[ISIS-2382] concurrent spec-loading is broken 
 
+                /**
+                 * Number of threads of the dedicated pool used for {@link #isParallelize() parallel} introspection.
+                 * If not positive (the default), then the number of available processors is used.
+                 *
+                 * <p>
+                 *     Within each introspection phase, types are introspected only after their supertypes; types
+                 *     not depending on each other are introspected concurrently.
+                 * </p>
+                 */
+                private int parallelism = 0;
+
                 /**
                  * Whether all known types should be fully introspected as part of the bootstrapping, or should only be
                  * partially introspected initially.
@@ -1291,6 +1323,50 @@ public static class Introspector {
                  */
                 private boolean validateIncrementally = true;
 
+                /**
+                 * Whether the cache of specifications should use lock-free lookups, rather than
+                 * synchronizing on every access.
+                 *
+                 * <p>
+                 *     Specifications are looked up for every domain object adapted during a request, so with many
+                 *     concurrent requests the synchronized default can become a point of contention.
+                 * </p>
+                 */
+                private boolean concurrentSpecificationCache = false;
+
+                private final Snapshot snapshot = new Snapshot();
+                @Data
+                public static class Snapshot {
+
+                    /**
+                     * Whether to persist a checksummed snapshot of the introspected and validated metamodel,
+                     * to be reused on subsequent boots.
+                     *
+                     * <p>
+                     *     The snapshot records the bean sort and a bytecode digest of each introspectable type,
+                     *     keyed by a fingerprint of the configuration and the programming model. If on the next boot
+                     *     none of these have changed, member introspection of domain objects is deferred until first
+                     *     use and the metamodel validation is skipped, as its outcome is already known. Otherwise the
+                     *     metamodel is introspected and validated as usual and the snapshot is rewritten.
+                     * </p>
+                     *
+                     * <p>
+                     *     Only a metamodel that passed validation is ever written to the snapshot.
+                     * </p>
+                     */
+                    private boolean enabled = false;
+
+                    /**
+                     * Location of the snapshot file. If not set, defaults to <code>isis-metamodel.snapshot</code>
+                     * within the directory given by the <code>java.io.tmpdir</code> system property.
+                     *
+                     * <p>
+                     *     Applications sharing a host should each specify their own location.
+                     * </p>
+                     */
+                    private Optional<String> file = Optional.empty();
+                }
+
             }
 
             private final Validator validator = new Validator();
@@ -1576,6 +1652,179 @@ public static class ApplicationFeatures {
                 ApplicationFeaturesInitConfiguration init = ApplicationFeaturesInitConfiguration.NOT_SPECIFIED;
             }
 
+            private final AsyncExecution asyncExecution = new AsyncExecution();
+            /**
+             * Framework managed thread pools for asynchronous execution, in particular of actions and property
+             * edits invoked through {@link org.apache.isis.applib.services.wrapper.WrapperFactory#asyncWrap(Object, org.apache.isis.applib.services.wrapper.control.AsyncControl)},
+             * unless an <code>ExecutorService</code> is provided explicitly.
+             *
+             * <p>
+             *     Such tasks typically block on the database, so they should not run on the common
+             *     <code>ForkJoinPool</code>, which is sized for CPU bound work and also used by parallel streams.
+             * </p>
+             */
+            @Data
+            public static class AsyncExecution {
+
+                public static final String DEFAULT_WORKLOAD = "default";
+
+                /**
+                 * One bounded pool per workload (class), by name; the
+                 * {@value #DEFAULT_WORKLOAD} workload is used if none is specified.
+                 */
+                private Map<String, Pool> pools = new LinkedHashMap<>(Collections.singletonMap(DEFAULT_WORKLOAD, new Pool()));
+
+                @Data
+                public static class Pool {
+
+                    /**
+                     * The number of threads kept in the pool, even if idle.
+                     */
+                    @javax.validation.constraints.Min(1)
+                    private int coreSize = 4;
+
+                    /**
+                     * The maximum number of threads; threads beyond the {@link #getCoreSize() core size} are only
+                     * started once the queue is full.
+                     */
+                    @javax.validation.constraints.Min(1)
+                    private int maxSize = 16;
+
+                    /**
+                     * The capacity of the (bounded) queue of tasks waiting for a thread.
+                     */
+                    @javax.validation.constraints.Min(1)
+                    private int queueCapacity = 1000;
+
+                    /**
+                     * How long threads beyond the {@link #getCoreSize() core size} are kept, when idle.
+                     */
+                    private Duration keepAlive = Duration.ofSeconds(60);
+
+                    /**
+                     * Back-pressure: how long a submitter waits for space in a full queue, before the task is
+                     * rejected with a <code>RejectedExecutionException</code>.
+                     */
+                    private Duration maxWaitWhenFull = Duration.ofSeconds(5);
+                }
+            }
+
+            private final EntityChangeTracker entityChangeTracker = new EntityChangeTracker();
+            @Data
+            public static class EntityChangeTracker {
+
+                public enum AuditCapture {
+                    /**
+                     * Captures the pre-values of all persisted properties of an entity, as soon as it is enlisted
+                     * as being updated.
+                     */
+                    ALL_PROPERTIES,
+                    /**
+                     * Captures the pre- and post-values of only those properties that actually changed, as tracked
+                     * by the persistence layer (if it supports doing so; otherwise falls back to
+                     * {@link #ALL_PROPERTIES}).
+                     */
+                    CHANGED_PROPERTIES
+                }
+
+                /**
+                 * How the pre- and post-values of updated entities are captured for auditing.
+                 *
+                 * <p>
+                 *     For wide entities updated in bulk, {@link AuditCapture#CHANGED_PROPERTIES} avoids reading
+                 *     every property twice, and keeps memory proportional to the actual changes.
+                 * </p>
+                 */
+                private AuditCapture auditCapture = AuditCapture.ALL_PROPERTIES;
+            }
+
+            private final PublisherDispatchService publisherDispatchService = new PublisherDispatchService();
+            @Data
+            public static class PublisherDispatchService {
+
+                private final Async async = new Async();
+                /**
+                 * Optionally decouples the {@link org.apache.isis.applib.services.publish.PublisherService}s
+                 * from the interaction: published payloads are snapshotted and queued, to be delivered in batches
+                 * on dedicated worker threads.
+                 *
+                 * <p>
+                 *     Payloads of the same interaction are always delivered by the same worker, hence in order.
+                 * </p>
+                 */
+                @Data
+                public static class Async {
+
+                    /**
+                     * Whether to publish asynchronously; if not, the publishers are called synchronously from
+                     * within the interaction's transaction.
+                     */
+                    private boolean enabled = false;
+
+                    /**
+                     * The number of worker threads delivering to the publishers.
+                     */
+                    @javax.validation.constraints.Min(1)
+                    private int workers = 1;
+
+                    /**
+                     * The capacity of the (bounded) queue of each worker.
+                     */
+                    @javax.validation.constraints.Min(1)
+                    private int queueCapacity = 1024;
+
+                    /**
+                     * The maximum number of payloads delivered by a worker in one go.
+                     */
+                    @javax.validation.constraints.Min(1)
+                    private int maxBatchSize = 64;
+
+                    /**
+                     * Back-pressure: how long the interaction waits for space in a full queue, before the payload
+                     * is dropped (and counted as such).
+                     */
+                    private Duration maxWaitWhenFull = Duration.ofMillis(500);
+                }
+            }
+
+            private final QueryResultsCache queryResultsCache = new QueryResultsCache();
+            @Data
+            public static class QueryResultsCache {
+
+                private final Shared shared = new Shared();
+                /**
+                 * Optional application-scoped (second-level) tier of the
+                 * {@link org.apache.isis.applib.services.queryresultscache.QueryResultsCache}, caching the results
+                 * of calls made through <code>executeShared(...)</code> across interactions.
+                 *
+                 * <p>
+                 *     Cached results are evicted once they exceed the {@link #getTimeToLive() time to live}, or
+                 *     when the cache exceeds its {@link #getMaxSize() maximum size} (least recently used first),
+                 *     and are invalidated as soon as any entity of a type they depend on is created, updated or
+                 *     deleted.
+                 * </p>
+                 */
+                @Data
+                public static class Shared {
+
+                    /**
+                     * Whether the shared tier is enabled; if not, calls made through <code>executeShared(...)</code>
+                     * are only cached for the duration of the interaction.
+                     */
+                    private boolean enabled = false;
+
+                    /**
+                     * The maximum number of results to be cached.
+                     */
+                    private int maxSize = 10_000;
+
+                    /**
+                     * How long a result is cached, at most.
+                     */
+                    private Duration timeToLive = Duration.ofMinutes(10);
+                }
+            }
+
             private final RepositoryService repositoryService = new RepositoryService();
             @Data
             public static class RepositoryService {
@@ -1597,6 +1846,17 @@ public static class RepositoryService {
                  */
                 private boolean disableAutoFlush = false;
 
+                /**
+                 * The number of rows fetched per round-trip to the database, when query results are
+                 * streamed (as opposed to being fully materialized) using
+                 * {@link org.apache.isis.applib.services.repository.RepositoryService#streamMatches(org.apache.isis.applib.query.Query)}.
+                 *
+                 * <p>
+                 *     Non-positive values leave the fetch size up to the persistence provider.
+                 * </p>
+                 */
+                private int streamFetchSize = 1000;
+
             }
 
             private final ExceptionRecognizer exceptionRecognizer = new ExceptionRecognizer();
@@ -1655,6 +1915,16 @@ public static class Po {
                      * </p>
                      */
                     TranslationService.Mode mode = TranslationService.Mode.WRITE;
+
+                    /**
+                     * Locales whose translations should be read (in {@link TranslationService.Mode#READ read}
+                     * mode) already on startup, rather than when first requested.
+                     *
+                     * <p>
+                     *     Any other locales are still read on demand.
+                     * </p>
+                     */
+                    private List<Locale> warmUpLocales = new ArrayList<>();
                 }
             }
         }
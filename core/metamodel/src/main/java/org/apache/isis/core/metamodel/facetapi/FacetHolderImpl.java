@@ -24,7 +24,7 @@
 import java.util.stream.Stream;
 
 import org.apache.isis.commons.collections.Can;
-import org.apache.isis.commons.internal.base._Lazy;
+import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.collections._Maps.AliasMap;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
@@ -47,11 +47,15 @@ public class FacetHolderImpl implements FacetHolder, MetaModelContextAware {
     private final Map<Class<? extends Facet>, Facet> facetsByType = _Maps.newHashMap();
     private final Object $lock = new Object();
     
+    /**
+     * Immutable lookup table, (re-)built on demand, after any facet was added or replaced; 
+     * allows for lock-free reads.
+     */
+    private volatile FacetTable facetTable;
+    
     @Override
     public boolean containsFacet(Class<? extends Facet> facetType) {
-        synchronized($lock) {
-            return snapshot.get().containsKey(facetType);
-        }
+        return facetTable().contains(facetType);
     }
 
     @Override
@@ -59,30 +63,24 @@ public void addFacet(Facet facet) {
         synchronized($lock) {
             val changed = addFacetOrKeepExisting(facetsByType, facet);
             if(changed) {
-                snapshot.clear(); //invalidate
+                facetTable = null; //invalidate
             }
         }
     }
 
     @Override
     public <T extends Facet> T getFacet(Class<T> facetType) {
-        synchronized($lock) {
-            return uncheckedCast(snapshot.get().get(facetType));
-        }
+        return uncheckedCast(facetTable().get(facetType));
     }
 
     @Override
     public Stream<Facet> streamFacets() {
-        synchronized($lock) {
-            return snapshot.get().values().stream(); // consumers should play nice and don't take too long  
-        }
+        return facetTable().streamFacets(); 
     }
 
     @Override
     public int getFacetCount() {
-        synchronized($lock) {
-            return snapshot.get().size();    
-        }
+        return facetTable().size();
     }
     
     @Override
@@ -102,23 +100,47 @@ public void addOrReplaceFacet(Facet facet) {
 
     // -- HELPER
     
-    private final _Lazy<Map<Class<? extends Facet>, Facet>> snapshot = _Lazy.threadSafe(this::snapshot);
+    private FacetTable facetTable() {
+        val facetTable = this.facetTable;
+        if(facetTable!=null) {
+            return facetTable;
+        }
+        synchronized($lock) {
+            if(this.facetTable==null) {
+                this.facetTable = snapshot();
+            }
+            return this.facetTable;
+        }
+    }
 
     // collect all facet information provided with the top-level facets (contributed facets and aliases)
-    private Map<Class<? extends Facet>, Facet> snapshot() {
+    private FacetTable snapshot() {
+        if(facetsByType.isEmpty()) {
+            return FacetTable.EMPTY;
+        }
         val snapshot = _Maps.<Class<? extends Facet>, Facet>newAliasMap(HashMap::new);
+        val aliasTypes = _Lists.<Class<? extends Facet>>newArrayList();
         facetsByType.values().forEach(topLevelFacet->{
             
+            val aliasType = Can.<Class<? extends Facet>>ofNullable(topLevelFacet.facetAliasType());
+            aliasType.forEach(aliasTypes::add);
+            
             snapshot.remap(
                     topLevelFacet.facetType(), 
-                    Can.ofNullable(topLevelFacet.facetAliasType()), 
+                    aliasType, 
                     topLevelFacet);
 
             // honor contributed facets via recursive lookup
             collectChildren(snapshot, topLevelFacet);
 
         });
-        return snapshot;
+        
+        // flatten, such that aliases resolve with a single lookup
+        val facetsByTypeOrAlias = new HashMap<Class<? extends Facet>, Facet>(snapshot);
+        aliasTypes.forEach(aliasType->
+            facetsByTypeOrAlias.computeIfAbsent(aliasType, snapshot::get));
+        
+        return FacetTable.of(facetsByTypeOrAlias, snapshot.values());
     }
 
     private void collectChildren(AliasMap<Class<? extends Facet>, Facet> target, Facet parentFacet) {
@@ -145,7 +167,7 @@ private boolean addFacetOrKeepExisting(
     }
     
     private void remove(Facet topLevelFacet) {
-        snapshot.clear(); //invalidate
+        facetTable = null; //invalidate
         facetsByType.remove(topLevelFacet.facetType());
     }
     
@@ -0,0 +1,129 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.facetapi;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import lombok.val;
+
+/**
+ * Immutable facet lookup table of a {@link FacetHolderImpl}, safe to be read without any locking.
+ * <p>
+ * Every facet type is assigned a global ordinal on first use. Facets are stored in a compact
+ * open-addressing table indexed by that ordinal. As ordinals are dense, collisions are rare
+ * and lookups are effectively a single array read, without any allocation.
+ *
+ * @since 2.0
+ */
+final class FacetTable {
+
+    static final FacetTable EMPTY = new FacetTable(new int[] {-1}, new Facet[1], new Facet[0]);
+
+    private static final AtomicInteger nextOrdinal = new AtomicInteger();
+
+    private static final ClassValue<Integer> ordinalByFacetType = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> facetType) {
+            return nextOrdinal.getAndIncrement();
+        }
+    };
+
+    private final int[] ordinals; // -1 denotes an empty slot
+    private final Facet[] facetsBySlot;
+    private final Facet[] distinctFacets;
+    private final int mask;
+
+    private FacetTable(int[] ordinals, Facet[] facetsBySlot, Facet[] distinctFacets) {
+        this.ordinals = ordinals;
+        this.facetsBySlot = facetsBySlot;
+        this.distinctFacets = distinctFacets;
+        this.mask = ordinals.length - 1;
+    }
+
+    /**
+     * @param facetsByType - facets keyed by facet type or alias type, a facet may occur multiple times
+     * @param distinctFacets - each facet once, in the order to be {@link #streamFacets() streamed}
+     */
+    static FacetTable of(
+            final Map<Class<? extends Facet>, Facet> facetsByType,
+            final Collection<Facet> distinctFacets) {
+
+        if(facetsByType.isEmpty()) {
+            return EMPTY;
+        }
+
+        // power of 2, at most half full
+        val capacity = Integer.highestOneBit(Math.max(1, facetsByType.size()) * 2 - 1) << 1;
+        val ordinals = new int[capacity];
+        val facetsBySlot = new Facet[capacity];
+        Arrays.fill(ordinals, -1);
+
+        val mask = capacity - 1;
+        facetsByType.forEach((facetType, facet)->{
+            val ordinal = ordinalOf(facetType);
+            int slot = ordinal & mask;
+            while(ordinals[slot]!=-1) {
+                slot = (slot + 1) & mask;
+            }
+            ordinals[slot] = ordinal;
+            facetsBySlot[slot] = facet;
+        });
+
+        return new FacetTable(ordinals, facetsBySlot, distinctFacets.toArray(new Facet[0]));
+    }
+
+    Facet get(final Class<? extends Facet> facetType) {
+        val ordinal = ordinalOf(facetType);
+        int slot = ordinal & mask;
+        for(int probe = 0; probe < ordinals.length; ++probe) {
+            val ordinalAtSlot = ordinals[slot];
+            if(ordinalAtSlot==ordinal) {
+                return facetsBySlot[slot];
+            }
+            if(ordinalAtSlot==-1) {
+                return null;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    boolean contains(final Class<? extends Facet> facetType) {
+        return get(facetType)!=null;
+    }
+
+    Stream<Facet> streamFacets() {
+        return Stream.of(distinctFacets);
+    }
+
+    int size() {
+        return distinctFacets.length;
+    }
+
+    // -- HELPER
+
+    private static int ordinalOf(final Class<?> facetType) {
+        return ordinalByFacetType.get(facetType);
+    }
+
+}
@@ -20,6 +20,9 @@
 package org.apache.isis.core.metamodel.facets.object.entity;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.apache.isis.applib.query.Query;
 import org.apache.isis.applib.services.repository.EntityState;
@@ -37,8 +40,32 @@ public interface EntityFacet extends Facet {
     String identifierFor(ObjectSpecification spec, Object pojo);
 
     ManagedObject fetchByIdentifier(ObjectSpecification spec, String identifier);
+
+    /**
+     * As {@link #fetchByIdentifier(ObjectSpecification, String)}, but for many identifiers at once,
+     * returning one element per identifier, in the order given. Entities not found are
+     * represented by {@link ManagedObject#empty(ObjectSpecification) empty} elements.
+     * <p>
+     * Implementations should fetch all entities within a single round trip to the database.
+     * By default the entities are fetched one by one, using {@link #fetchByIdentifier(ObjectSpecification, String)}.
+     */
+    default Can<ManagedObject> fetchByIdentifiers(ObjectSpecification spec, Can<String> identifiers) {
+        return identifiers.map(identifier->fetchByIdentifier(spec, identifier));
+    }
+
     Can<ManagedObject> fetchByQuery(ObjectSpecification spec, Query<?> query);
     
+    /**
+     * As {@link #fetchByQuery(ObjectSpecification, Query)}, but adapting the query results lazily, 
+     * as the returned stream is consumed. 
+     * <p>
+     * Implementations should back the stream by a database cursor, releasing it when the stream 
+     * is closed. By default the fully materialized result is streamed.
+     */
+    default Stream<ManagedObject> streamByQuery(ObjectSpecification spec, Query<?> query) {
+        return fetchByQuery(spec, query).stream();
+    }
+    
     void persist(ObjectSpecification spec, Object pojo);
     
     void refresh(Object pojo);
@@ -47,6 +74,26 @@ public interface EntityFacet extends Facet {
     
     EntityState getEntityState(Object pojo);
 
+    /**
+     * Whether the persistence layer tracks changes of individual properties for given entity, that is,
+     * whether {@link #getOriginalValuesOfChangedProperties(Object)} is supported; a cheap query, not
+     * collecting any values.
+     */
+    default boolean isTrackingChangedProperties(Object pojo) {
+        return false;
+    }
+
+    /**
+     * The original values (as of when first changed within the current transaction) of those properties 
+     * of given entity, that have been changed since, keyed by property name.
+     * <p>
+     * Returns {@link Optional#empty()}, if the persistence layer does not track changes of individual 
+     * properties for given entity (which is the default).
+     */
+    default Optional<Map<String, Object>> getOriginalValuesOfChangedProperties(Object pojo) {
+        return Optional.empty();
+    }
+
     /**
      * Whether given method originates from byte code mangling.
      * @param method
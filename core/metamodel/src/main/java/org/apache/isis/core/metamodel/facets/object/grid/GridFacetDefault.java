@@ -18,12 +18,15 @@
  */
 package org.apache.isis.core.metamodel.facets.object.grid;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 import javax.annotation.Nullable;
 
 import org.apache.isis.applib.layout.grid.Grid;
 import org.apache.isis.applib.services.grid.GridService;
+import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.core.metamodel.facetapi.Facet;
 import org.apache.isis.core.metamodel.facetapi.FacetAbstract;
 import org.apache.isis.core.metamodel.facetapi.FacetHolder;
@@ -31,8 +34,17 @@
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 
+import lombok.Value;
 import lombok.val;
 
+/**
+ * Holds on to the normalized {@link Grid}s of its domain class, one per layout name.
+ *
+ * <p>
+ * If the {@link GridService} {@link GridService#supportsReloading() supports reloading},
+ * these are discarded whenever the given layout version changes; if no such version is
+ * available, grids are reloaded on every request.
+ */
 public class GridFacetDefault
 extends FacetAbstract
 implements GridFacet {
@@ -41,32 +53,57 @@ public static Class<? extends Facet> type() {
         return GridFacet.class;
     }
 
-
     public static GridFacet create(
             final FacetHolder facetHolder,
-            final GridService gridService) {
-        return new GridFacetDefault(facetHolder, gridService);
+            final GridService gridService,
+            final @Nullable LongSupplier layoutVersion) {
+        return new GridFacetDefault(facetHolder, gridService, layoutVersion);
     }
 
+    // ConcurrentHashMap does not allow null keys
+    private static final String NO_LAYOUT = "";
+
     private final GridService gridService;
+    private final LongSupplier layoutVersion;
 
-    private Grid grid;
+    // each grid stamped with the layout version it was loaded at
+    private final Map<String, VersionedGrid> gridByLayout = _Maps.newConcurrentHashMap();
+
+    @Value(staticConstructor = "of")
+    private static class VersionedGrid {
+        private final long version;
+        private final Grid grid;
+    }
 
     private GridFacetDefault(
             final FacetHolder facetHolder,
-            final GridService gridService) {
+            final GridService gridService,
+            final LongSupplier layoutVersion) {
         super(GridFacetDefault.type(), facetHolder, Derivation.NOT_DERIVED);
         this.gridService = gridService;
+        this.layoutVersion = layoutVersion;
     }
 
     @Override
     public Grid getGrid(final ManagedObject objectAdapterIfAny) {
-        if (this.grid == null || gridService.supportsReloading()) {
-            val domainClass = getSpecification().getCorrespondingClass();
-            final String layout = layout(objectAdapterIfAny);
-            this.grid = load(domainClass, layout);
+        val domainClass = getSpecification().getCorrespondingClass();
+        final String layout = layout(objectAdapterIfAny);
+        
+        val reloading = gridService.supportsReloading();
+        if(reloading
+                && layoutVersion == null) {
+            return load(domainClass, layout);
         }
-        return this.grid;
+        val requiredVersion = reloading ? layoutVersion.getAsLong() : 0L;
+        
+        // invalidates stale grids per layout, atomically with respect to concurrent loads of the same layout;
+        // the version is read before loading, so a change while loading triggers yet another reload 
+        return gridByLayout.compute(
+                layout != null ? layout : NO_LAYOUT, 
+                (__, cached)->cached != null && cached.getVersion() >= requiredVersion
+                    ? cached
+                    : VersionedGrid.of(requiredVersion, load(domainClass, layout)))
+                .getGrid();
     }
     
     // -- HELPER
@@ -16,10 +16,13 @@
  * under the License. */
 package org.apache.isis.core.metamodel.facets.object.grid;
 
+import java.util.function.LongSupplier;
+
 import org.apache.isis.applib.services.grid.GridService;
 import org.apache.isis.commons.internal.base._Lazy;
 import org.apache.isis.core.metamodel.facetapi.FeatureType;
 import org.apache.isis.core.metamodel.facets.FacetFactoryAbstract;
+import org.apache.isis.core.metamodel.services.grid.GridLoaderServiceDefault;
 
 import lombok.val;
 
@@ -35,12 +38,18 @@ public void process(final ProcessClassContext processClassContext) {
             return;
         }
         val facetHolder = processClassContext.getFacetHolder();
-        super.addFacet(GridFacetDefault.create(facetHolder, gridService.get()));
+        super.addFacet(GridFacetDefault.create(facetHolder, gridService.get(), layoutVersion.get()));
     }
     
     private final _Lazy<GridService> gridService = _Lazy.threadSafe(()->
         getServiceRegistry().lookupService(GridService.class).orElse(null));
     
+    // only the default loader watches the layout resources for changes
+    private final _Lazy<LongSupplier> layoutVersion = _Lazy.threadSafe(()->
+        getServiceRegistry().lookupService(GridLoaderServiceDefault.class)
+        .<LongSupplier>map(gridLoaderService->gridLoaderService::getLayoutVersion)
+        .orElse(null));
+    
 
 
 }
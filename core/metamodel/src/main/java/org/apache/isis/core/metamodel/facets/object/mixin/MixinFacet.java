@@ -47,6 +47,12 @@ public interface MixinFacet extends SingleValueFacet<String> {
 
     boolean isMixinFor(Class<?> candidateDomainType);
 
+    /**
+     * The type of the mix-in's <i>holder</i>, as accepted by its 1-arg constructor; the mix-in
+     * applies to this type and any of its subtypes.
+     */
+    Class<?> getMixedInType();
+
     enum Policy {
         FAIL_FAST,
         IGNORE_FAILURES
@@ -57,6 +57,11 @@ public MixinFacetAbstract(
         this.constructorType = constructor.getParameterTypes()[0];
     }
 
+    @Override
+    public Class<?> getMixedInType() {
+        return constructorType;
+    }
+
     @Override
     public boolean isMixinFor(final Class<?> candidateDomainType) {
         if (candidateDomainType == null) {
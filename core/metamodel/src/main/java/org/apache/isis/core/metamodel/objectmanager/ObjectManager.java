@@ -18,6 +18,8 @@
  */
 package org.apache.isis.core.metamodel.objectmanager;
 
+import java.util.stream.Stream;
+
 import javax.annotation.Nullable;
 
 import org.apache.isis.commons.collections.Can;
@@ -76,10 +78,30 @@ public default ManagedObject loadObject(ObjectLoader.Request objectLoadRequest)
         return getObjectLoader().loadObject(objectLoadRequest);
     }
     
+    /**
+     * Loads the instances identified with given request parameters, entities within a single 
+     * round trip to the database (if supported by the persistence layer).
+     * @param objectBulkLoadRequest
+     * @return one element per identifier, in the order given
+     */
+    public default Can<ManagedObject> loadObjects(ObjectLoader.BulkRequest objectBulkLoadRequest) {
+        return getObjectLoader().loadObjects(objectBulkLoadRequest);
+    }
+    
     public default Can<ManagedObject> queryObjects(ObjectBulkLoader.Request objectQuery) {
         return getObjectBulkLoader().loadObject(objectQuery);
     }
     
+    /**
+     * As {@link #queryObjects(ObjectBulkLoader.Request)}, but lazily adapting the query results, 
+     * as the returned stream is consumed.
+     * @param objectQuery
+     * @return a stream that should be closed once done with
+     */
+    public default Stream<ManagedObject> streamObjects(ObjectBulkLoader.Request objectQuery) {
+        return getObjectBulkLoader().streamObjects(objectQuery);
+    }
+    
     /**
      * Returns an object identifier for the instance.
      * @param managedObject
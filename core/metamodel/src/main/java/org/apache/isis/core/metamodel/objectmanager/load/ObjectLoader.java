@@ -19,6 +19,7 @@
 
 package org.apache.isis.core.metamodel.objectmanager.load;
 
+import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.handler.ChainOfResponsibility;
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
@@ -37,7 +38,20 @@ public interface ObjectLoader {
 
     ManagedObject loadObject(Request objectLoadRequest);
     
-    // -- REQUEST (VALUE) TYPE
+    /**
+     * Loads the instances identified by given request, one element per identifier, in the order given. 
+     * <p>
+     * Entities are fetched within a single round trip to the database (if supported by the 
+     * persistence layer), those not found are represented by empty elements. 
+     * By default the instances are loaded one by one.
+     */
+    default Can<ManagedObject> loadObjects(BulkRequest objectBulkLoadRequest) {
+        val spec = objectBulkLoadRequest.getObjectSpecification();
+        return objectBulkLoadRequest.getObjectIdentifiers()
+                .map(identifier->loadObject(Request.of(spec, identifier)));
+    }
+    
+    // -- REQUEST (VALUE) TYPES
     
     @Value(staticConstructor = "of")
     public static class Request {
@@ -45,6 +59,12 @@ public static class Request {
         String objectIdentifier;
     }
     
+    @Value(staticConstructor = "of")
+    public static class BulkRequest {
+        ObjectSpecification objectSpecification;
+        Can<String> objectIdentifiers;
+    }
+    
     // -- HANDLER
     
     static interface Handler 
@@ -58,22 +78,38 @@ static interface Handler
     
     public static ObjectLoader createDefault(MetaModelContext metaModelContext) {
         
+        val loadEntity = new ObjectLoader_builtinHandlers.LoadEntity();
+        
         val chainOfHandlers = _Lists.of(
                 new ObjectLoader_builtinHandlers.GuardAgainstNull(),
                 new ObjectLoader_builtinHandlers.LoadService(),
                 new ObjectLoader_builtinHandlers.LoadValue(),
                 new ObjectLoader_builtinHandlers.LoadViewModel(),
-                new ObjectLoader_builtinHandlers.LoadEntity(),
+                loadEntity,
                 new ObjectLoader_builtinHandlers.LoadOther());
         
         chainOfHandlers.forEach(h->h.setMetaModelContext(metaModelContext));
         
         val chainOfRespo = ChainOfResponsibility.of(chainOfHandlers);
         
-        return request -> chainOfRespo
-                .handle(request)
-                .orElseThrow(()->_Exceptions.unrecoverableFormatted(
-                        "ObjectLoader failed to handle request %s", request));
+        return new ObjectLoader() {
+            
+            @Override
+            public ManagedObject loadObject(Request request) {
+                return chainOfRespo
+                        .handle(request)
+                        .orElseThrow(()->_Exceptions.unrecoverableFormatted(
+                                "ObjectLoader failed to handle request %s", request));
+            }
+            
+            @Override
+            public Can<ManagedObject> loadObjects(BulkRequest bulkRequest) {
+                return loadEntity.isHandling(bulkRequest)
+                        ? loadEntity.handle(bulkRequest)
+                        : ObjectLoader.super.loadObjects(bulkRequest);
+            }
+            
+        };
         
     }
     
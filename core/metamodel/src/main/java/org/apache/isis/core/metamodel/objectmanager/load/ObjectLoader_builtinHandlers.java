@@ -22,6 +22,7 @@
 import java.lang.reflect.Modifier;
 
 import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.commons.internal.ioc._ManagedBeanAdapter;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
@@ -229,6 +230,35 @@ public ManagedObject handle(ObjectLoader.Request objectLoadRequest) {
             return entity;
         }
 
+        public boolean isHandling(ObjectLoader.BulkRequest objectBulkLoadRequest) {
+            
+            val spec = objectBulkLoadRequest.getObjectSpecification();
+            return spec != null 
+                    && spec.isEntity();
+        }
+        
+        public Can<ManagedObject> handle(ObjectLoader.BulkRequest objectBulkLoadRequest) {
+
+            val spec = objectBulkLoadRequest.getObjectSpecification();
+            val entityFacet = spec.getFacet(EntityFacet.class);
+            if(entityFacet==null) {
+                throw _Exceptions.illegalArgument(
+                        "ObjectSpecification is missing an EntityFacet: %s", spec);
+            }
+            
+            val identifiers = objectBulkLoadRequest.getObjectIdentifiers();
+            val entities = entityFacet.fetchByIdentifiers(spec, identifiers);
+            
+            // same as for single entities above; JPA has no load callback of its own that would inject services, 
+            // while for JDO this merely repeats what DataNucleus' load lifecycle listener already did
+            entities.stream()
+            .map(ManagedObject::getPojo)
+            .filter(_NullSafe::isPresent)
+            .forEach(metaModelContext.getServiceInjector()::injectServicesInto);
+            
+            return entities;
+        }
+
     }
     
     // -- UNKNOWN LOAD REQUEST
@@ -19,6 +19,8 @@
 
 package org.apache.isis.core.metamodel.objectmanager.query;
 
+import java.util.stream.Stream;
+
 import org.apache.isis.applib.query.Query;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.handler.ChainOfResponsibility;
@@ -39,6 +41,14 @@ public interface ObjectBulkLoader {
 
     Can<ManagedObject> loadObject(Request objectQuery);
     
+    /**
+     * As {@link #loadObject(Request)}, but adapting the query results lazily, as the returned stream 
+     * is consumed.
+     * @param objectQuery
+     * @return a stream that should be closed once done with
+     */
+    Stream<ManagedObject> streamObjects(Request objectQuery);
+    
     // -- REQUEST (VALUE) TYPE
     
     @Value(staticConstructor = "of")
@@ -53,13 +63,22 @@ static interface Handler
     extends 
         MetaModelContextAware, 
         ChainOfResponsibility.Handler<ObjectBulkLoader.Request, Can<ManagedObject>> {
+        
+        /**
+         * Handlers that are able to stream their results (eg. backed by a database cursor) 
+         * should override; by default the fully materialized result is streamed.   
+         */
+        default Stream<ManagedObject> handleStreaming(ObjectBulkLoader.Request objectQuery) {
+            return handle(objectQuery).stream();
+        }
+        
     }
 
     // -- FACTORY
     
     public static ObjectBulkLoader createDefault(MetaModelContext metaModelContext) {
         
-        val chainOfHandlers = _Lists.of(
+        val chainOfHandlers = _Lists.<ObjectBulkLoader.Handler>of(
                 new ObjectBulkLoader_builtinHandlers.GuardAgainstNull(),
                 new ObjectBulkLoader_builtinHandlers.BulkLoadEntity(),
                 new ObjectBulkLoader_builtinHandlers.LoadOther());
@@ -68,10 +87,27 @@ public static ObjectBulkLoader createDefault(MetaModelContext metaModelContext)
         
         val chainOfRespo = ChainOfResponsibility.of(chainOfHandlers);
         
-        return request -> chainOfRespo
-                .handle(request)
-                .orElseThrow(()->_Exceptions.unrecoverableFormatted(
-                        "ObjectBulkLoader failed to handle request %s", request));
+        return new ObjectBulkLoader() {
+            
+            @Override
+            public Can<ManagedObject> loadObject(Request request) {
+                return chainOfRespo
+                        .handle(request)
+                        .orElseThrow(()->_Exceptions.unrecoverableFormatted(
+                                "ObjectBulkLoader failed to handle request %s", request));
+            }
+            
+            @Override
+            public Stream<ManagedObject> streamObjects(Request request) {
+                return chainOfHandlers.stream()
+                        .filter(h->h.isHandling(request))
+                        .findFirst()
+                        .map(h->h.handleStreaming(request))
+                        .orElseThrow(()->_Exceptions.unrecoverableFormatted(
+                                "ObjectBulkLoader failed to handle (streaming) request %s", request));
+            }
+            
+        };
     }
     
 }
@@ -18,11 +18,14 @@
  */
 package org.apache.isis.core.metamodel.objectmanager.query;
 
+import java.util.stream.Stream;
+
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
 import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 
 import lombok.Data;
 import lombok.val;
@@ -84,19 +87,34 @@ public boolean isHandling(ObjectBulkLoader.Request objectQuery) {
         public Can<ManagedObject> handle(ObjectBulkLoader.Request objectQuery) {
 
             val spec = objectQuery.getObjectSpecification();
-            val entityFacet = spec.getFacet(EntityFacet.class);
-            if(entityFacet==null) {
-                throw _Exceptions.illegalArgument(
-                        "ObjectSpecification is missing an EntityFacet: %s", spec);
-            }
-            
-            val entities = entityFacet.fetchByQuery(spec, objectQuery.getQuery());
+            val entities = entityFacet(spec).fetchByQuery(spec, objectQuery.getQuery());
             val serviceInjector = metaModelContext.getServiceInjector();
             
             //TODO injection should have already be done by DataNucleus
             entities.forEach(serviceInjector::injectServicesInto);
             return entities;
         }
+        
+        @Override
+        public Stream<ManagedObject> handleStreaming(ObjectBulkLoader.Request objectQuery) {
+            
+            val spec = objectQuery.getObjectSpecification();
+            val serviceInjector = metaModelContext.getServiceInjector();
+            
+            return entityFacet(spec).streamByQuery(spec, objectQuery.getQuery())
+                    .peek(serviceInjector::injectServicesInto); // lazily, as consumed
+        }
+        
+        // -- HELPER
+        
+        private static EntityFacet entityFacet(ObjectSpecification spec) {
+            val entityFacet = spec.getFacet(EntityFacet.class);
+            if(entityFacet==null) {
+                throw _Exceptions.illegalArgument(
+                        "ObjectSpecification is missing an EntityFacet: %s", spec);
+            }
+            return entityFacet;
+        }
 
     }
     
@@ -20,10 +20,19 @@
 
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Named;
 
@@ -42,6 +51,7 @@
 import org.apache.isis.commons.internal.resources._Resources;
 
 import lombok.Value;
+import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
 @Service
@@ -63,35 +73,53 @@ static class DomainClassAndLayout {
     }
 
     // for better logging messages (used only in prototyping mode)
-    private final Map<DomainClassAndLayout, String> badXmlByDomainClassAndLayout = _Maps.newHashMap();
+    private final Map<DomainClassAndLayout, String> badXmlByDomainClassAndLayout = _Maps.newConcurrentHashMap();
 
-    @Value
-    static class DomainClassAndLayoutAndXml {
-        private final DomainClassAndLayout domainClassAndLayout;
-        private final String xml;
-    }
-
-    // cache (used only in prototyping mode)
-    private final Map<DomainClassAndLayoutAndXml, Grid> gridByDomainClassAndLayoutAndXml = _Maps.newHashMap();
+    // directories holding layout resources, being watched for changes (used only in prototyping mode)
+    private final Map<Path, Boolean> watchedDirectories = _Maps.newConcurrentHashMap();
+    private final AtomicLong layoutVersion = new AtomicLong();
+    private WatchService watchService;
 
     @Override
     public boolean supportsReloading() {
         return isisSystemEnvironment.isPrototyping();
     }
 
+    /**
+     * Changes whenever (in prototyping mode) any of the watched layout resources is created,
+     * modified or deleted; layouts loaded before can then be considered stale.
+     *
+     * <p>
+     * The resources of a domain class are watched from the time it is first {@link #load(Class, String) loaded}
+     * on, provided these are located on the file system (rather than eg. within a jar).
+     * Outside of prototyping mode nothing is watched, hence the version never changes.
+     */
+    public long getLayoutVersion() {
+        return layoutVersion.get();
+    }
+
     @Override
     public void remove(final Class<?> domainClass) {
-        final String layoutIfAny = null;
-        final DomainClassAndLayout dcal = new DomainClassAndLayout(domainClass, layoutIfAny);
         if(!supportsReloading()) {
             return;
         }
-        badXmlByDomainClassAndLayout.remove(dcal);
-        final String xml = loadXml(dcal);
-        if(xml == null) {
-            return;
+        badXmlByDomainClassAndLayout.keySet()
+        .removeIf(dcal->dcal.getDomainClass().equals(domainClass));
+        layoutVersion.incrementAndGet();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        synchronized(watchedDirectories) {
+            if(watchService != null) {
+                try {
+                    watchService.close();
+                } catch (IOException e) {
+                    log.warn("failed to close the layout resource watcher", e);
+                }
+                watchService = null;
+            }
         }
-        gridByDomainClassAndLayoutAndXml.remove(new DomainClassAndLayoutAndXml(dcal, xml));
     }
 
     @Override
@@ -102,18 +130,13 @@ public boolean existsFor(final Class<?> domainClass) {
     @Override
     public Grid load(final Class<?> domainClass, final String layoutIfAny) {
         final DomainClassAndLayout dcal = new DomainClassAndLayout(domainClass, layoutIfAny);
+        watchLayoutResourcesOf(domainClass);
         final String xml = loadXml(dcal);
         if(xml == null) {
             return null;
         }
 
-        final DomainClassAndLayoutAndXml dcalax = new DomainClassAndLayoutAndXml(dcal, xml);
         if(supportsReloading()) {
-            final Grid grid = gridByDomainClassAndLayoutAndXml.get(dcalax);
-            if(grid != null) {
-                return grid;
-            }
-
             final String badXml = badXmlByDomainClassAndLayout.get(dcal);
             if(badXml != null) {
                 if(Objects.equals(xml, badXml)) {
@@ -129,9 +152,6 @@ public Grid load(final Class<?> domainClass, final String layoutIfAny) {
         try {
             final Grid grid = gridReader.loadGrid(xml);
             grid.setDomainClass(domainClass);
-            if(supportsReloading()) {
-                gridByDomainClassAndLayoutAndXml.put(dcalax, grid);
-            }
             return grid;
         } catch(Exception ex) {
 
@@ -171,6 +191,70 @@ private String loadXml(final DomainClassAndLayout dcal) {
         }
     }
 
+    private void watchLayoutResourcesOf(final Class<?> domainClass) {
+        if(!isisSystemEnvironment.isPrototyping()) {
+            return; // layouts are never reloaded, so no need to spawn the watcher thread
+        }
+        // layout resources reside next to the domain class' own class file
+        final String className = domainClass.getName();
+        final URL classFileUrl = _Resources.getResourceUrl(
+                domainClass, className.substring(className.lastIndexOf('.') + 1) + ".class");
+        if(classFileUrl == null
+                || !"file".equals(classFileUrl.getProtocol())) {
+            return; // eg. within a jar, so cannot change
+        }
+        final Path directory;
+        try {
+            directory = Paths.get(classFileUrl.toURI()).getParent();
+        } catch (Exception e) {
+            log.warn("cannot watch layout resources of {}", className, e);
+            return;
+        }
+        watchedDirectories.computeIfAbsent(directory, this::watch);
+    }
+
+    private Boolean watch(final Path directory) {
+        synchronized(watchedDirectories) {
+            try {
+                if(watchService == null) {
+                    watchService = FileSystems.getDefault().newWatchService();
+                    val watcherThread = new Thread(
+                            newLayoutResourceWatcher(watchService), "isis-layout-resource-watcher");
+                    watcherThread.setDaemon(true);
+                    watcherThread.start();
+                }
+                directory.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE);
+                return Boolean.TRUE;
+            } catch (IOException | ClosedWatchServiceException e) {
+                log.warn("cannot watch layout resources in {}", directory, e);
+                return Boolean.FALSE;
+            }
+        }
+    }
+
+    private Runnable newLayoutResourceWatcher(final WatchService watchService) {
+        return ()->{
+            try {
+                while(true) {
+                    final WatchKey watchKey = watchService.take();
+                    final boolean layoutChanged = watchKey.pollEvents().stream()
+                            .anyMatch(event->event.kind() == StandardWatchEventKinds.OVERFLOW
+                                    || String.valueOf(event.context()).endsWith(".xml"));
+                    if(layoutChanged) {
+                        log.debug("layout resources changed in {}", watchKey.watchable());
+                        layoutVersion.incrementAndGet();
+                    }
+                    watchKey.reset();
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                // shutdown
+            }
+        };
+    }
+
     String resourceNameFor(final DomainClassAndLayout dcal) {
         final List<String> candidateResourceNames = _Lists.newArrayList();
         if(dcal.layoutIfAny != null) {
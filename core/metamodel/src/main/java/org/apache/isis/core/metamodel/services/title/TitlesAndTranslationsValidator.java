@@ -36,6 +36,11 @@
  */
 public class TitlesAndTranslationsValidator extends MetaModelValidatorAbstract {
 
+    @Override
+    public Scope getScope() {
+        return Scope.GLOBAL;
+    }
+
     @Override
     public void collectFailuresInto(@NonNull ValidationFailures validationFailures) {
         
@@ -0,0 +1,229 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.base._Timing;
+import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.collections._Sets;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.specloader.specimpl.IntrospectionState;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Introspects batches of {@link ObjectSpecification}s, either sequentially or concurrently on a dedicated
+ * {@link ForkJoinPool}.
+ * <p>
+ * When concurrent, each spec is only introspected after all its supertypes (superclasses and interfaces)
+ * of the same batch have been introspected, while specs not depending on each other are introspected
+ * in parallel.
+ * <p>
+ * Records the time taken per phase (batch) and per spec, to be {@link #logTimings(int) reported} once
+ * done.
+ *
+ * @since 2.0
+ */
+@Log4j2
+final class IntrospectionScheduler implements AutoCloseable {
+
+    @Value(staticConstructor = "of")
+    static class PhaseTiming {
+        @NonNull String phase;
+        int specCount;
+        long millis;
+    }
+
+    private final ForkJoinPool pool; // null when sequential
+
+    private final List<PhaseTiming> phaseTimings = _Lists.newConcurrentList();
+    private final Map<ObjectSpecification, Long> nanosBySpec = _Maps.newConcurrentHashMap();
+
+    /**
+     * @param parallelism - number of worker threads; if not greater than 1, introspection is sequential
+     */
+    IntrospectionScheduler(final int parallelism) {
+        this.pool = parallelism > 1
+                ? new ForkJoinPool(parallelism)
+                : null;
+    }
+
+    boolean isConcurrent() {
+        return pool!=null;
+    }
+
+    /**
+     * Introspects given {@code specs} up to given {@code upTo} state, blocking until all are done.
+     */
+    void introspect(
+            final @NonNull String phase,
+            final @NonNull Can<ObjectSpecification> specs,
+            final @NonNull IntrospectionState upTo) {
+
+        val stopWatch = _Timing.now();
+        if(isConcurrent()) {
+            introspectConcurrent(specs, upTo);
+        } else {
+            specs.forEach(spec->introspectTimed(spec, upTo));
+        }
+        stopWatch.stop();
+        phaseTimings.add(PhaseTiming.of(phase, specs.size(), stopWatch.getMillis()));
+    }
+
+    Can<PhaseTiming> getPhaseTimings() {
+        return Can.ofCollection(phaseTimings);
+    }
+
+    /**
+     * Logs the time taken per phase, and - if debug logging is enabled - the {@code limit} slowest specs.
+     */
+    void logTimings(final int limit) {
+        phaseTimings.forEach(timing->
+            log.info(" - {}: {} specs introspected in {} ms",
+                    timing.getPhase(), timing.getSpecCount(), timing.getMillis()));
+
+        if(!log.isDebugEnabled()) {
+            return;
+        }
+
+        nanosBySpec.entrySet().stream()
+        .sorted(Map.Entry.<ObjectSpecification, Long>comparingByValue(Comparator.reverseOrder()))
+        .limit(limit)
+        .forEach(entry->
+            log.debug(" - slowest: {} introspected in {} ms",
+                    entry.getKey().getFullIdentifier(),
+                    TimeUnit.NANOSECONDS.toMillis(entry.getValue())));
+    }
+
+    @Override
+    public void close() {
+        if(pool!=null) {
+            pool.shutdown();
+            try {
+                pool.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // -- HELPER
+
+    private void introspectTimed(final ObjectSpecification spec, final IntrospectionState upTo) {
+        val stopWatch = _Timing.now();
+        try {
+            spec.introspectUpTo(upTo);
+        } catch (Throwable ex) {
+            log.error("failed to introspect {}", spec.getFullIdentifier(), ex);
+            throw ex;
+        }
+        stopWatch.stop();
+        nanosBySpec.merge(spec, stopWatch.getNanos(), Long::sum);
+    }
+
+    private void introspectConcurrent(final Can<ObjectSpecification> specs, final IntrospectionState upTo) {
+
+        val specByClass = _Maps.<Class<?>, ObjectSpecification>newHashMap();
+        specs.forEach(spec->specByClass.put(spec.getCorrespondingClass(), spec));
+
+        val scheduled = _Maps.<ObjectSpecification, CompletableFuture<Void>>newHashMap();
+        specs.forEach(spec->schedule(spec, upTo, specByClass, scheduled));
+
+        try {
+            CompletableFuture.allOf(scheduled.values().toArray(new CompletableFuture<?>[0]))
+            .join();
+        } catch (CompletionException ex) {
+            val cause = ex.getCause();
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if(cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Schedules given {@code spec} to be introspected, once all its supertypes of the same batch are done.
+     * <p>
+     * Recursion depth is bounded by the depth of the type hierarchy, which is acyclic.
+     */
+    private CompletableFuture<Void> schedule(
+            final ObjectSpecification spec,
+            final IntrospectionState upTo,
+            final Map<Class<?>, ObjectSpecification> specByClass,
+            final Map<ObjectSpecification, CompletableFuture<Void>> scheduled) {
+
+        val alreadyScheduled = scheduled.get(spec);
+        if(alreadyScheduled!=null) {
+            return alreadyScheduled;
+        }
+
+        val dependencies = supertypesOf(spec.getCorrespondingClass()).stream()
+                .map(specByClass::get)
+                .filter(dependency->dependency!=null && dependency!=spec)
+                .map(dependency->schedule(dependency, upTo, specByClass, scheduled))
+                .toArray(CompletableFuture<?>[]::new);
+
+        val future = CompletableFuture.allOf(dependencies)
+                .thenRunAsync(()->introspectTimed(spec, upTo), pool);
+
+        scheduled.put(spec, future);
+        return future;
+    }
+
+    /**
+     * All superclasses and (directly or indirectly) implemented interfaces of given {@code cls}.
+     */
+    static Set<Class<?>> supertypesOf(final Class<?> cls) {
+        val supertypes = _Sets.<Class<?>>newLinkedHashSet();
+        val queue = new ArrayDeque<Class<?>>();
+        queue.add(cls);
+        while(!queue.isEmpty()) {
+            val type = queue.poll();
+            val superclass = type.getSuperclass();
+            if(superclass!=null
+                    && supertypes.add(superclass)) {
+                queue.add(superclass);
+            }
+            for(val iface : type.getInterfaces()) {
+                if(supertypes.add(iface)) {
+                    queue.add(iface);
+                }
+            }
+        }
+        return supertypes;
+    }
+
+}
@@ -0,0 +1,244 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import javax.annotation.Nullable;
+
+import org.apache.isis.applib.services.metamodel.BeanSort;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.base._Bytes;
+import org.apache.isis.commons.internal.hash._Hashes;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Compact, checksummed binary record of the types that made up a successfully validated metamodel,
+ * each with its {@link BeanSort} and a digest of its bytecode (including the bytecode of its superclasses).
+ * <p>
+ * The record is keyed by a fingerprint of the configuration and programming model it was created with.
+ * Two snapshots {@link #isEquivalentTo(MetaModelSnapshot) match}, if fingerprints, types, sorts and digests
+ * are all the same.
+ *
+ * @since 2.0
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Log4j2
+final class MetaModelSnapshot {
+
+    private static final int MAGIC = 0x1515_3A9D;
+    private static final int FORMAT_VERSION = 1;
+
+    @Value(staticConstructor = "of")
+    static class TypeEntry {
+        @NonNull String className;
+        @NonNull BeanSort beanSort;
+        @NonNull byte[] bytecodeDigest;
+    }
+
+    private final @NonNull String fingerprint;
+    private final @NonNull Map<String, TypeEntry> entriesByClassName;
+
+    // -- FACTORIES
+
+    /**
+     * Captures the current state of given {@code types}, by reading their bytecode from the class-path.
+     */
+    static MetaModelSnapshot capture(
+            final @NonNull String fingerprint,
+            final @NonNull Stream<Map.Entry<Class<?>, BeanSort>> types) {
+
+        val entries = new TreeMap<String, TypeEntry>();
+        types.forEach(entry->{
+            val cls = entry.getKey();
+            entries.put(cls.getName(), TypeEntry.of(cls.getName(), entry.getValue(), bytecodeDigest(cls)));
+        });
+        return new MetaModelSnapshot(fingerprint, entries);
+    }
+
+    /**
+     * Reads a previously {@link #write(File) written} snapshot, returning an empty {@link Optional}
+     * if the file does not exist, is of a different format version, or fails its checksum.
+     */
+    static Optional<MetaModelSnapshot> read(final @NonNull File file) {
+        if(!file.canRead()) {
+            return Optional.empty();
+        }
+        try(val in = new DataInputStream(Files.newInputStream(file.toPath()))) {
+            if(in.readInt()!=MAGIC
+                    || in.readInt()!=FORMAT_VERSION) {
+                log.warn("ignoring metamodel snapshot {}, unknown format", file);
+                return Optional.empty();
+            }
+            val checksum = in.readLong();
+            val payload = new byte[in.readInt()];
+            in.readFully(payload);
+            if(checksum!=crc32(payload)) {
+                log.warn("ignoring metamodel snapshot {}, checksum mismatch", file);
+                return Optional.empty();
+            }
+            return Optional.of(fromPayload(_Bytes.decompress(payload)));
+        } catch (IOException | RuntimeException e) {
+            log.warn("ignoring metamodel snapshot {}, failed to read", file, e);
+            return Optional.empty();
+        }
+    }
+
+    // -- WRITING
+
+    /**
+     * Writes this snapshot to given {@code file}, replacing any previous one atomically where the
+     * file-system allows for it.
+     */
+    void write(final @NonNull File file) throws IOException {
+        val payload = _Bytes.compress(toPayload());
+        val parentDir = file.getAbsoluteFile().getParentFile();
+        parentDir.mkdirs();
+        val tempFile = File.createTempFile("isis-metamodel", ".tmp", parentDir);
+        try {
+            try(val out = new DataOutputStream(Files.newOutputStream(tempFile.toPath()))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(crc32(payload));
+                out.writeInt(payload.length);
+                out.write(payload);
+            }
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            tempFile.delete();
+        }
+    }
+
+    // -- COMPARISON
+
+    boolean isEquivalentTo(final @Nullable MetaModelSnapshot other) {
+        return other!=null
+                && fingerprint.equals(other.fingerprint)
+                && typesChangedComparedTo(other).isEmpty()
+                && entriesByClassName.keySet().equals(other.entriesByClassName.keySet());
+    }
+
+    /**
+     * @return names of the types of this snapshot, that are either not contained in {@code other}
+     * or differ from their entry in {@code other} by sort or bytecode
+     */
+    Can<String> typesChangedComparedTo(final @NonNull MetaModelSnapshot other) {
+        return Can.ofStream(entriesByClassName.values().stream()
+                .filter(entry->{
+                    val otherEntry = other.entriesByClassName.get(entry.getClassName());
+                    return otherEntry==null
+                            || entry.getBeanSort()!=otherEntry.getBeanSort()
+                            || !Arrays.equals(entry.getBytecodeDigest(), otherEntry.getBytecodeDigest());
+                })
+                .map(TypeEntry::getClassName));
+    }
+
+    boolean containsType(final @NonNull Class<?> cls) {
+        return entriesByClassName.containsKey(cls.getName());
+    }
+
+    int size() {
+        return entriesByClassName.size();
+    }
+
+    // -- HELPER
+
+    private byte[] toPayload() throws IOException {
+        val bytes = new ByteArrayOutputStream();
+        try(val out = new DataOutputStream(bytes)) {
+            out.writeUTF(fingerprint);
+            out.writeInt(entriesByClassName.size());
+            for(val entry : entriesByClassName.values()) {
+                out.writeUTF(entry.getClassName());
+                out.writeUTF(entry.getBeanSort().name());
+                out.writeShort(entry.getBytecodeDigest().length);
+                out.write(entry.getBytecodeDigest());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static MetaModelSnapshot fromPayload(final byte[] payload) throws IOException {
+        try(val in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            val fingerprint = in.readUTF();
+            val entries = new TreeMap<String, TypeEntry>();
+            val count = in.readInt();
+            for(int i=0; i<count; ++i) {
+                val className = in.readUTF();
+                val beanSort = BeanSort.valueOf(in.readUTF());
+                val digest = new byte[in.readShort()];
+                in.readFully(digest);
+                entries.put(className, TypeEntry.of(className, beanSort, digest));
+            }
+            return new MetaModelSnapshot(fingerprint, entries);
+        }
+    }
+
+    private static long crc32(final byte[] bytes) {
+        val crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return crc.getValue();
+    }
+
+    /**
+     * Digest over the bytecode of given class and all its superclasses, that are not loaded by the
+     * bootstrap class-loader.
+     */
+    private static byte[] bytecodeDigest(final Class<?> cls) {
+        val bytecode = new ByteArrayOutputStream();
+        for(Class<?> type = cls; type!=null && type.getClassLoader()!=null; type = type.getSuperclass()) {
+            val nameBytes = type.getName().getBytes(StandardCharsets.UTF_8);
+            bytecode.write(nameBytes, 0, nameBytes.length);
+            val resourceName = type.getName().replace('.', '/') + ".class";
+            try(InputStream in = type.getClassLoader().getResourceAsStream(resourceName)) {
+                val bytes = _Bytes.of(in);
+                if(bytes!=null) {
+                    bytecode.write(bytes, 0, bytes.length);
+                }
+            } catch (IOException e) {
+                // unreadable bytecode only contributes its name to the digest
+                log.debug("failed to read bytecode of {}", type, e);
+            }
+        }
+        return _Hashes.digest(_Hashes.Algorithm.MD5, bytecode.toByteArray())
+                .orElseGet(()->new byte[0]);
+    }
+
+}
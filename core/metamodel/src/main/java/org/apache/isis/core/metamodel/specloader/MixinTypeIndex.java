@@ -0,0 +1,133 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.apache.isis.commons.collections.Can;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Index of mixin types by the type they are mixed into (as accepted by their constructor), such that
+ * for any given type only those mixins need to be considered, that can actually contribute to it:
+ * the mixins of the type itself, of any of its superclasses and of any of its interfaces.
+ *
+ * @since 2.0
+ */
+final class MixinTypeIndex {
+
+    private final int mixinCount;
+
+    // mixed-in type -> mixin types
+    private final Map<Class<?>, List<Class<?>>> mixinTypesByMixedInType = new HashMap<>();
+
+    // mixin type -> position within the registry, such that lookups honor the registry's order
+    private final Map<Class<?>, Integer> ordinals = new HashMap<>();
+
+    // memoized lookups
+    private final Map<Class<?>, Can<Class<?>>> mixinTypesByType = new ConcurrentHashMap<>();
+
+    /**
+     * @param mixinTypes - all mixin types (as registered)
+     * @param mixedInTypeLookup - the type a mixin is mixed into, if any
+     */
+    MixinTypeIndex(
+            final @NonNull Collection<Class<?>> mixinTypes,
+            final @NonNull Function<Class<?>, Optional<Class<?>>> mixedInTypeLookup) {
+
+        this.mixinCount = mixinTypes.size();
+        for (val mixinType : mixinTypes) {
+            ordinals.put(mixinType, ordinals.size());
+            mixedInTypeLookup.apply(mixinType)
+            .ifPresent(mixedInType->
+                mixinTypesByMixedInType
+                .computeIfAbsent(mixedInType, __->new ArrayList<>())
+                .add(mixinType));
+        }
+    }
+
+    /**
+     * The number of mixin types this index was built from.
+     */
+    int getMixinCount() {
+        return mixinCount;
+    }
+
+    /**
+     * The mixin types that can contribute to given {@code type}.
+     */
+    Can<Class<?>> getMixinTypesFor(final @Nullable Class<?> type) {
+        if(type == null
+                || mixinTypesByMixedInType.isEmpty()) {
+            return Can.empty();
+        }
+        return mixinTypesByType.computeIfAbsent(type, this::collectMixinTypesFor);
+    }
+
+    // -- HELPER
+
+    private Can<Class<?>> collectMixinTypesFor(final Class<?> type) {
+        val mixinTypes = new ArrayList<Class<?>>();
+        val visited = new HashSet<Class<?>>();
+        collectMixinTypesFor(type, visited, mixinTypes);
+        if(!type.isPrimitive()) {
+            // also reached by interfaces
+            collectMixinTypesFor(Object.class, visited, mixinTypes);
+        }
+        if(mixinTypes.isEmpty()) {
+            return Can.empty();
+        }
+        mixinTypes.sort(Comparator.comparingInt(ordinals::get));
+        return Can.ofCollection(mixinTypes);
+    }
+
+    private void collectMixinTypesFor(
+            final @Nullable Class<?> type,
+            final Set<Class<?>> visited,
+            final List<Class<?>> mixinTypes) {
+
+        if(type == null
+                || !visited.add(type)) {
+            return;
+        }
+        val mixinTypesOfType = mixinTypesByMixedInType.get(type);
+        if(mixinTypesOfType != null) {
+            mixinTypes.addAll(mixinTypesOfType);
+        }
+        collectMixinTypesFor(type.getSuperclass(), visited, mixinTypes);
+        for (val interfaceType : type.getInterfaces()) {
+            collectMixinTypesFor(interfaceType, visited, mixinTypes);
+        }
+    }
+
+}
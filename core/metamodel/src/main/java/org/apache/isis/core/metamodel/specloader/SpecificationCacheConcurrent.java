@@ -0,0 +1,122 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.isis.core.metamodel.specloader;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.collections.snapshot._VersionedList;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Variant of {@link SpecificationCacheDefault} optimized for the request hot path:
+ * {@link #lookup(Class)} and {@link #computeIfAbsent(Class, Function) computeIfAbsent}
+ * for already cached specs do not acquire any lock. Only cache misses and removals
+ * are serialized.
+ * <p>
+ * We don't use {@link Map#computeIfAbsent(Object, Function)} on the underlying map,
+ * as the mapping function is not guaranteed to not (recursively) update the cache.
+ */
+class SpecificationCacheConcurrent<T extends ObjectSpecification> implements SpecificationCache<T> {
+
+    private final Map<Class<?>, T> specByClass = _Maps.newConcurrentHashMap();
+
+    // optimization: specialized list to keep track of any additions to the cache fast
+    private final _VersionedList<T> vList = new _VersionedList<>();
+
+    @Override
+    public Optional<T> lookup(Class<?> cls) {
+        return Optional.ofNullable(specByClass.get(cls));
+    }
+
+    @Override
+    public T computeIfAbsent(
+            Class<?> cls,
+            Function<Class<?>, T> mappingFunction) {
+        val spec = specByClass.get(cls);
+        if(spec!=null) {
+            return spec;
+        }
+        synchronized(this) {
+            T newSpec = specByClass.get(cls);
+            if(newSpec==null) {
+                newSpec = mappingFunction.apply(cls);
+                internalPut(newSpec);
+            }
+            return newSpec;
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized(this) {
+            specByClass.clear();
+            vList.clear();
+        }
+    }
+
+    @Override
+    public Can<T> snapshotSpecs() {
+        return Can.ofCollection(specByClass.values());
+    }
+
+    @Override
+    public T remove(@NonNull Class<?> cls) {
+        synchronized(this) {
+            final T removed = specByClass.remove(cls);
+            if(removed!=null) {
+                vList.clear(); // invalidate
+                vList.addAll(specByClass.values());
+            }
+            return removed;
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<T> onSpec, boolean shouldRunConcurrent) {
+        if(shouldRunConcurrent) {
+            vList.forEachParallel(onSpec);
+        } else {
+            vList.forEach(onSpec);
+        }
+    }
+
+    // -- HELPER
+
+    /** @implNote only call within synchronized block! */
+    private void internalPut(T spec) {
+        if(spec==null) {
+            return;
+        }
+        val cls = spec.getCorrespondingClass();
+        val existing = specByClass.put(cls, spec);
+        if(existing==null) {
+            vList.add(spec); // add to vList only if we don't have it already
+        }
+    }
+
+}
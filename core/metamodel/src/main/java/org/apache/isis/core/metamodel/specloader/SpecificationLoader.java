@@ -24,6 +24,7 @@
 
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.core.metamodel.progmodel.ProgrammingModel;
+import org.apache.isis.core.metamodel.registry.IsisBeanTypeRegistry;
 import org.apache.isis.core.metamodel.services.classsubstitutor.ClassSubstitutor;
 import org.apache.isis.core.metamodel.spec.ObjectSpecId;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
@@ -104,6 +105,13 @@ public interface SpecificationLoader {
 
     Class<?> lookupType(ObjectSpecId objectSpecId);
 
+    /**
+     * The mixin types that can contribute to given {@code type}, that is, the mixins of the type itself,
+     * of any of its superclasses and of any of its interfaces; in the order of the
+     * {@link IsisBeanTypeRegistry#getMixinTypes() registry}.
+     */
+    Can<Class<?>> lookupMixinTypesFor(Class<?> type);
+
     /**
      * queue {@code objectSpec} for later validation
      * @param objectSpec
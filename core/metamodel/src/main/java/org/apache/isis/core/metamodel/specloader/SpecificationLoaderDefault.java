@@ -18,13 +18,23 @@
  */
 package org.apache.isis.core.metamodel.specloader;
 
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 import javax.annotation.PostConstruct;
@@ -46,7 +56,9 @@
 import org.apache.isis.commons.internal.base._Lazy;
 import org.apache.isis.commons.internal.base._Timing;
 import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.commons.internal.hash._Hashes;
 import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.core.config.beans.IsisBeanMetaData;
 import org.apache.isis.core.config.beans.IsisBeanTypeClassifier;
@@ -55,6 +67,7 @@
 import org.apache.isis.core.metamodel.commons.ClassUtil;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
 import org.apache.isis.core.metamodel.facetapi.Facet;
+import org.apache.isis.core.metamodel.facets.object.mixin.MixinFacet;
 import org.apache.isis.core.metamodel.progmodel.ProgrammingModel;
 import org.apache.isis.core.metamodel.progmodel.ProgrammingModelService;
 import org.apache.isis.core.metamodel.progmodels.dflt.ProgrammingModelFacetsJava8;
@@ -70,6 +83,7 @@
 import org.apache.isis.core.metamodel.specloader.facetprocessor.FacetProcessor;
 import org.apache.isis.core.metamodel.specloader.postprocessor.PostProcessor;
 import org.apache.isis.core.metamodel.specloader.specimpl.IntrospectionState;
+import org.apache.isis.core.metamodel.specloader.specimpl.ObjectSpecificationAbstract;
 import org.apache.isis.core.metamodel.specloader.specimpl.dflt.ObjectSpecificationDefault;
 import org.apache.isis.core.metamodel.specloader.validator.MetaModelValidatorAbstract;
 import org.apache.isis.core.metamodel.specloader.validator.ValidationFailures;
@@ -120,7 +134,7 @@ public class SpecificationLoaderDefault implements SpecificationLoader {
 
     private FacetProcessor facetProcessor;
 
-    private final SpecificationCache<ObjectSpecification> cache = new SpecificationCacheDefault<>();
+    private final SpecificationCache<ObjectSpecification> cache;
     private final SpecIdToClassResolver specIdToClassResolver = new SpecIdToClassResolverDefault();
 
     /**
@@ -130,6 +144,12 @@ public class SpecificationLoaderDefault implements SpecificationLoader {
     @Getter @Setter
     private boolean metamodelFullyIntrospected = false;
 
+    /**
+     * Set during bootstrapping, if the metamodel matches the persisted {@link MetaModelSnapshot}, 
+     * in which case member introspection of domain objects is deferred until first use.
+     */
+    private MetaModelSnapshot verifiedSnapshot;
+
     @Inject
     public SpecificationLoaderDefault(
             final ProgrammingModelService programmingModelService,
@@ -169,6 +189,9 @@ public SpecificationLoaderDefault(
         this.isisBeanTypeRegistry = isisBeanTypeRegistry;
         this.valueTypeRegistry = valueTypeRegistry;
         this.classSubstitutorRegistry = classSubstitutorRegistry;
+        this.cache = isisConfiguration.getCore().getMetaModel().getIntrospector().isConcurrentSpecificationCache()
+                ? new SpecificationCacheConcurrent<>()
+                : new SpecificationCacheDefault<>();
     }
 
     /** JUnit Test Support */
@@ -268,37 +291,69 @@ public void createMetaModel() {
 
         });
 
-        //XXX[ISIS-2382] when parallel introspecting, make sure we have the mixins before their holders
+        val currentSnapshot = captureSnapshotIfEnabled();
+        verifiedSnapshot = currentSnapshot
+                .filter(current->readSnapshot().map(current::isEquivalentTo).orElse(false))
+                .orElse(null);
+
+        //XXX[ISIS-2382] when parallel introspecting, make sure we have the mixins before their holders;
+        // within each phase the scheduler takes care of introspecting supertypes before their subtypes
         
         SpecificationLoaderDefault_debug.logBefore(log, cache, knownSpecs);
 
-        log.info(" - introspecting {} type hierarchies", knownSpecs.size());
-        introspect(Can.ofCollection(knownSpecs), IntrospectionState.TYPE_INTROSPECTED);
+        try(val scheduler = newIntrospectionScheduler()) {
 
-        log.info(" - introspecting {} value types", valueTypeSpecs.size());
-        introspect(Can.ofCollection(valueTypeSpecs), IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+            log.info(" - introspecting {} type hierarchies", knownSpecs.size());
+            scheduler.introspect("type hierarchies", 
+                    Can.ofCollection(knownSpecs), IntrospectionState.TYPE_INTROSPECTED);
 
-        log.info(" - introspecting {} mixins", isisBeanTypeRegistry.getMixinTypes().size());
-        introspect(Can.ofCollection(mixinSpecs), IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
-        
-        log.info(" - introspecting {} managed beans contributing (aka domain services)", isisBeanTypeRegistry.getManagedBeansContributing().size());
-        log.info(" - introspecting {}/{} entities (JDO/JPA)",
-                isisBeanTypeRegistry.getEntityTypesJdo().size(),
-                isisBeanTypeRegistry.getEntityTypesJpa().size());
-        log.info(" - introspecting {} view models", isisBeanTypeRegistry.getViewModelTypes().size());
-        introspect(Can.ofCollection(domainObjectSpecs), IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+            log.info(" - introspecting {} value types", valueTypeSpecs.size());
+            scheduler.introspect("value types", 
+                    Can.ofCollection(valueTypeSpecs), IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
 
-        SpecificationLoaderDefault_debug.logAfter(log, cache, knownSpecs);
+            log.info(" - introspecting {} mixins", isisBeanTypeRegistry.getMixinTypes().size());
+            scheduler.introspect("mixins", 
+                    Can.ofCollection(mixinSpecs), IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+            
+            log.info(" - introspecting {} managed beans contributing (aka domain services)", isisBeanTypeRegistry.getManagedBeansContributing().size());
+            log.info(" - introspecting {}/{} entities (JDO/JPA)",
+                    isisBeanTypeRegistry.getEntityTypesJdo().size(),
+                    isisBeanTypeRegistry.getEntityTypesJpa().size());
+            log.info(" - introspecting {} view models", isisBeanTypeRegistry.getViewModelTypes().size());
+            if(verifiedSnapshot!=null) {
+                log.info(" - deferring member introspection of {} domain objects (metamodel snapshot verified)", 
+                        domainObjectSpecs.size());
+                scheduler.introspect("domain objects", 
+                        Can.ofCollection(domainObjectSpecs), IntrospectionState.TYPE_INTROSPECTED);
+            } else {
+                scheduler.introspect("domain objects", 
+                        Can.ofCollection(domainObjectSpecs), IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+            }
 
-        if(isFullIntrospect()) {
-            val snapshot = cache.snapshotSpecs();
-            log.info(" - introspecting all {} types eagerly (FullIntrospect=true)", snapshot.size());
-            introspect(snapshot.filter(x->x.getBeanSort().isMixin()), IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
-            introspect(snapshot.filter(x->!x.getBeanSort().isMixin()), IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+            SpecificationLoaderDefault_debug.logAfter(log, cache, knownSpecs);
+
+            if(isFullIntrospect() 
+                    && verifiedSnapshot==null) {
+                val snapshot = cache.snapshotSpecs();
+                log.info(" - introspecting all {} types eagerly (FullIntrospect=true)", snapshot.size());
+                scheduler.introspect("all mixins (full introspection)", 
+                        snapshot.filter(x->x.getBeanSort().isMixin()), IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+                scheduler.introspect("all other types (full introspection)", 
+                        snapshot.filter(x->!x.getBeanSort().isMixin()), IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+            }
+
+            scheduler.logTimings(20);
         }
         
-        log.info(" - running remaining validators");
-        _Blackhole.consume(getValidationResult()); // as a side effect memoizes the validation result
+        if(verifiedSnapshot!=null) {
+            log.info(" - skipping validators (outcome known from metamodel snapshot of {} types)", 
+                    verifiedSnapshot.size());
+            validationResult.set(new ValidationFailures());
+        } else {
+            log.info(" - running remaining validators");
+            _Blackhole.consume(getValidationResult()); // as a side effect memoizes the validation result
+            currentSnapshot.ifPresent(this::writeSnapshotIfValid);
+        }
 
         stopWatch.stop();
         log.info("Metamodel created in " + (long)stopWatch.getMillis() + " ms.");
@@ -317,7 +372,9 @@ public ValidationFailures getValidationResult() {
     public void disposeMetaModel() {
         specIdToClassResolver.clear();
         cache.clear();
+        mixinTypeIndex = null;
         validationResult.clear();
+        verifiedSnapshot = null;
         log.info("Metamodel disposed.");
     }
     
@@ -379,6 +436,10 @@ public void validateLater(ObjectSpecification objectSpec) {
             // getValidationResult() is lazily populated later on first request anyway
             return; 
         }
+        if(isVerifiedBySnapshot(objectSpec.getCorrespondingClass())) {
+            // outcome of validation is already known from the metamodel snapshot
+            return;
+        }
         if(!isisConfiguration.getCore().getMetaModel().getIntrospector().isValidateIncrementally()) {
             // re-validation after the initial one can be turned off by means of above config option
             return;
@@ -388,24 +449,17 @@ public void validateLater(ObjectSpecification objectSpec) {
         
         // validators might discover new specs 
         // to prevent deadlocks, we queue up validation requests to be processed later
+        _Assert.assertTrue(validationQueue.offer(objectSpec), 
+                "The Validation Queue is expected to never deadlock or grow beyond its capacity.");
         if(validationInProgress.get()) {
-            _Assert.assertTrue(validationQueue.offer(objectSpec), 
-                    "The Validation Queue is expected to never deadlock or grow beyond its capacity.");
             return; 
         }
         
-        while(validationQueue.poll()!=null) {
-            // keep re-validating until the queue is empty
-            validationQueue.clear(); // shortcut
-            validationResult.clear(); // invalidate
-            // potentially triggers a call to the method we are currently in, 
-            // which adds more entries to the validationQueue
-            getValidationResult(); 
-        }
+        final ValidationFailures validationFailures = getValidationResult(); // initial validation, unless done already
+        collectFailuresIncrementally(validationFailures);
         
         // only after things have settled we offer feedback to the user (interface) 
         
-        final ValidationFailures validationFailures = getValidationResult();
         if(validationFailures.hasFailures()) {
             throw _Exceptions.illegalState(String.join("\n", validationFailures.getMessages("[%d] %s")));
         }
@@ -434,6 +488,29 @@ public Class<?> lookupType(final @NonNull ObjectSpecId objectSpecId) {
                 .orElseGet(()->ClassUtil.forNameElseNull(objectSpecId.asString()));
     }
     
+    // -- MIXINS
+
+    private volatile MixinTypeIndex mixinTypeIndex;
+
+    @Override
+    public Can<Class<?>> lookupMixinTypesFor(final Class<?> type) {
+        val mixinTypes = isisBeanTypeRegistry.getMixinTypes();
+        MixinTypeIndex mixinTypeIndex = this.mixinTypeIndex;
+        if(mixinTypeIndex == null
+                || mixinTypeIndex.getMixinCount() != mixinTypes.size()) {
+            // not built under a lock, as this loads specifications; concurrent builds yield equal indexes
+            this.mixinTypeIndex = mixinTypeIndex = 
+                    new MixinTypeIndex(_Lists.newArrayList(mixinTypes), this::lookupMixedInType);
+        }
+        return mixinTypeIndex.getMixinTypesFor(type);
+    }
+
+    private Optional<Class<?>> lookupMixedInType(final Class<?> mixinType) {
+        return Optional.ofNullable(loadSpecification(mixinType, IntrospectionState.TYPE_INTROSPECTED))
+                .map(mixinSpec->mixinSpec.getFacet(MixinFacet.class))
+                .map(MixinFacet::getMixedInType);
+    }
+
     // -- VALIDATION STUFF
     
     private _Lazy<ValidationFailures> validationResult = 
@@ -443,24 +520,156 @@ public Class<?> lookupType(final @NonNull ObjectSpecId objectSpecId) {
     private final BlockingQueue<ObjectSpecification> validationQueue = new LinkedBlockingQueue<>();
     
     private ValidationFailures collectFailuresFromMetaModel() {
-        validationInProgress.set(true);               
-        val failures = new ValidationFailures();
-        programmingModel.streamValidators()
-        .map(MetaModelValidatorAbstract.class::cast)
-        .forEach(validator -> {
-            log.debug("Running validator: {}", validator);
+        validationInProgress.set(true);
+        try {
+            val failures = new ValidationFailures();
+            val validators = listValidators();
+            val timings = new ValidatorTimings();
+
+            // specs are validated in parallel (if configured), each spec by all per-spec validators in turn
+            val perSpecValidators = validators.filter(validator->validator.getScope().isPerSpec());
+            forEach(spec->perSpecValidators
+                    .forEach(validator->timings.run(validator, ()->validator.validateSpec(spec))));
+            perSpecValidators
+                    .forEach(validator->validator.collectFailuresInto(failures, Can.empty()));
+
+            validators.filter(validator->!validator.getScope().isPerSpec())
+                    .forEach(validator->timings.run(validator, ()->validator.collectFailuresInto(failures)));
+
+            timings.log("validation");
+            return failures;
+        } finally {
+            validationInProgress.set(false);
+        }
+    }
+
+    /**
+     * Validates any specs queued up since, as long as the queue is not empty; per-spec validators only 
+     * validate those, while global validators re-validate the entire metamodel.
+     */
+    private void collectFailuresIncrementally(final ValidationFailures failures) {
+        if(!validationInProgress.compareAndSet(false, true)) {
+            return; // some other thread is already processing the queue
+        }
+        try {
+            val validators = listValidators();
+            val timings = new ValidatorTimings();
+            while(!validationQueue.isEmpty()) {
+                val newSpecs = _Lists.<ObjectSpecification>newArrayList();
+                validationQueue.drainTo(newSpecs);
+                // potentially triggers a call to validateLater, 
+                // which adds more entries to the validationQueue
+                validators.forEach(validator->timings.run(validator, 
+                        ()->validator.collectFailuresInto(failures, Can.ofCollection(newSpecs))));
+            }
+            timings.log("incremental validation");
+        } finally {
+            validationInProgress.set(false);
+        }
+    }
+
+    private Can<MetaModelValidatorAbstract> listValidators() {
+        return Can.ofStream(programmingModel.streamValidators()
+                .map(MetaModelValidatorAbstract.class::cast));
+    }
+
+    /**
+     * Accumulates the time taken per validator (possibly across multiple threads).
+     */
+    private static final class ValidatorTimings {
+
+        private final Map<MetaModelValidatorAbstract, LongAdder> nanosByValidator = _Maps.newConcurrentHashMap();
+
+        void run(final MetaModelValidatorAbstract validator, final Runnable validation) {
+            val stopWatch = _Timing.now();
             try {
-                validator.collectFailuresInto(failures);
+                validation.run();
             } catch (Throwable t) {
-                log.error(t);
+                log.error("validator {} failed", validator, t);
                 throw t;
             } finally {
-                log.debug("Done validator: {}", validator);
+                stopWatch.stop();
+                nanosByValidator.computeIfAbsent(validator, __->new LongAdder()).add(stopWatch.getNanos());
             }
-        });
-        log.debug("Done");
-        validationInProgress.set(false);
-        return failures;
+        }
+
+        void log(final String label) {
+            val totalMillis = TimeUnit.NANOSECONDS.toMillis(nanosByValidator.values().stream()
+                    .mapToLong(LongAdder::sum)
+                    .sum());
+            log.info(" - {}: {} validators took {} ms (accumulated)", label, nanosByValidator.size(), totalMillis);
+            nanosByValidator.entrySet().stream()
+            .sorted(Comparator.comparing((Map.Entry<MetaModelValidatorAbstract, LongAdder> entry)->
+                entry.getValue().sum()).reversed())
+            .forEach(entry->
+                log.debug(" - {}: {} took {} ms", 
+                        label, entry.getKey(), TimeUnit.NANOSECONDS.toMillis(entry.getValue().sum())));
+        }
+    }
+
+    // -- SNAPSHOT
+
+    private Optional<MetaModelSnapshot> captureSnapshotIfEnabled() {
+        if(!isisConfiguration.getCore().getMetaModel().getIntrospector().getSnapshot().isEnabled()) {
+            return Optional.empty();
+        }
+        return Optional.of(MetaModelSnapshot.capture(
+                metaModelFingerprint(), 
+                isisBeanTypeRegistry.streamIntrospectableTypes()
+                .map(type->_Maps.entry(type.getCorrespondingClass(), type.getBeanSort()))));
+    }
+
+    private Optional<MetaModelSnapshot> readSnapshot() {
+        val snapshot = MetaModelSnapshot.read(snapshotFile());
+        if(!snapshot.isPresent()) {
+            log.info(" - no usable metamodel snapshot found at {}", snapshotFile());
+        }
+        return snapshot;
+    }
+
+    private void writeSnapshotIfValid(final MetaModelSnapshot snapshot) {
+        if(getValidationResult().hasFailures()) {
+            return; // never snapshot an invalid metamodel
+        }
+        try {
+            snapshot.write(snapshotFile());
+            log.info(" - written metamodel snapshot of {} types to {}", snapshot.size(), snapshotFile());
+        } catch (IOException e) {
+            log.warn("failed to write metamodel snapshot to {}", snapshotFile(), e);
+        }
+    }
+
+    private boolean isVerifiedBySnapshot(final Class<?> cls) {
+        val snapshot = verifiedSnapshot;
+        return snapshot!=null
+                && snapshot.containsType(cls);
+    }
+
+    private File snapshotFile() {
+        return isisConfiguration.getCore().getMetaModel().getIntrospector().getSnapshot().getFile()
+                .map(File::new)
+                .orElseGet(()->new File(System.getProperty("java.io.tmpdir"), "isis-metamodel.snapshot"));
+    }
+
+    /**
+     * Anything other than the introspected types themselves, that has an influence on the resulting metamodel.
+     */
+    private String metaModelFingerprint() {
+        val fingerprint = new StringBuilder()
+                .append(isisConfiguration.getApplib()).append('\n')
+                .append(isisConfiguration.getCore().getMetaModel()).append('\n')
+                .append(isFullIntrospect()).append('\n');
+        Stream.<Stream<?>>of(
+                programmingModel.streamFactories(),
+                programmingModel.streamValidators(),
+                programmingModel.streamPostProcessors())
+        .flatMap(components->components)
+        .map(component->component.getClass().getName())
+        .forEach(componentName->fingerprint.append(componentName).append('\n'));
+
+        return _Hashes.digest(_Hashes.Algorithm.SHA256, fingerprint.toString().getBytes(StandardCharsets.UTF_8))
+                .map(digest->new BigInteger(1, digest).toString(16))
+                .orElseGet(fingerprint::toString);
     }
 
     // -- HELPER
@@ -502,7 +711,8 @@ private ObjectSpecification _loadSpecification(
     }
     
     private void guardAgainstMetamodelLockedAfterFullIntrospection(final Class<?> cls) {
-        if(isMetamodelFullyIntrospected() 
+        if(isMetamodelFullyIntrospected()
+                && verifiedSnapshot==null // types discovered during deferred member introspection are expected
                 && isisConfiguration.getCore().getMetaModel().getIntrospector().isLockAfterFullIntrospection()) {
 
             val category = isisBeanTypeClassifier.classify(cls);
@@ -553,37 +763,15 @@ private ObjectSpecification createSpecification(final Class<?> cls, final BeanSo
         return objectSpec;
     }
 
-    private void introspectSequential(
-            final Can<ObjectSpecification> specs, 
-            final IntrospectionState upTo) {
-        for (val spec : specs) {
-            spec.introspectUpTo(upTo);
-        }
-    }
-
-    private void introspectParallel(
-            final Can<ObjectSpecification> specs, 
-            final IntrospectionState upTo) {
-        specs.parallelStream()
-        .forEach(spec -> {
-            try {
-                spec.introspectUpTo(upTo);
-            } catch (Throwable ex) {    
-                log.error(ex);
-                throw ex;
-            }
-        });
-    }
-    
-    private void introspect(
-            final Can<ObjectSpecification> specs, 
-            final IntrospectionState upTo) {
-        val isConcurrentFromConfig = isisConfiguration.getCore().getMetaModel().getIntrospector().isParallelize();
-        if(isConcurrentFromConfig) {
-            introspectParallel(specs, upTo);
-        } else {
-            introspectSequential(specs, upTo);
+    private IntrospectionScheduler newIntrospectionScheduler() {
+        val introspectorConfig = isisConfiguration.getCore().getMetaModel().getIntrospector();
+        if(!introspectorConfig.isParallelize()) {
+            return new IntrospectionScheduler(1);
         }
+        val parallelism = introspectorConfig.getParallelism() > 0
+                ? introspectorConfig.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        return new IntrospectionScheduler(parallelism);
     }
 
     private void invalidateCache(final Class<?> cls) {
@@ -599,6 +787,9 @@ private void invalidateCache(final Class<?> cls) {
         while(spec != null) {
             val type = spec.getCorrespondingClass();
             cache.remove(type);
+            if(spec instanceof ObjectSpecificationAbstract) {
+                ((ObjectSpecificationAbstract) spec).invalidateFacetResolution();
+            }
             spec = spec.superclass();
         }
     }
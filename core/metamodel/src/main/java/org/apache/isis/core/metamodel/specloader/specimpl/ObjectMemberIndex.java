@@ -0,0 +1,146 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader.specimpl;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.facets.ImperativeFacet;
+import org.apache.isis.core.metamodel.spec.ActionType;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.isis.core.metamodel.spec.feature.ObjectMember;
+
+import lombok.val;
+
+/**
+ * Immutable lookup tables for the members of an {@link ObjectSpecificationAbstract}, including any mixed-in members;
+ * built once all members are known, and replaced as a whole if any member changes.
+ *
+ * @since 2.0
+ */
+final class ObjectMemberIndex {
+
+    private final Can<ObjectAssociation> associations;
+    private final Map<String, ObjectAssociation> associationsById;
+
+    private final Map<ActionType, Can<ObjectAction>> actionsByType;
+    private final Map<ActionType, Map<String, ObjectAction>> actionsByTypeAndId;
+    private final Map<String, ObjectAction> actionsById;
+
+    private final Map<Method, ObjectMember> membersByMethod;
+
+    ObjectMemberIndex(
+            final List<ObjectAssociation> associations,
+            final Map<ActionType, List<ObjectAction>> actionsByType) {
+
+        this.associations = Can.ofCollection(associations);
+        this.associationsById = new HashMap<>();
+        for (val association : associations) {
+            associationsById.putIfAbsent(association.getId(), association);
+        }
+
+        this.actionsByType = new EnumMap<>(ActionType.class);
+        this.actionsByTypeAndId = new EnumMap<>(ActionType.class);
+        this.actionsById = new HashMap<>();
+        for (val actionType : ActionType.values()) {
+            val actionsOfType = actionsByType.getOrDefault(actionType, Collections.emptyList());
+            val actionsOfTypeById = new HashMap<String, ObjectAction>();
+            for (val action : actionsOfType) {
+                putById(actionsOfTypeById, action);
+                putById(actionsById, action);
+            }
+            this.actionsByType.put(actionType, Can.ofCollection(actionsOfType));
+            this.actionsByTypeAndId.put(actionType, actionsOfTypeById);
+        }
+
+        // as before, mixed-in properties and collections are not included
+        this.membersByMethod = new HashMap<>();
+        this.associations.stream()
+        .filter(ContributeeMember.Predicates.regular())
+        .forEach(association->forEachImperativeMethod(association, membersByMethod::put));
+        this.actionsByType.values()
+        .forEach(actions->actions
+                .forEach(action->forEachImperativeMethod(action, membersByMethod::put)));
+    }
+
+    Can<ObjectAssociation> getAssociations() {
+        return associations;
+    }
+
+    Optional<ObjectAssociation> getAssociation(final @Nullable String id) {
+        return Optional.ofNullable(id!=null ? associationsById.get(id) : null);
+    }
+
+    Can<ObjectAction> getActions(final ActionType type) {
+        return actionsByType.get(type);
+    }
+
+    /**
+     * @param id - either {@link Identifier#toNameParmsIdentityString()} or {@link Identifier#toNameIdentityString()}
+     */
+    Optional<ObjectAction> getAction(final @Nullable String id) {
+        return Optional.ofNullable(id!=null ? actionsById.get(id) : null);
+    }
+
+    /**
+     * @param id - either {@link Identifier#toNameParmsIdentityString()} or {@link Identifier#toNameIdentityString()}
+     */
+    Optional<ObjectAction> getAction(final ActionType type, final @Nullable String id) {
+        return Optional.ofNullable(id!=null ? actionsByTypeAndId.get(type).get(id) : null);
+    }
+
+    @Nullable
+    ObjectMember getMember(final Method method) {
+        return membersByMethod.get(method);
+    }
+
+    // -- HELPER
+
+    // first one wins, honoring member order
+    private static void putById(final Map<String, ObjectAction> actionsById, final ObjectAction action) {
+        final Identifier identifier = action.getIdentifier();
+        actionsById.putIfAbsent(identifier.toNameParmsIdentityString(), action);
+        actionsById.putIfAbsent(identifier.toNameIdentityString(), action);
+    }
+
+    private static void forEachImperativeMethod(
+            final ObjectMember member,
+            final BiConsumer<Method, ObjectMember> onMethod) {
+        member.streamFacets()
+        .filter(ImperativeFacet.PREDICATE)
+        .map(ImperativeFacet.Util::getImperativeFacet)
+        .forEach(imperativeFacet->{
+            for (final Method imperativeFacetMethod : imperativeFacet.getMethods()) {
+                onMethod.accept(imperativeFacetMethod, member);
+            }
+        });
+    }
+
+}
@@ -23,25 +23,26 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 import java.util.stream.Stream;
 
-import javax.enterprise.inject.Vetoed;
+import javax.annotation.Nullable;
 
 import org.apache.isis.applib.Identifier;
 import org.apache.isis.applib.services.metamodel.BeanSort;
+import org.apache.isis.commons.internal.base._Casts;
 import org.apache.isis.commons.internal.base._Lazy;
-import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.commons.internal.collections._Multimaps;
 import org.apache.isis.commons.internal.collections._Multimaps.ListMultimap;
 import org.apache.isis.commons.internal.collections._Sets;
-import org.apache.isis.commons.internal.collections._Streams;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.core.metamodel.commons.ClassExtensions;
 import org.apache.isis.core.metamodel.consent.Consent;
@@ -69,7 +70,6 @@
 import org.apache.isis.core.metamodel.interactions.InteractionUtils;
 import org.apache.isis.core.metamodel.interactions.ObjectTitleContext;
 import org.apache.isis.core.metamodel.interactions.ObjectValidityContext;
-import org.apache.isis.core.metamodel.registry.IsisBeanTypeRegistry;
 import org.apache.isis.core.metamodel.spec.ActionType;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ObjectSpecId;
@@ -163,6 +163,13 @@ public Collection<ObjectSpecification> toCollection() {
     // partitions and caches objectActions by type; updated in sortCacheAndUpdateActions()
     private final ListMultimap<ActionType, ObjectAction> objectActionsByType = 
             _Multimaps.newConcurrentListMultimap();
+
+    // -- MEMBER INDEX
+
+    // published once members (including mixed-in ones) are known; discarded whenever members change
+    private volatile ObjectMemberIndex memberIndex;
+    private final Object $memberIndexLock = new Object();
+    private int membersVersion; // guarded by $memberIndexLock
     
     // -- INTERFACES
 
@@ -331,6 +338,7 @@ protected void loadSpecOfSuperclass(final Class<?> superclass) {
             return;
         }
         superclassSpec = getSpecificationLoader().loadSpecification(superclass);
+        invalidateFacetResolution();
         if (superclassSpec != null) {
             if (log.isDebugEnabled()) {
                 log.debug("  Superclass {}", superclass.getName());
@@ -345,6 +353,7 @@ protected void updateInterfaces(final List<ObjectSpecification> interfaces) {
             this.interfaces.addAll(interfaces);
             unmodifiableInterfaces.clear();
         }
+        invalidateFacetResolution();
     }
 
     private void updateAsSubclassTo(final ObjectSpecification supertypeSpec) {
@@ -374,6 +383,7 @@ protected void sortAndUpdateAssociations(final List<ObjectAssociation> associati
             this.associations.addAll(orderedAssociations);
             unmodifiableAssociations.clear(); // invalidate
         }
+        invalidateMemberIndex();
     }
 
     protected void sortCacheAndUpdateActions(final List<ObjectAction> objectActions) {
@@ -391,6 +401,7 @@ protected void sortCacheAndUpdateActions(final List<ObjectAction> objectActions)
                 .forEach(objectActionForType::add);
             }
         }
+        invalidateMemberIndex();
     }
 
 
@@ -546,52 +557,105 @@ public String getHelp() {
 
     // -- FACET HANDLING
 
+    /**
+     * Memoizes the effective facet per facet type (after searching up the type hierarchy), once members
+     * have been introspected; discarded whenever a facet is added to this or any supertype, or the
+     * type hierarchy changes.
+     */
+    private volatile Map<Class<?>, Object> facetResolutionTable;
+
+    // marks facet types that resolve to null
+    private static final Object NO_FACET = new Object();
+
     @Override
     public <Q extends Facet> Q getFacet(final Class<Q> facetType) {
 
-        synchronized(unmodifiableInterfaces) {
-        
-            // lookup facet holder's facet
-            val facets1 = _NullSafe.streamNullable(super.getFacet(facetType));
-    
-            // lookup all interfaces
-            val facets2 = _NullSafe.stream(interfaces())
-                    .filter(_NullSafe::isPresent) // just in case
-                    .map(interfaceSpec->interfaceSpec.getFacet(facetType));
-    
-            // search up the inheritance hierarchy
-            val facets3 = _NullSafe.streamNullable(superclass()) 
-                    .map(superSpec->superSpec.getFacet(facetType));
-    
-            val facetsCombined = _Streams.concat(facets1, facets2, facets3);
+        val facetResolutionTable = this.facetResolutionTable;
+        if(facetResolutionTable!=null) {
+            val resolved = facetResolutionTable.get(facetType);
+            if(resolved!=null) {
+                return resolved!=NO_FACET
+                        ? _Casts.uncheckedCast(resolved)
+                        : null;
+            }
+        }
 
-            val notANoopFacetFilter = new NotANoopFacetFilter<Q>();
-    
-            return facetsCombined
-                    .filter(notANoopFacetFilter)
-                    .findFirst()
-                    .orElse(notANoopFacetFilter.noopFacet);
-        
+        val facet = resolveFacet(facetType);
+
+        if(facetResolutionTable!=null) {
+            // if invalidated meanwhile, puts into the discarded table
+            facetResolutionTable.putIfAbsent(facetType, facet!=null ? facet : NO_FACET);
+        } else if(introspectionState == IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED) {
+            this.facetResolutionTable = new ConcurrentHashMap<>();
         }
+        return facet;
     }
 
-    @Vetoed
-    private static class NotANoopFacetFilter<Q extends Facet> implements Predicate<Q> {
-        Q noopFacet;
+    @Override
+    public void addFacet(final Facet facet) {
+        super.addFacet(facet);
+        invalidateFacetResolution();
+    }
 
-        @Override
-        public boolean test(Q facet) {
-            if(facet==null) {
-                return false;
+    /**
+     * Not API, discards memoized facet resolutions of this and all of its subtypes.
+     */
+    public void invalidateFacetResolution() {
+        if(facetResolutionTable!=null) {
+            facetResolutionTable = null;
+        }
+        for (val subclass : directSubclasses.toCollection()) {
+            if(subclass instanceof ObjectSpecificationAbstract) {
+                ((ObjectSpecificationAbstract) subclass).invalidateFacetResolution();
             }
+        }
+    }
+
+    /**
+     * Looks up this facet holder's facet, then that of all interfaces, then searches up the inheritance
+     * hierarchy; returns the first that is not a fallback, else the first fallback found.
+     */
+    private <Q extends Facet> Q resolveFacet(final Class<Q> facetType) {
+
+        Q fallback = null;
+
+        val facet = super.getFacet(facetType);
+        if(facet!=null) {
             if(!facet.isFallback()) {
-                return true;
+                return facet;
+            }
+            fallback = facet;
+        }
+
+        for (val interfaceSpec : interfaces()) {
+            if(interfaceSpec==null) {
+                continue; // just in case
             }
-            if(noopFacet == null) {
-                noopFacet = facet;
+            val interfaceFacet = interfaceSpec.getFacet(facetType);
+            if(interfaceFacet!=null) {
+                if(!interfaceFacet.isFallback()) {
+                    return interfaceFacet;
+                }
+                if(fallback==null) {
+                    fallback = interfaceFacet;
+                }
+            }
+        }
+
+        val superSpec = superclass();
+        if(superSpec!=null) {
+            val superFacet = superSpec.getFacet(facetType);
+            if(superFacet!=null) {
+                if(!superFacet.isFallback()) {
+                    return superFacet;
+                }
+                if(fallback==null) {
+                    fallback = superFacet;
+                }
             }
-            return false;
         }
+
+        return fallback;
     }
 
 
@@ -679,12 +743,12 @@ public final boolean isAbstract() {
 
     @Override
     public Stream<ObjectAssociation> streamAssociations(final Contributed contributed) {
-        introspectUpTo(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
-
         if(contributed.isIncluded()) {
-            createMixedInAssociations(); // only if not already
+            return memberIndex().getAssociations().stream();
         }
-        
+
+        introspectUpTo(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+
         synchronized(unmodifiableAssociations) {
             return stream(unmodifiableAssociations.get())
                     .filter(ContributeeMember.Predicates.regularElse(contributed));    
@@ -694,19 +758,29 @@ public Stream<ObjectAssociation> streamAssociations(final Contributed contribute
 
     @Override
     public Optional<? extends ObjectMember> getMember(final String memberId) {
-        introspectUpTo(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+        val memberIndex = memberIndex();
 
-        val objectAction = getObjectAction(memberId);
+        val objectAction = memberIndex.getAction(memberId);
         if(objectAction.isPresent()) {
             return objectAction;
         }
-        val association = getAssociation(memberId);
+        val association = memberIndex.getAssociation(memberId);
         if(association.isPresent()) {
             return association;
         }
         return Optional.empty();
     }
 
+    /**
+     * @param method
+     * @return ObjectMember associated with given {@code method}, or else {@code null}
+     * @apiNote not API; refactoring result type to Optional<ObjectMember> would be desired, 
+     * but did not work with JMock tests on first attempt
+     */
+    @Nullable
+    public ObjectMember getMember(final Method method) {
+        return memberIndex().getMember(method);
+    }
 
     /**
      * The association with the given {@link ObjectAssociation#getId() id}.
@@ -716,40 +790,85 @@ public Optional<? extends ObjectMember> getMember(final String memberId) {
      * simply returns <tt>null</tt>.
      *
      * <p>
-     * TODO put fields into hash.
-     *
-     * <p>
      * TODO: could this be made final? (ie does the framework ever call this
      * method for an {@link ObjectSpecificationOnContainer})
      */
     @Override
     public Optional<ObjectAssociation> getAssociation(final String id) {
-        introspectUpTo(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
-        return streamAssociations(Contributed.INCLUDED)
-                .filter(objectAssociation->objectAssociation.getId().equals(id))
-                .findFirst();
+        return memberIndex().getAssociation(id);
     }
 
     @Override
     public Stream<ObjectAction> streamObjectActions(final ActionType type, final Contributed contributed) {
-        introspectUpTo(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
-
         if(contributed.isIncluded()) {
-            createMixedInActions(); // only if not already
+            return memberIndex().getActions(type).stream();
         }
 
+        introspectUpTo(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+
         return stream(objectActionsByType.get(type))
                 .filter(ContributeeMember.Predicates.regularElse(contributed));
     }
 
+    @Override
+    public Optional<ObjectAction> getObjectAction(final ActionType type, final String id) {
+        return memberIndex().getAction(type, id);
+    }
+
+    @Override
+    public Optional<ObjectAction> getObjectAction(final String id) {
+        return memberIndex().getAction(id);
+    }
+
+    // -- member index
+
+    private ObjectMemberIndex memberIndex() {
+        val memberIndex = this.memberIndex;
+        if(memberIndex!=null) {
+            return memberIndex;
+        }
+
+        introspectUpTo(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+        createMixedInAssociations(); // only if not already
+        createMixedInActions(); // only if not already
+
+        final int version;
+        synchronized ($memberIndexLock) {
+            version = membersVersion;
+        }
+
+        val actionsByType = new EnumMap<ActionType, List<ObjectAction>>(ActionType.class);
+        for (val actionType : ActionType.values()) {
+            actionsByType.put(actionType, new ArrayList<>(objectActionsByType.getOrElseEmpty(actionType)));
+        }
+        val newMemberIndex = new ObjectMemberIndex(unmodifiableAssociations.get(), actionsByType);
+
+        // publish only once fully introspected, and unless members changed meanwhile
+        if(introspectionState == IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED) {
+            synchronized ($memberIndexLock) {
+                if(version == membersVersion) {
+                    this.memberIndex = newMemberIndex;
+                }
+            }
+        }
+        return newMemberIndex;
+    }
+
+    private void invalidateMemberIndex() {
+        synchronized ($memberIndexLock) {
+            ++membersVersion;
+            memberIndex = null;
+        }
+    }
+
     // -- mixin associations (properties and collections)
 
     private void createMixedInAssociations(final Consumer<ObjectAssociation> onNewMixedInAssociation) {
         if (isManagedBean() || isValue()) {
             return;
         }
-        val mixinTypes = getIsisBeanTypeRegistry().getMixinTypes();
-        if(_NullSafe.isEmpty(mixinTypes)) {
+        val mixinTypes = getSpecificationLoader().lookupMixinTypesFor(getCorrespondingClass());
+        if(mixinTypes.isEmpty()) {
             return;
         }
         for (val mixinType : mixinTypes) {
@@ -801,8 +920,8 @@ private void createMixedInActions(final Consumer<ObjectAction> onNewMixedInActio
         if (isManagedBean() || isValue() || isMixin()) {
             return;
         }
-        val mixinTypes = getIsisBeanTypeRegistry().getMixinTypes();
-        if(_NullSafe.isEmpty(mixinTypes)) {
+        val mixinTypes = getSpecificationLoader().lookupMixinTypesFor(getCorrespondingClass());
+        if(mixinTypes.isEmpty()) {
             return;
         }
         for (val mixinType : mixinTypes) {
@@ -952,10 +1071,5 @@ private void createMixedInAssociations() {
     protected SpecificationLoader getSpecificationLoader() {
         return getMetaModelContext().getSpecificationLoader();
     }
-    
-    protected IsisBeanTypeRegistry getIsisBeanTypeRegistry() {
-        return getMetaModelContext().getServiceRegistry()
-                .lookupServiceElseFail(IsisBeanTypeRegistry.class);
-    }
 
 }
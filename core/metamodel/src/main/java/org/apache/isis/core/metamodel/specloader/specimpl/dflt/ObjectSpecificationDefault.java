@@ -19,29 +19,20 @@
 
 package org.apache.isis.core.metamodel.specloader.specimpl.dflt;
 
-import java.lang.reflect.Method;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
-import javax.annotation.Nullable;
-
-import org.apache.isis.applib.Identifier;
 import org.apache.isis.applib.annotation.NatureOfService;
 import org.apache.isis.applib.services.metamodel.BeanSort;
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.base._Lazy;
 import org.apache.isis.commons.internal.collections._Lists;
-import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.core.metamodel.commons.StringExtensions;
 import org.apache.isis.core.metamodel.commons.ToString;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
-import org.apache.isis.core.metamodel.facetapi.Facet;
 import org.apache.isis.core.metamodel.facetapi.FacetHolder;
 import org.apache.isis.core.metamodel.facets.FacetedMethod;
-import org.apache.isis.core.metamodel.facets.ImperativeFacet;
 import org.apache.isis.core.metamodel.facets.actcoll.typeof.TypeOfFacet;
 import org.apache.isis.core.metamodel.facets.all.i18n.NamedFacetTranslated;
 import org.apache.isis.core.metamodel.facets.all.i18n.PluralFacetTranslated;
@@ -62,7 +53,6 @@
 import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
 import org.apache.isis.core.metamodel.spec.feature.ObjectActionParameter;
 import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
-import org.apache.isis.core.metamodel.spec.feature.ObjectMember;
 import org.apache.isis.core.metamodel.specloader.facetprocessor.FacetProcessor;
 import org.apache.isis.core.metamodel.specloader.postprocessor.PostProcessor;
 import org.apache.isis.core.metamodel.specloader.specimpl.FacetedMethodsBuilder;
@@ -85,11 +75,6 @@ private static String determineShortName(final Class<?> introspectedClass) {
 
     // -- constructor, fields
 
-    /**
-     * Lazily built by {@link #getMember(Method)}.
-     */
-    private Map<Method, ObjectMember> membersByMethod = null;
-
     private final FacetedMethodsBuilder facetedMethodsBuilder;
     private final ClassSubstitutorRegistry classSubstitutorRegistry;
 
@@ -295,24 +280,6 @@ public Optional<ObjectAction> getObjectAction(
         return firstAction(actions, id, parameters);
     }
 
-    @Override
-    public Optional<ObjectAction> getObjectAction(final ActionType type, final String id) {
-        introspectUpTo(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
-
-        final Stream<ObjectAction> actions =
-                streamObjectActions(type, Contributed.INCLUDED);
-        return firstAction(actions, id);
-    }
-
-    @Override
-    public Optional<ObjectAction> getObjectAction(final String id) {
-        introspectUpTo(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
-
-        final Stream<ObjectAction> actions =
-                streamObjectActions(ActionType.ALL, Contributed.INCLUDED);
-        return firstAction(actions, id);
-    }
-
     private static Optional<ObjectAction> firstAction(
             final Stream<ObjectAction> candidateActions,
             final String actionName,
@@ -343,78 +310,6 @@ private static  boolean isMatchingSignature(
         return true;
     }
 
-    private static Optional<ObjectAction> firstAction(
-            final Stream<ObjectAction> candidateActions,
-            final String id) {
-
-        if (id == null) {
-            return Optional.empty();
-        }
-
-        return candidateActions
-                .filter(action->{
-                    final Identifier identifier = action.getIdentifier();
-
-                    if (id.equals(identifier.toNameParmsIdentityString())) {
-                        return true;
-                    }
-                    if (id.equals(identifier.toNameIdentityString())) {
-                        return true;
-                    }
-                    return false;
-                })
-                .findFirst();
-    }
-
-    /**
-     * @param method
-     * @return ObjectMember associated with given {@code method}, or else {@code null}
-     * @apiNote not API; refactoring result type to Optional<ObjectMember> would be desired, 
-     * but did not work with JMock tests on first attempt
-     */
-    @Nullable
-    public ObjectMember getMember(final Method method) {
-        introspectUpTo(IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
-
-        if (membersByMethod == null) {
-            this.membersByMethod = catalogueMembers();
-        }
-        return membersByMethod.get(method);
-    }
-
-    private Map<Method, ObjectMember> catalogueMembers() {
-        val membersByMethod = _Maps.<Method, ObjectMember>newHashMap();
-        cataloguePropertiesAndCollections(membersByMethod::put);
-        catalogueActions(membersByMethod::put);
-        return membersByMethod;
-    }
-
-    private void cataloguePropertiesAndCollections(BiConsumer<Method, ObjectMember> onMember) {
-        streamAssociations(Contributed.EXCLUDED)
-        .forEach(field->{
-            final Stream<Facet> facets = field.streamFacets().filter(ImperativeFacet.PREDICATE);
-            facets.forEach(facet->{
-                final ImperativeFacet imperativeFacet = ImperativeFacet.Util.getImperativeFacet(facet);
-                for (final Method imperativeFacetMethod : imperativeFacet.getMethods()) {
-                    onMember.accept(imperativeFacetMethod, field);
-                }
-            });
-        });
-    }
-
-    private void catalogueActions(BiConsumer<Method, ObjectMember> onMember) {
-        streamObjectActions(Contributed.INCLUDED)
-        .forEach(userAction->{
-            final Stream<Facet> facets = userAction.streamFacets().filter(ImperativeFacet.PREDICATE);
-            facets.forEach(facet->{
-                final ImperativeFacet imperativeFacet = ImperativeFacet.Util.getImperativeFacet(facet);
-                for (final Method imperativeFacetMethod : imperativeFacet.getMethods()) {
-                    onMember.accept(imperativeFacetMethod, userAction);
-                }
-            });
-        });
-    }
-
     // -- toString
 
     @Override
@@ -20,10 +20,12 @@
 package org.apache.isis.core.metamodel.specloader.validator;
 
 import org.apache.isis.applib.Identifier;
+import org.apache.isis.commons.collections.Can;
 import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
 import org.apache.isis.core.metamodel.context.MetaModelContextAware;
 import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 
 import lombok.Getter;
 import lombok.NonNull;
@@ -32,6 +34,28 @@
 public abstract class MetaModelValidatorAbstract 
 implements MetaModelValidator, MetaModelContextAware {
 
+    /**
+     * Whether a validator needs to look at the metamodel as a whole, or can validate
+     * each {@link ObjectSpecification} independently of any other.
+     */
+    public static enum Scope {
+        /**
+         * Validates each spec independently via {@link MetaModelValidatorAbstract#validateSpec(ObjectSpecification)}, 
+         * or just collects failures reported while specs are introspected; 
+         * hence specs may be validated in parallel, and specs discovered after bootstrapping 
+         * can be validated incrementally.
+         */
+        PER_SPEC,
+        /**
+         * Validates the metamodel as a whole via {@link MetaModelValidatorAbstract#collectFailuresInto(ValidationFailures)},
+         * hence has to re-validate the entire metamodel whenever new specs are discovered.
+         */
+        GLOBAL;
+        public boolean isPerSpec() {
+            return this == PER_SPEC;
+        }
+    }
+
     protected final ValidationFailures failures = new ValidationFailures();
     
     @Getter @Setter(onMethod = @__(@Override))
@@ -46,6 +70,40 @@ public void collectFailuresInto(@NonNull ValidationFailures validationFailures)
         validationFailures.addAll(failures);
     }
 
+    /**
+     * Validates given {@code specs} only, if {@link Scope#PER_SPEC}, otherwise re-validates 
+     * the entire metamodel; then collects any {@link ValidationFailure} to given validationFailures.
+     *  
+     * @param validationFailures
+     * @param specs
+     */
+    public final void collectFailuresInto(
+            @NonNull ValidationFailures validationFailures, 
+            @NonNull Can<ObjectSpecification> specs) {
+        if(getScope().isPerSpec()) {
+            specs.forEach(this::validateSpec);
+            validationFailures.addAll(failures);
+        } else {
+            collectFailuresInto(validationFailures);
+        }
+    }
+
+    /**
+     * Validates given spec, independently of any other, reporting failures via 
+     * {@link #onFailure(FacetHolder, Identifier, String, Object...)}.
+     * Only called if {@link Scope#PER_SPEC}.
+     * <p>
+     * Does nothing by default, as most validators just collect failures reported 
+     * while specs are introspected.
+     * @param spec
+     */
+    public void validateSpec(@NonNull ObjectSpecification spec) {
+    }
+
+    public Scope getScope() {
+        return Scope.PER_SPEC;
+    }
+
     @Override
     public void onFailure(
             @NonNull FacetHolder facetHolder, 
@@ -89,24 +89,36 @@ public void collectFailuresInto(@NonNull ValidationFailures validationFailures)
         super.collectFailuresInto(validationFailures);
     }
 
-    private void validateAll() {
-
-        val specLoader = (SpecificationLoaderDefault)super.getMetaModelContext().getSpecificationLoader();
+    @Override
+    public void validateSpec(@NonNull ObjectSpecification spec) {
         
         val isActionExplicit = getConfiguration().getApplib().getAnnotation().getAction().isExplicit();
         
-        specLoader.forEach(spec->{
-            
-            if(!isActionExplicit
-                    && spec.getBeanSort().isUnknown()) {
-                    return; // in support of @Action not being forced, we need to relax 
-            }
-            
-            if(!includeIf.test(spec)) {
-                return;
-            }
-            visitor.visit(spec, this);
-        });
+        if(!isActionExplicit
+                && spec.getBeanSort().isUnknown()) {
+                return; // in support of @Action not being forced, we need to relax 
+        }
+        
+        if(!includeIf.test(spec)) {
+            return;
+        }
+        visitor.visit(spec, this);
+    }
+
+    /**
+     * {@link SummarizingVisitor}s need to have seen all specs before summarizing, 
+     * hence are {@link Scope#GLOBAL}. 
+     */
+    @Override
+    public Scope getScope() {
+        return visitor instanceof SummarizingVisitor
+                ? Scope.GLOBAL
+                : Scope.PER_SPEC;
+    }
+
+    private void validateAll() {
+        val specLoader = (SpecificationLoaderDefault)super.getMetaModelContext().getSpecificationLoader();
+        specLoader.forEach(this::validateSpec);
     }
 
     private void summarize() {
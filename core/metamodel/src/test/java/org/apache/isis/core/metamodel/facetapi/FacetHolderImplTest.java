@@ -0,0 +1,112 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.facetapi;
+
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.val;
+
+class FacetHolderImplTest {
+
+    interface FooFacet extends Facet {}
+    interface FooAliasFacet extends Facet {}
+    interface BarFacet extends Facet {}
+    interface BazFacet extends Facet {}
+
+    static class ConcreteFacet extends FacetAbstract {
+        ConcreteFacet(final Class<? extends Facet> facetType, final FacetHolder holder) {
+            super(facetType, holder, Derivation.NOT_DERIVED);
+        }
+    }
+
+    private FacetHolderImpl facetHolder;
+
+    @BeforeEach
+    void setUp() {
+        facetHolder = new FacetHolderImpl();
+    }
+
+    @Test
+    void empty() {
+        assertEquals(0, facetHolder.getFacetCount());
+        assertNull(facetHolder.getFacet(FooFacet.class));
+        assertFalse(facetHolder.containsFacet(FooFacet.class));
+    }
+
+    @Test
+    void lookup_byTypeAndAlias() {
+        val fooFacet = new ConcreteFacet(FooFacet.class, facetHolder);
+        fooFacet.setFacetAliasType(FooAliasFacet.class);
+        val barFacet = new ConcreteFacet(BarFacet.class, facetHolder);
+
+        facetHolder.addFacet(fooFacet);
+        facetHolder.addFacet(barFacet);
+
+        assertSame(fooFacet, facetHolder.getFacet(FooFacet.class));
+        assertSame(fooFacet, facetHolder.getFacet(FooAliasFacet.class));
+        assertSame(barFacet, facetHolder.getFacet(BarFacet.class));
+        assertFalse(facetHolder.containsFacet(BazFacet.class));
+
+        // aliases are not counted twice
+        assertEquals(2, facetHolder.getFacetCount());
+        assertEquals(2, facetHolder.streamFacets().count());
+    }
+
+    @Test
+    void lookup_ofContributedFacets() {
+        val fooFacet = new ConcreteFacet(FooFacet.class, facetHolder);
+        val bazFacet = new ConcreteFacet(BazFacet.class, facetHolder);
+        fooFacet.addContributedFacet(bazFacet);
+
+        facetHolder.addFacet(fooFacet);
+
+        assertSame(bazFacet, facetHolder.getFacet(BazFacet.class));
+        assertEquals(2, facetHolder.getFacetCount());
+    }
+
+    @Test
+    void addOrReplace_invalidatesLookup() {
+        val fooFacet = new ConcreteFacet(FooFacet.class, facetHolder);
+        facetHolder.addFacet(fooFacet);
+        assertSame(fooFacet, facetHolder.getFacet(FooFacet.class));
+
+        val replacement = new ConcreteFacet(FooFacet.class, facetHolder);
+        facetHolder.addOrReplaceFacet(replacement);
+        assertSame(replacement, facetHolder.getFacet(FooFacet.class));
+
+        val barFacet = new ConcreteFacet(BarFacet.class, facetHolder);
+        facetHolder.addFacet(barFacet);
+        assertTrue(facetHolder.containsFacet(BarFacet.class));
+
+        val facets = facetHolder.streamFacets().collect(Collectors.toSet());
+        assertEquals(2, facets.size());
+        assertTrue(facets.contains(replacement));
+        assertTrue(facets.contains(barFacet));
+    }
+
+}
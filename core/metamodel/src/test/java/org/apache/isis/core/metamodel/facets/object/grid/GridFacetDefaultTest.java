@@ -0,0 +1,111 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.facets.object.grid;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.layout.grid.Grid;
+import org.apache.isis.applib.services.grid.GridService;
+import org.apache.isis.core.metamodel.facets.object.layout.LayoutFacet;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+import lombok.val;
+
+class GridFacetDefaultTest {
+
+    static class Customer {}
+
+    private ObjectSpecification mockSpec;
+    private GridService mockGridService;
+    private ManagedObject mockPlainCustomer;
+    private ManagedObject mockVipCustomer;
+    private final AtomicLong layoutVersion = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        mockSpec = Mockito.mock(ObjectSpecification.class);
+        Mockito.doReturn(Customer.class).when(mockSpec).getCorrespondingClass();
+
+        mockPlainCustomer = Mockito.mock(ManagedObject.class);
+        mockVipCustomer = Mockito.mock(ManagedObject.class);
+
+        val mockLayoutFacet = Mockito.mock(LayoutFacet.class);
+        when(mockLayoutFacet.layout(mockPlainCustomer)).thenReturn(null);
+        when(mockLayoutFacet.layout(mockVipCustomer)).thenReturn("vip");
+        when(mockSpec.getFacet(LayoutFacet.class)).thenReturn(mockLayoutFacet);
+
+        mockGridService = Mockito.mock(GridService.class);
+        when(mockGridService.load(ArgumentMatchers.eq(Customer.class), ArgumentMatchers.any()))
+        .thenAnswer(__->Mockito.mock(Grid.class));
+        when(mockGridService.normalize(ArgumentMatchers.any()))
+        .thenAnswer(invocation->invocation.getArguments()[0]);
+    }
+
+    @Test
+    void alternateLayouts_areLoadedOnce_each() {
+        val gridFacet = GridFacetDefault.create(mockSpec, mockGridService, layoutVersion::get);
+
+        val plainGrid = gridFacet.getGrid(mockPlainCustomer);
+        val vipGrid = gridFacet.getGrid(mockVipCustomer);
+
+        assertSame(plainGrid, gridFacet.getGrid(mockPlainCustomer));
+        assertSame(vipGrid, gridFacet.getGrid(mockVipCustomer));
+
+        verify(mockGridService, times(1)).load(Customer.class, null);
+        verify(mockGridService, times(1)).load(Customer.class, "vip");
+    }
+
+    @Test
+    void whenReloading_layoutsAreOnlyReloaded_onceTheLayoutVersionChanges() {
+        when(mockGridService.supportsReloading()).thenReturn(true);
+        val gridFacet = GridFacetDefault.create(mockSpec, mockGridService, layoutVersion::get);
+
+        gridFacet.getGrid(mockVipCustomer);
+        gridFacet.getGrid(mockVipCustomer);
+        verify(mockGridService, times(1)).load(Customer.class, "vip");
+
+        layoutVersion.incrementAndGet();
+
+        gridFacet.getGrid(mockVipCustomer);
+        gridFacet.getGrid(mockVipCustomer);
+        verify(mockGridService, times(2)).load(Customer.class, "vip");
+    }
+
+    @Test
+    void whenReloading_withoutLayoutVersion_layoutsAreReloaded_everyTime() {
+        when(mockGridService.supportsReloading()).thenReturn(true);
+        val gridFacet = GridFacetDefault.create(mockSpec, mockGridService, null);
+
+        gridFacet.getGrid(mockVipCustomer);
+        gridFacet.getGrid(mockVipCustomer);
+        verify(mockGridService, times(2)).load(Customer.class, "vip");
+    }
+
+}
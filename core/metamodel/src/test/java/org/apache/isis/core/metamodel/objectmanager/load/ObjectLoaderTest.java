@@ -0,0 +1,90 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.objectmanager.load;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.services.inject.ServiceInjector;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.metamodel.context.MetaModelContext;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+import lombok.val;
+
+class ObjectLoaderTest {
+
+    private ObjectSpecification mockSpec;
+    private EntityFacet mockEntityFacet;
+    private ServiceInjector mockServiceInjector;
+    private ObjectLoader objectLoader;
+
+    @BeforeEach
+    void setUp() {
+        mockSpec = Mockito.mock(ObjectSpecification.class);
+        mockEntityFacet = Mockito.mock(EntityFacet.class);
+        when(mockSpec.isEntity()).thenReturn(true);
+        when(mockSpec.getFacet(EntityFacet.class)).thenReturn(mockEntityFacet);
+
+        mockServiceInjector = Mockito.mock(ServiceInjector.class);
+        val mockMetaModelContext = Mockito.mock(MetaModelContext.class);
+        when(mockMetaModelContext.getServiceInjector()).thenReturn(mockServiceInjector);
+
+        objectLoader = ObjectLoader.createDefault(mockMetaModelContext);
+    }
+
+    @Test
+    void entities_areFetchedAtOnce() {
+        val identifiers = Can.of("1", "2", "3");
+        val customer1 = entity("customer-1");
+        val notFound = entity(null);
+        val customer3 = entity("customer-3");
+        when(mockEntityFacet.fetchByIdentifiers(mockSpec, identifiers))
+        .thenReturn(Can.of(customer1, notFound, customer3));
+
+        val entities = objectLoader.loadObjects(ObjectLoader.BulkRequest.of(mockSpec, identifiers));
+
+        assertEquals(3, entities.size());
+        assertEquals("customer-1", entities.getElseFail(0).getPojo());
+        assertNull(entities.getElseFail(1).getPojo());
+        assertEquals("customer-3", entities.getElseFail(2).getPojo());
+
+        verify(mockEntityFacet, times(1)).fetchByIdentifiers(mockSpec, identifiers);
+        verify(mockEntityFacet, never()).fetchByIdentifier(ArgumentMatchers.any(), ArgumentMatchers.any());
+        verify(mockServiceInjector, times(2)).injectServicesInto(ArgumentMatchers.any());
+    }
+
+    private static ManagedObject entity(Object pojo) {
+        val mockEntity = Mockito.mock(ManagedObject.class);
+        when(mockEntity.getPojo()).thenReturn(pojo);
+        return mockEntity;
+    }
+
+}
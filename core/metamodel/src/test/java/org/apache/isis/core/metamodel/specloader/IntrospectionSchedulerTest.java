@@ -0,0 +1,112 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.specloader.specimpl.IntrospectionState;
+
+import lombok.val;
+
+class IntrospectionSchedulerTest {
+
+    interface Named {}
+    static class Party implements Named {}
+    static class Customer extends Party {}
+    static class VipCustomer extends Customer {}
+    static class Order {}
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void supertypes_introspectedBeforeSubtypes(int parallelism) {
+
+        final List<Class<?>> introspected = _Lists.newConcurrentList();
+
+        // deliberately listed subtypes first
+        val specs = Can.<ObjectSpecification>of(
+                specFor(VipCustomer.class, introspected),
+                specFor(Order.class, introspected),
+                specFor(Customer.class, introspected),
+                specFor(Named.class, introspected),
+                specFor(Party.class, introspected));
+
+        try(val scheduler = new IntrospectionScheduler(parallelism)) {
+            scheduler.introspect("test", specs, IntrospectionState.TYPE_INTROSPECTED);
+
+            assertEquals(5, introspected.size());
+            assertEquals(1, scheduler.getPhaseTimings().size());
+            assertEquals(5, scheduler.getPhaseTimings().getFirstOrFail().getSpecCount());
+        }
+
+        if(parallelism>1) {
+            assertTrue(introspected.indexOf(Named.class) < introspected.indexOf(Party.class));
+            assertTrue(introspected.indexOf(Party.class) < introspected.indexOf(Customer.class));
+            assertTrue(introspected.indexOf(Customer.class) < introspected.indexOf(VipCustomer.class));
+        }
+    }
+
+    @Test
+    void failure_isPropagated() {
+        val spec = mock(ObjectSpecification.class);
+        when(spec.getCorrespondingClass()).thenAnswer(__->Order.class);
+        doAnswer(__->{ throw new IllegalStateException("boom"); })
+        .when(spec).introspectUpTo(any());
+
+        try(val scheduler = new IntrospectionScheduler(4)) {
+            assertThrows(IllegalStateException.class, ()->
+                scheduler.introspect("test", Can.ofSingleton(spec), IntrospectionState.TYPE_INTROSPECTED));
+        }
+    }
+
+    @Test
+    void supertypesOf() {
+        val supertypes = IntrospectionScheduler.supertypesOf(VipCustomer.class);
+        assertTrue(supertypes.contains(Customer.class));
+        assertTrue(supertypes.contains(Party.class));
+        assertTrue(supertypes.contains(Named.class));
+        assertTrue(supertypes.contains(Object.class));
+    }
+
+    // -- HELPER
+
+    private static ObjectSpecification specFor(Class<?> cls, List<Class<?>> introspected) {
+        val spec = mock(ObjectSpecification.class);
+        when(spec.getCorrespondingClass()).thenAnswer(__->cls);
+        when(spec.getFullIdentifier()).thenReturn(cls.getName());
+        doAnswer(__->introspected.add(cls))
+        .when(spec).introspectUpTo(any());
+        return spec;
+    }
+
+}
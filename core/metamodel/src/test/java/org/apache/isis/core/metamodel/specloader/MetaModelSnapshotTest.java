@@ -0,0 +1,118 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.applib.services.metamodel.BeanSort;
+import org.apache.isis.commons.internal.collections._Maps;
+
+import lombok.val;
+
+class MetaModelSnapshotTest {
+
+    @TempDir File tempDir;
+
+    static class Customer {}
+    static class Order {}
+    static class Customer_placeOrder {}
+
+    @Test
+    void roundtrip_isEquivalent() throws Exception {
+        val file = new File(tempDir, "metamodel.snapshot");
+        val snapshot = snapshotOf("fp", Customer.class, Order.class);
+
+        snapshot.write(file);
+        val read = MetaModelSnapshot.read(file).orElse(null);
+
+        assertTrue(snapshot.isEquivalentTo(read));
+        assertEquals(2, read.size());
+        assertTrue(read.containsType(Customer.class));
+    }
+
+    @Test
+    void whenFingerprintDiffers_notEquivalent() {
+        assertFalse(snapshotOf("fp1", Customer.class).isEquivalentTo(snapshotOf("fp2", Customer.class)));
+    }
+
+    @Test
+    void whenTypeAdded_reportedAsChanged() {
+        val before = snapshotOf("fp", Customer.class);
+        val after = snapshotOf("fp", Customer.class, Order.class);
+
+        assertFalse(after.isEquivalentTo(before));
+        assertEquals(Order.class.getName(), after.typesChangedComparedTo(before).getSingletonOrFail());
+    }
+
+    @Test
+    void whenTypeRemoved_notEquivalent() {
+        val before = snapshotOf("fp", Customer.class, Order.class);
+        val after = snapshotOf("fp", Customer.class);
+
+        assertFalse(after.isEquivalentTo(before));
+        assertTrue(after.typesChangedComparedTo(before).isEmpty());
+    }
+
+    @Test
+    void whenBeanSortChanged_reportedAsChanged() {
+        val before = MetaModelSnapshot.capture("fp", Stream.of(
+                _Maps.<Class<?>, BeanSort>entry(Customer_placeOrder.class, BeanSort.MIXIN)));
+        val after = MetaModelSnapshot.capture("fp", Stream.of(
+                _Maps.<Class<?>, BeanSort>entry(Customer_placeOrder.class, BeanSort.VIEW_MODEL)));
+
+        assertEquals(1, after.typesChangedComparedTo(before).size());
+    }
+
+    @Test
+    void whenCorrupted_readIsEmpty() throws Exception {
+        val file = new File(tempDir, "metamodel.snapshot");
+        snapshotOf("fp", Customer.class, Order.class).write(file);
+
+        try(val raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(raf.length()-1);
+            val lastByte = raf.read();
+            raf.seek(raf.length()-1);
+            raf.write(lastByte ^ 0xff);
+        }
+
+        assertFalse(MetaModelSnapshot.read(file).isPresent());
+    }
+
+    @Test
+    void whenMissing_readIsEmpty() {
+        assertFalse(MetaModelSnapshot.read(new File(tempDir, "missing.snapshot")).isPresent());
+    }
+
+    // -- HELPER
+
+    private static MetaModelSnapshot snapshotOf(String fingerprint, Class<?>... types) {
+        return MetaModelSnapshot.capture(fingerprint, Stream.of(types)
+                .map(type->_Maps.<Class<?>, BeanSort>entry(type, BeanSort.VIEW_MODEL)));
+    }
+
+}
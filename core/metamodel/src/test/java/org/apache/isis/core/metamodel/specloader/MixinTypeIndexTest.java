@@ -0,0 +1,188 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.base._Timing;
+import org.apache.isis.commons.internal.collections._Lists;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+class MixinTypeIndexTest {
+
+    interface Named {}
+    static class Party implements Named {}
+    static class Customer extends Party {}
+    static class Order {}
+
+    static class Named_title {}
+    static class Party_addresses {}
+    static class Customer_orders {}
+    static class Order_lines {}
+    static class Object_debug {}
+    static class NotAMixin {}
+
+    private final Map<Class<?>, Class<?>> mixedInTypes = new HashMap<>();
+    {
+        mixedInTypes.put(Named_title.class, Named.class);
+        mixedInTypes.put(Party_addresses.class, Party.class);
+        mixedInTypes.put(Customer_orders.class, Customer.class);
+        mixedInTypes.put(Order_lines.class, Order.class);
+        mixedInTypes.put(Object_debug.class, Object.class);
+    }
+
+    private final MixinTypeIndex index = new MixinTypeIndex(
+            _Lists.of(
+                    Object_debug.class,
+                    Customer_orders.class,
+                    NotAMixin.class,
+                    Order_lines.class,
+                    Party_addresses.class,
+                    Named_title.class),
+            mixinType->Optional.ofNullable(mixedInTypes.get(mixinType)));
+
+    @Test
+    void mixinsOfSupertypes_areIncluded_inRegistryOrder() {
+        assertEquals(
+                Can.ofArray(new Class<?>[] {
+                    Object_debug.class, Customer_orders.class, Party_addresses.class, Named_title.class}),
+                index.getMixinTypesFor(Customer.class));
+        assertEquals(
+                Can.ofArray(new Class<?>[] {
+                    Object_debug.class, Party_addresses.class, Named_title.class}),
+                index.getMixinTypesFor(Party.class));
+    }
+
+    @Test
+    void mixinsOfUnrelatedTypes_areExcluded() {
+        assertEquals(
+                Can.ofArray(new Class<?>[] {Object_debug.class, Order_lines.class}),
+                index.getMixinTypesFor(Order.class));
+    }
+
+    @Test
+    void interfaces_areMixedInto_byObjectMixins() {
+        assertEquals(
+                Can.ofArray(new Class<?>[] {Object_debug.class, Named_title.class}),
+                index.getMixinTypesFor(Named.class));
+    }
+
+    @Test
+    void primitivesAndNull_haveNoMixins() {
+        assertTrue(index.getMixinTypesFor(int.class).isEmpty());
+        assertTrue(index.getMixinTypesFor(null).isEmpty());
+    }
+
+    @Test
+    void mixinCount_includesNonResolvableMixins() {
+        assertEquals(6, index.getMixinCount());
+    }
+
+    // -- BENCHMARK
+
+    // the synthetic model's types are proxy classes over subsets of these
+    interface T0 {} interface T1 {} interface T2 {} interface T3 {}
+    interface T4 {} interface T5 {} interface T6 {} interface T7 {}
+    interface T8 {} interface T9 {} interface T10 {} interface T11 {}
+
+    private static final Class<?>[] TRAITS = {
+            T0.class, T1.class, T2.class, T3.class, T4.class, T5.class,
+            T6.class, T7.class, T8.class, T9.class, T10.class, T11.class};
+
+    static final int MIXIN_COUNT = 500;
+
+    @Test @Tag("LongRunning")
+    void largeModel_indexedLookup_shouldYieldSameMixinsAsFullScan() {
+
+        // ~1.6k domain types, each implementing 1 to 5 traits
+        val domainTypes = new ArrayList<Class<?>>();
+        // 500 mixins, each mixed into either a trait or a domain type
+        val mixinTypes = new ArrayList<Class<?>>();
+        for(int traitBits = 1; traitBits < (1<<TRAITS.length); ++traitBits) {
+            val traitCount = Integer.bitCount(traitBits);
+            if(traitCount <= 5) {
+                domainTypes.add(proxyClass(traitBits));
+            } else if(traitCount >= 7
+                    && mixinTypes.size() < MIXIN_COUNT) {
+                mixinTypes.add(proxyClass(traitBits));
+            }
+        }
+
+        val mixedInTypes = new HashMap<Class<?>, Class<?>>();
+        for(int i = 0; i < mixinTypes.size(); ++i) {
+            mixedInTypes.put(mixinTypes.get(i), i%4==0
+                    ? TRAITS[i % TRAITS.length]
+                    : domainTypes.get((i * 7) % domainTypes.size()));
+        }
+
+        val fullScan = new HashMap<Class<?>, List<Class<?>>>();
+        _Timing.runVerbose(log, String.format("full scan of %d mixins for %d types",
+                mixinTypes.size(), domainTypes.size()), ()->{
+            for(val domainType : domainTypes) {
+                fullScan.put(domainType, mixinTypes.stream()
+                        .filter(mixinType->mixedInTypes.get(mixinType).isAssignableFrom(domainType))
+                        .collect(Collectors.toList()));
+            }
+        });
+
+        val indexed = new HashMap<Class<?>, List<Class<?>>>();
+        _Timing.runVerbose(log, String.format("indexed lookup of %d mixins for %d types",
+                mixinTypes.size(), domainTypes.size()), ()->{
+            val index = new MixinTypeIndex(mixinTypes,
+                    mixinType->Optional.ofNullable(mixedInTypes.get(mixinType)));
+            for(val domainType : domainTypes) {
+                indexed.put(domainType, index.getMixinTypesFor(domainType).toList());
+            }
+        });
+
+        assertEquals(fullScan, indexed);
+    }
+
+    // -- HELPER
+
+    @SuppressWarnings("deprecation")
+    private static Class<?> proxyClass(final int traitBits) {
+        val traits = new ArrayList<Class<?>>();
+        for(int i = 0; i < TRAITS.length; ++i) {
+            if((traitBits & (1<<i)) != 0) {
+                traits.add(TRAITS[i]);
+            }
+        }
+        return Proxy.getProxyClass(
+                MixinTypeIndexTest.class.getClassLoader(),
+                traits.toArray(new Class<?>[0]));
+    }
+
+}
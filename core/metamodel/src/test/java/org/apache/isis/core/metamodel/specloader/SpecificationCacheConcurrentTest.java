@@ -0,0 +1,126 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.commons.internal.collections._Sets;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+import lombok.val;
+
+class SpecificationCacheConcurrentTest {
+
+    static class Customer {}
+    static class Order {}
+
+    private SpecificationCache<ObjectSpecification> specificationCache;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        specificationCache = new SpecificationCacheConcurrent<>();
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void get_whenNotCached() {
+        assertFalse(specificationCache.lookup(Customer.class).isPresent());
+    }
+
+    @Test
+    void remove_whenCached() {
+        val customerSpec = specFor(Customer.class);
+        specificationCache.computeIfAbsent(Customer.class, __->customerSpec);
+        specificationCache.computeIfAbsent(Order.class, __->specFor(Order.class));
+
+        assertSame(customerSpec, specificationCache.remove(Customer.class));
+        assertFalse(specificationCache.lookup(Customer.class).isPresent());
+
+        val visited = new AtomicInteger();
+        specificationCache.forEach(__->visited.incrementAndGet(), false);
+        assertEquals(1, visited.get());
+    }
+
+    @Test
+    void computeIfAbsent_underContention_createsSpecOnlyOnce() throws Exception {
+        val created = new AtomicInteger();
+
+        final Callable<ObjectSpecification> task = ()->
+            specificationCache.computeIfAbsent(Customer.class, cls->{
+                created.incrementAndGet();
+                return specFor(cls);
+            });
+
+        final List<Future<ObjectSpecification>> futures = executor.invokeAll(
+                IntStream.range(0, 200).mapToObj(i->task).collect(Collectors.toList()));
+
+        val distinct = _Sets.<ObjectSpecification>newHashSet();
+        for(val future : futures) {
+            distinct.add(future.get());
+        }
+
+        assertEquals(1, created.get());
+        assertEquals(1, distinct.size());
+        assertEquals(1, specificationCache.snapshotSpecs().size());
+    }
+
+    @Test
+    void forEach_visitsEachSpecOnce() {
+        specificationCache.computeIfAbsent(Customer.class, this::specFor);
+        specificationCache.computeIfAbsent(Order.class, this::specFor);
+        specificationCache.computeIfAbsent(Order.class, this::specFor);
+
+        val visited = new AtomicInteger();
+        specificationCache.forEach(__->visited.incrementAndGet(), true);
+
+        assertEquals(2, visited.get());
+    }
+
+    // -- HELPER
+
+    private ObjectSpecification specFor(Class<?> cls) {
+        val spec = mock(ObjectSpecification.class);
+        when(spec.getCorrespondingClass()).thenAnswer(__->cls);
+        return spec;
+    }
+
+}
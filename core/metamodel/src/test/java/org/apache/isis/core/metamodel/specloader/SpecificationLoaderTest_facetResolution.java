@@ -0,0 +1,72 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.isis.core.metamodel.facetapi.Facet;
+import org.apache.isis.core.metamodel.facetapi.FacetAbstract;
+import org.apache.isis.core.metamodel.facetapi.FacetHolder;
+import org.apache.isis.core.metamodel.facets.all.named.NamedFacet;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.specloader.specimpl.IntrospectionState;
+
+import lombok.val;
+
+class SpecificationLoaderTest_facetResolution extends SpecificationLoaderTestAbstract {
+
+    static class Party {}
+    static class Customer extends Party {}
+
+    static interface MarkerFacet extends Facet {}
+
+    static class MarkerFacetImpl extends FacetAbstract implements MarkerFacet {
+        MarkerFacetImpl(final FacetHolder holder) {
+            super(MarkerFacet.class, holder);
+        }
+    }
+
+    @Override
+    protected ObjectSpecification loadSpecification(final SpecificationLoader reflector) {
+        return reflector.loadSpecification(Customer.class, IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+    }
+
+    @Test
+    public void memoized() throws Exception {
+        val namedFacet = specification.getFacet(NamedFacet.class);
+        assertSame(namedFacet, specification.getFacet(NamedFacet.class));
+        assertSame(namedFacet, specification.getFacet(NamedFacet.class));
+    }
+
+    @Test
+    public void invalidatedWhenFacetAddedToSupertype() throws Exception {
+        assertNull(specification.getFacet(MarkerFacet.class));
+        assertNull(specification.getFacet(MarkerFacet.class)); // memoized
+
+        val superSpec = specification.superclass();
+        val markerFacet = new MarkerFacetImpl(superSpec);
+        superSpec.addFacet(markerFacet);
+
+        assertSame(markerFacet, specification.getFacet(MarkerFacet.class));
+    }
+
+}
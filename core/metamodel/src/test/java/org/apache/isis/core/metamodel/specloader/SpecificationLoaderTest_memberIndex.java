@@ -0,0 +1,62 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.specloader.specimpl.IntrospectionState;
+import org.apache.isis.core.metamodel.specloader.specimpl.ObjectSpecificationAbstract;
+
+import lombok.val;
+
+class SpecificationLoaderTest_memberIndex extends SpecificationLoaderTestAbstract {
+
+    static class Customer {
+        private String name;
+        public String getName() { return name; }
+        public void setName(final String name) { this.name = name; }
+    }
+
+    @Override
+    protected ObjectSpecification loadSpecification(final SpecificationLoader reflector) {
+        return reflector.loadSpecification(Customer.class, IntrospectionState.TYPE_AND_MEMBERS_INTROSPECTED);
+    }
+
+    @Test
+    public void associationById() throws Exception {
+        val association = specification.getAssociationElseFail("name");
+        assertEquals("name", association.getId());
+        assertSame(association, specification.getMember("name").orElse(null));
+        assertFalse(specification.getAssociation("unknown").isPresent());
+        assertFalse(specification.getMember("unknown").isPresent());
+    }
+
+    @Test
+    public void memberByMethod() throws Exception {
+        val association = specification.getAssociationElseFail("name");
+        val getter = Customer.class.getMethod("getName");
+        assertSame(association, ((ObjectSpecificationAbstract)specification).getMember(getter));
+    }
+
+}
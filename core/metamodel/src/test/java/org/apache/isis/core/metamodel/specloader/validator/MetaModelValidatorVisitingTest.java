@@ -0,0 +1,98 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.metamodel.specloader.validator;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.applib.Identifier;
+import org.apache.isis.applib.services.metamodel.BeanSort;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.specloader.validator.MetaModelValidatorAbstract.Scope;
+
+import lombok.val;
+
+class MetaModelValidatorVisitingTest {
+
+    static class Customer {}
+    static class Order {}
+
+    @Test
+    void plainVisitor_isPerSpec() {
+        val validator = MetaModelValidatorVisiting.of((spec, __)->true);
+        assertEquals(Scope.PER_SPEC, validator.getScope());
+    }
+
+    @Test
+    void summarizingVisitor_isGlobal() {
+        val validator = MetaModelValidatorVisiting.of(new MetaModelValidatorVisiting.SummarizingVisitor() {
+            @Override public boolean visit(ObjectSpecification objectSpec, MetaModelValidator validator) {
+                return true;
+            }
+            @Override public void summarize(MetaModelValidator validator) {
+            }
+        });
+        assertEquals(Scope.GLOBAL, validator.getScope());
+    }
+
+    @Test
+    void incremental_visitsGivenSpecsOnly_andKeepsEarlierFailures() {
+
+        final List<ObjectSpecification> visited = _Lists.newArrayList();
+        val validator = MetaModelValidatorVisiting.of((spec, __)->{
+            visited.add(spec);
+            validatorOf(__).failures.add(Identifier.classIdentifier(spec.getCorrespondingClass()), "failed");
+            return true;
+        });
+        validator.setMetaModelContext(MetaModelContext_forTesting.buildDefault());
+
+        val customerSpec = specFor(Customer.class);
+        val orderSpec = specFor(Order.class);
+
+        val failures = new ValidationFailures();
+        validator.collectFailuresInto(failures, Can.ofSingleton(customerSpec));
+        assertEquals(1, failures.getNumberOfFailures());
+
+        validator.collectFailuresInto(failures, Can.ofSingleton(orderSpec));
+        assertEquals(_Lists.of(customerSpec, orderSpec), visited);
+        assertEquals(2, failures.getNumberOfFailures());
+    }
+
+    // -- HELPER
+
+    private static MetaModelValidatorAbstract validatorOf(MetaModelValidator validator) {
+        return (MetaModelValidatorAbstract) validator;
+    }
+
+    private static ObjectSpecification specFor(Class<?> cls) {
+        val spec = mock(ObjectSpecification.class);
+        when(spec.getCorrespondingClass()).thenAnswer(__->cls);
+        when(spec.getBeanSort()).thenReturn(BeanSort.VIEW_MODEL);
+        return spec;
+    }
+
+}
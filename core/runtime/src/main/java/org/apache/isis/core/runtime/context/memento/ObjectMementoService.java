@@ -18,6 +18,10 @@
  */
 package org.apache.isis.core.runtime.context.memento;
 
+import java.util.List;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.core.metamodel.adapter.oid.RootOid;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ObjectSpecId;
@@ -41,6 +45,17 @@ public interface ObjectMementoService {
 
     ManagedObject reconstructObject(ObjectMemento memento);
 
+    /**
+     * As {@link #reconstructObject(ObjectMemento)}, but for many mementos at once, in the order given,
+     * skipping those that cannot be reconstructed (eg. entities that no longer exist). 
+     * <p>
+     * By default these are reconstructed one by one.
+     */
+    default Can<ManagedObject> reconstructObjects(List<ObjectMemento> mementos) {
+        return Can.ofStream(_NullSafe.stream(mementos)
+                .map(this::reconstructObject));
+    }
+
     ObjectMemento mementoForParameter(@NonNull ManagedObject paramAdapter);
     
 
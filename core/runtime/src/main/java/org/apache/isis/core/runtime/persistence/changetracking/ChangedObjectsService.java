@@ -18,15 +18,21 @@
  */
 package org.apache.isis.core.runtime.persistence.changetracking;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.annotation.Order;
@@ -42,10 +48,13 @@
 import org.apache.isis.applib.services.iactn.InteractionContext;
 import org.apache.isis.applib.services.metrics.MetricsService;
 import org.apache.isis.commons.internal.base._Lazy;
+import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.collections._Sets;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.commons.internal.factory._InstanceUtil;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.config.IsisConfiguration.Core.RuntimeServices.EntityChangeTracker.AuditCapture;
 import org.apache.isis.core.metamodel.facets.object.callbacks.CallbackFacet;
 import org.apache.isis.core.metamodel.facets.object.callbacks.LifecycleEventFacet;
 import org.apache.isis.core.metamodel.facets.object.callbacks.LoadedCallbackFacet;
@@ -60,6 +69,7 @@
 import org.apache.isis.core.metamodel.facets.object.callbacks.UpdatedLifecycleEventFacet;
 import org.apache.isis.core.metamodel.facets.object.callbacks.UpdatingCallbackFacet;
 import org.apache.isis.core.metamodel.facets.object.callbacks.UpdatingLifecycleEventFacet;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ManagedObjects.EntityUtil;
 import org.apache.isis.core.metamodel.spec.feature.Contributed;
@@ -89,8 +99,10 @@ public class ChangedObjectsService
 
     // end::refguide[]
     
+    @Inject private IsisConfiguration isisConfiguration;
     @Inject private EventBusService eventBusService;
     @Inject private Provider<InteractionContext> interactionContextProvider;
+    @Autowired(required = false) private List<EntityChangeListener> entityChangeListeners;
     
     /**
      * Used for auditing: this contains the pre- values of every property of every object enlisted.
@@ -101,6 +113,14 @@ public class ChangedObjectsService
     // tag::refguide[]
     private final Map<AdapterAndProperty, PreAndPostValues> enlistedObjectProperties = _Maps.newLinkedHashMap();
 
+    /**
+     * Used for auditing, if {@link AuditCapture#CHANGED_PROPERTIES}: contains every updated object, for which the
+     * persistence layer tracks the properties that actually changed. 
+     * <p>
+     * Pre- and post- values of these are only captured when {@link #getChangedObjectProperties()} is called.
+     */
+    private final Set<ManagedObject> enlistedForChangedPropertiesOnly = _Sets.newLinkedHashSet();
+
     /**
      * Used for auditing; contains the pre- and post- values of every property of every object that actually changed.
      * <p>
@@ -113,6 +133,12 @@ public class ChangedObjectsService
     @Getter(onMethod_ = {@Override})
     private final Map<ManagedObject, PublishingChangeKind> changeKindByEnlistedAdapter = _Maps.newLinkedHashMap();
 
+    /**
+     * Used for notifying {@link EntityChangeListener}s once committed: the types of all entities enlisted 
+     * within the current transaction.
+     */
+    private final Set<Class<?>> changedEntityTypes = _Sets.newHashSet();
+
     @Override
     public boolean isEnlisted(final @NonNull ManagedObject adapter) {
         return changeKindByEnlistedAdapter.containsKey(adapter);
@@ -123,6 +149,7 @@ private void enlistCreatedInternal(final @NonNull ManagedObject adapter) {
             return;
         }
         enlistForPublishing(adapter, PublishingChangeKind.CREATE);
+        recordChangedEntityType(adapter);
         enlistForAuditing(adapter, aap->PreAndPostValues.pre(IsisTransactionPlaceholder.NEW));
     }
 
@@ -130,7 +157,19 @@ private void enlistUpdatingInternal(final @NonNull ManagedObject adapter) {
         if(shouldIgnore(adapter)) {
             return;
         }
+        val hasAlreadyBeenEnlisted = isEnlisted(adapter);
         enlistForPublishing(adapter, PublishingChangeKind.UPDATE);
+        recordChangedEntityType(adapter);
+        if(enlistedForChangedPropertiesOnly.contains(adapter)) {
+            return;
+        }
+        if(!hasAlreadyBeenEnlisted
+                && isTrackingChangedProperties(adapter)) {
+            assertNotYetCapturedForAuditing();
+            log.debug("enlist changed properties only for auditing {}", adapter);
+            enlistedForChangedPropertiesOnly.add(adapter);
+            return;
+        }
         enlistForAuditing(adapter, aap->PreAndPostValues.pre(aap.getPropertyValue()));
     }
 
@@ -142,7 +181,16 @@ private void enlistDeletingInternal(final @NonNull ManagedObject adapter) {
         if(!enlisted) {
             return;
         }
-        enlistForAuditing(adapter, aap->PreAndPostValues.pre(aap.getPropertyValue()));
+        recordChangedEntityType(adapter);
+
+        // properties already changed within this transaction are audited with their original values
+        final Map<String, Object> originalValues = enlistedForChangedPropertiesOnly.remove(adapter)
+                ? originalValuesOfChangedProperties(adapter).orElse(Collections.emptyMap())
+                : Collections.emptyMap();
+        enlistForAuditing(adapter, aap->PreAndPostValues.pre(
+                originalValues.containsKey(aap.getPropertyId())
+                    ? originalValues.get(aap.getPropertyId())
+                    : aap.getPropertyValue()));
     }
 
 
@@ -165,6 +213,15 @@ protected boolean shouldIgnore(final @NonNull ManagedObject adapter) {
 
     // end::refguide[]
 
+    /**
+     * @apiNote intended to be called at the start of a transaction by the framework internally
+     */
+    @Override
+    public void onTransactionStarted() {
+        // as left over by a transaction that was aborted
+        changedEntityTypes.clear();
+    }
+
     /**
      * @apiNote intended to be called at the end of a transaction by the framework internally
      */
@@ -172,9 +229,32 @@ protected boolean shouldIgnore(final @NonNull ManagedObject adapter) {
     public void onTransactionEnding() {
         log.debug("purging data");
         enlistedObjectProperties.clear();
+        enlistedForChangedPropertiesOnly.clear();
         changeKindByEnlistedAdapter.clear();
         changedObjectPropertiesRef.clear();
     }
+
+    /**
+     * Notifies the {@link EntityChangeListener}s of the types of all entities changed within the transaction, 
+     * only once its changes are visible to other transactions.
+     * 
+     * @apiNote intended to be called after a transaction has committed by the framework internally
+     */
+    @Override
+    public void onTransactionCommitted() {
+        changedEntityTypes.forEach(this::notifyEntityChangeListeners);
+        changedEntityTypes.clear();
+    }
+
+    /**
+     * Whether any entity of (a subtype of) any of given types has been created, updated or deleted within
+     * the current transaction, as tracked only if there are any {@link EntityChangeListener}s.
+     */
+    public boolean isAnyEntityTypeChanged(final @NonNull Collection<Class<?>> entityTypes) {
+        return changedEntityTypes.stream()
+                .anyMatch(changedType->entityTypes.stream()
+                        .anyMatch(type->type.isAssignableFrom(changedType)));
+    }
     
     @Override
     public void preparePublishing() {
@@ -227,14 +307,22 @@ private boolean enlistForPublishing(
         return previous == null;
     }
 
+    private void recordChangedEntityType(final ManagedObject adapter) {
+        if(_NullSafe.isEmpty(entityChangeListeners)) {
+            return;
+        }
+        changedEntityTypes.add(adapter.getSpecification().getCorrespondingClass());
+    }
+
+    private void notifyEntityChangeListeners(final Class<?> entityType) {
+        entityChangeListeners.forEach(listener->listener.onEntityTypeChanged(entityType));
+    }
+
     private void enlistForAuditing(
             final ManagedObject adapter, 
             final Function<AdapterAndProperty, PreAndPostValues> pre) {
 
-        if(changedObjectPropertiesRef.isMemoized()) {
-            throw _Exceptions.illegalState("Cannot enlist additional changes for auditing, "
-                    + "since changedObjectPropertiesRef was already prepared (memoized) for auditing.");
-        }
+        assertNotYetCapturedForAuditing();
 
         log.debug("enlist property changes for auditing {}", adapter);
 
@@ -249,24 +337,77 @@ private void enlistForAuditing(
         });
     }
 
+    private void assertNotYetCapturedForAuditing() {
+        if(changedObjectPropertiesRef.isMemoized()) {
+            throw _Exceptions.illegalState("Cannot enlist additional changes for auditing, "
+                    + "since changedObjectPropertiesRef was already prepared (memoized) for auditing.");
+        }
+    }
+
     /** 
      * For any enlisted Object Properties collects those, that are meant for auditing, 
      * then clears enlisted objects.
      */
     private Set<AuditEntry> capturePostValuesAndDrain() {
 
-        val postValues = enlistedObjectProperties.entrySet().stream()
-                .peek(this::updatePostOn) // set post values of audits, which have been left empty up to now
+        val postValues = Stream.concat(
+                enlistedObjectProperties.entrySet().stream()
+                    .peek(this::updatePostOn), // set post values of audits, which have been left empty up to now
+                enlistedForChangedPropertiesOnly.stream()
+                    .flatMap(this::streamChangedProperties))
                 .filter(PreAndPostValues::shouldAudit)
                 .map(entry->AuditEntry.of(entry.getKey(), entry.getValue()))
                 .collect(_Sets.toUnmodifiable());
 
         enlistedObjectProperties.clear();
+        enlistedForChangedPropertiesOnly.clear();
 
         return postValues;
 
     }
 
+    // -- CHANGED PROPERTIES ONLY
+
+    private boolean isTrackingChangedProperties(final ManagedObject adapter) {
+        val auditCapture = isisConfiguration.getCore().getRuntimeServices().getEntityChangeTracker().getAuditCapture();
+        if(auditCapture != AuditCapture.CHANGED_PROPERTIES) {
+            return false;
+        }
+        val entityFacet = adapter.getSpecification().getFacet(EntityFacet.class);
+        return entityFacet != null
+                && entityFacet.isTrackingChangedProperties(adapter.getPojo());
+    }
+
+    private static Optional<Map<String, Object>> originalValuesOfChangedProperties(final ManagedObject adapter) {
+        val entityFacet = adapter.getSpecification().getFacet(EntityFacet.class);
+        return entityFacet != null
+                ? entityFacet.getOriginalValuesOfChangedProperties(adapter.getPojo())
+                : Optional.empty();
+    }
+
+    /**
+     * Pre- and post- values of the persisted properties of given (updated) object, that actually changed.
+     */
+    private Stream<Map.Entry<AdapterAndProperty, PreAndPostValues>> streamChangedProperties(
+            final ManagedObject adapter) {
+
+        val spec = adapter.getSpecification();
+        return originalValuesOfChangedProperties(adapter)
+                .orElse(Collections.emptyMap())
+                .entrySet().stream()
+                .map(entry->spec.getAssociation(entry.getKey())
+                        .filter(ObjectAssociation.Predicates.PROPERTIES)
+                        .filter(property->!property.isNotPersisted())
+                        .map(property->{
+                            val aap = AdapterAndProperty.of(adapter, property);
+                            val preAndPostValues = PreAndPostValues.pre(entry.getValue());
+                            preAndPostValues.setPost(aap.getPropertyValue());
+                            return _Maps.entry(aap, preAndPostValues);
+                        })
+                        .orElse(null))
+                .filter(_NullSafe::isPresent);
+    }
+
     private final void updatePostOn(Map.Entry<AdapterAndProperty, PreAndPostValues> enlistedEntry) {
         val adapterAndProperty = enlistedEntry.getKey();
         val preAndPostValues = enlistedEntry.getValue();
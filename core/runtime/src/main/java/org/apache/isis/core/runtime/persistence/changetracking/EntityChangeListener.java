@@ -0,0 +1,38 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtime.persistence.changetracking;
+
+/**
+ * SPI for (singleton) services that need to be notified whenever entities of a given type change,
+ * eg. to invalidate cached state derived from those entities.
+ * <p>
+ * Notified by the {@link EntityChangeTracker} once for each changed type, after the transaction that
+ * created, updated or deleted those entities has committed successfully (hence, not at all if it is
+ * aborted).
+ *
+ * @since 2.0
+ */
+public interface EntityChangeListener {
+
+    /**
+     * @param entityType - the (concrete) type of the entity that was created, updated or deleted
+     */
+    void onEntityTypeChanged(Class<?> entityType);
+
+}
@@ -29,6 +29,7 @@
 import org.apache.isis.core.metamodel.services.command.CommandServiceInternal;
 import org.apache.isis.core.codegen.bytebuddy.IsisModuleCoreCodegenByteBuddy;
 import org.apache.isis.core.runtime.IsisModuleCoreRuntime;
+import org.apache.isis.core.runtimeservices.async.AsyncExecutionService;
 import org.apache.isis.core.runtimeservices.bookmarks.BookmarkServiceDefault;
 import org.apache.isis.core.runtimeservices.command.CommandDtoServiceInternalDefault;
 import org.apache.isis.core.runtimeservices.command.CommandExecutorServiceDefault;
@@ -45,8 +46,10 @@
 import org.apache.isis.core.runtimeservices.menubars.MenuBarsLoaderServiceDefault;
 import org.apache.isis.core.runtimeservices.menubars.bootstrap3.MenuBarsServiceBS3;
 import org.apache.isis.core.runtimeservices.message.MessageServiceDefault;
+import org.apache.isis.core.runtimeservices.publish.PublisherDispatchQueue;
 import org.apache.isis.core.runtimeservices.publish.PublisherDispatchServiceDefault;
 import org.apache.isis.core.runtimeservices.queryresultscache.QueryResultsCacheDefault;
+import org.apache.isis.core.runtimeservices.queryresultscache.QueryResultsCacheShared;
 import org.apache.isis.core.runtimeservices.repository.RepositoryServiceDefault;
 import org.apache.isis.core.runtimeservices.routing.RoutingServiceDefault;
 import org.apache.isis.core.runtimeservices.scratchpad.ScratchpadDefault;
@@ -68,6 +71,7 @@
         IsisModuleCoreCodegenByteBuddy.class,
 
         // @Service's
+        AsyncExecutionService.class,
         BookmarkServiceDefault.class,
         CommandDtoServiceInternalDefault.class,
         CommandExecutorServiceDefault.class,
@@ -86,8 +90,10 @@
         MenuBarsLoaderServiceDefault.class,
         MenuBarsServiceBS3.class,
         MessageServiceDefault.class,
+        PublisherDispatchQueue.class,
         PublisherDispatchServiceDefault.class,
         QueryResultsCacheDefault.class,
+        QueryResultsCacheShared.class,
         ScratchpadDefault.class,
         SudoServiceDefault.class,
         TransactionServiceSpring.class,
@@ -0,0 +1,290 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.async;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.config.IsisConfiguration.Core.RuntimeServices.AsyncExecution;
+import org.apache.isis.core.runtime.iactn.IsisInteractionFactory;
+import org.apache.isis.core.runtime.iactn.IsisInteractionTracker;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Application scoped, bounded thread pools for asynchronous execution, one per configured workload; used by
+ * the {@link org.apache.isis.applib.services.wrapper.WrapperFactory} for
+ * {@link org.apache.isis.applib.services.wrapper.control.AsyncControl}s that don't provide their own
+ * <code>ExecutorService</code>.
+ * <p>
+ * Once a pool's queue is full, submitters are blocked for up to the configured time, after which the task is
+ * rejected. Each pool keeps track of its queue depth, active threads and the latencies of its tasks.
+ *
+ * @since 2.0
+ */
+@Service
+@Named("isisRuntime.AsyncExecutionService")
+@Order(OrderPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class AsyncExecutionService {
+
+    @Value(staticConstructor = "of")
+    public static class Stats {
+        int poolSize;
+        int activeCount;
+        int queueDepth;
+        long completedCount;
+        long rejectedCount;
+        /** average time tasks waited in the queue, before being picked up by a thread */
+        Duration averageQueueLatency;
+        /** average time tasks took to execute */
+        Duration averageExecutionLatency;
+    }
+
+    @Inject IsisInteractionFactory isisInteractionFactory;
+    @Inject IsisInteractionTracker isisInteractionTracker;
+
+    private final Map<String, AsyncExecution.Pool> poolConfigs;
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+    @Inject
+    public AsyncExecutionService(final IsisConfiguration configuration) {
+        this(configuration.getCore().getRuntimeServices().getAsyncExecution());
+    }
+
+    AsyncExecutionService(final AsyncExecution config) {
+        this.poolConfigs = new LinkedHashMap<>(config.getPools());
+        this.poolConfigs.putIfAbsent(AsyncExecution.DEFAULT_WORKLOAD, new AsyncExecution.Pool());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pools.values().forEach(pool->pool.executor.shutdown());
+        for (val pool : pools.values()) {
+            try {
+                if(!pool.executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    log.warn("async workload '{}' did not terminate in time, {} task(s) still queued", 
+                            pool.workload, pool.executor.getQueue().size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * The (bounded) executor for given {@code workload}.
+     * <p>
+     * Tasks are run as submitted; in particular they need to open an interaction themselves, if required.
+     *
+     * @param workload - as configured; if <tt>null</tt> or empty, the default workload
+     * @throws IllegalArgumentException if no such workload is configured
+     */
+    public ExecutorService getExecutorService(final @Nullable String workload) {
+        return poolFor(workload).executor;
+    }
+
+    /**
+     * Submits given {@code task} to the executor for given {@code workload}, to be run within an interaction
+     * for the caller's current authentication (if any).
+     *
+     * @param workload - as configured; if <tt>null</tt> or empty, the default workload
+     * @throws IllegalArgumentException if no such workload is configured
+     * @throws RejectedExecutionException if the workload's queue stays full
+     */
+    public <R> Future<R> submit(final @Nullable String workload, final @NonNull Callable<R> task) {
+        val authenticationSession = isisInteractionTracker.currentAuthenticationSession().orElse(null);
+        if(authenticationSession == null) {
+            return getExecutorService(workload).submit(task);
+        }
+        return getExecutorService(workload).submit(()->
+            isisInteractionFactory.callAuthenticated(authenticationSession, task));
+    }
+
+    /**
+     * Stats of the workloads used so far, by name.
+     */
+    public Map<String, Stats> getStats() {
+        val stats = new LinkedHashMap<String, Stats>();
+        pools.forEach((workload, pool)->stats.put(workload, pool.getStats()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    // -- HELPER
+
+    private Pool poolFor(final @Nullable String workload) {
+        val workloadName = _Strings.isNullOrEmpty(workload)
+                ? AsyncExecution.DEFAULT_WORKLOAD
+                : workload;
+        return pools.computeIfAbsent(workloadName, this::createPool);
+    }
+
+    private Pool createPool(final String workload) {
+        val config = poolConfigs.get(workload);
+        if(config == null) {
+            throw _Exceptions.illegalArgument("no async workload '%s' configured, available are %s", 
+                    workload, poolConfigs.keySet());
+        }
+        return new Pool(workload, config);
+    }
+
+    private static class Pool {
+
+        final String workload;
+        final long maxWaitWhenFullNanos;
+        final PoolExecutor executor;
+
+        final LongAdder rejectedCount = new LongAdder();
+        final LongAdder queueLatencyNanos = new LongAdder();
+        final LongAdder executionLatencyNanos = new LongAdder();
+        final LongAdder timedCount = new LongAdder();
+
+        Pool(final String workload, final AsyncExecution.Pool config) {
+            this.workload = workload;
+            this.maxWaitWhenFullNanos = config.getMaxWaitWhenFull().toNanos();
+            val coreSize = Math.max(1, config.getCoreSize());
+            this.executor = new PoolExecutor(
+                    coreSize,
+                    Math.max(coreSize, config.getMaxSize()),
+                    config.getKeepAlive().toNanos(),
+                    Math.max(1, config.getQueueCapacity()));
+            log.info("async workload '{}': {}..{} thread(s), queue capacity {}", 
+                    workload, executor.getCorePoolSize(), executor.getMaximumPoolSize(), config.getQueueCapacity());
+        }
+
+        Stats getStats() {
+            val count = Math.max(1L, timedCount.sum());
+            return Stats.of(
+                    executor.getPoolSize(),
+                    executor.getActiveCount(),
+                    executor.getQueue().size(),
+                    executor.getCompletedTaskCount(),
+                    rejectedCount.sum(),
+                    Duration.ofNanos(queueLatencyNanos.sum() / count),
+                    Duration.ofNanos(executionLatencyNanos.sum() / count));
+        }
+
+        private class PoolExecutor extends ThreadPoolExecutor {
+
+            PoolExecutor(final int coreSize, final int maxSize, final long keepAliveNanos, final int queueCapacity) {
+                super(coreSize, maxSize, keepAliveNanos, TimeUnit.NANOSECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        new NamingThreadFactory("isis-async-" + workload + "-"),
+                        new BlockWhenFull());
+            }
+
+            @Override
+            public void execute(final Runnable command) {
+                super.execute(new TimedTask(command));
+            }
+        }
+
+        // measures the latencies of a task
+        @RequiredArgsConstructor
+        private class TimedTask implements Runnable {
+
+            final Runnable task;
+            final long submittedAtNanos = System.nanoTime();
+
+            @Override
+            public void run() {
+                val startedAtNanos = System.nanoTime();
+                try {
+                    task.run();
+                } finally {
+                    queueLatencyNanos.add(startedAtNanos - submittedAtNanos);
+                    executionLatencyNanos.add(System.nanoTime() - startedAtNanos);
+                    timedCount.increment();
+                }
+            }
+        }
+
+        // back-pressure: blocks the submitter while the queue is full, up to the configured time
+        private class BlockWhenFull implements RejectedExecutionHandler {
+
+            @Override
+            public void rejectedExecution(final Runnable task, final ThreadPoolExecutor executor) {
+                if(!executor.isShutdown()) {
+                    try {
+                        if(executor.getQueue().offer(task, maxWaitWhenFullNanos, TimeUnit.NANOSECONDS)) {
+                            return;
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                rejectedCount.increment();
+                throw new RejectedExecutionException(String.format(
+                        "async workload '%s' rejected task, %s", 
+                        workload, executor.isShutdown() ? "shut down" : "queue is full"));
+            }
+        }
+    }
+
+    private static class NamingThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        NamingThreadFactory(final String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            val thread = new Thread(runnable, prefix + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
@@ -42,8 +42,8 @@ class PoReader extends PoAbstract {
     public static final String DASH = "-";
     public static final String UNDERSCORE = "_";
 
-    private final Map<Locale, Map<ContextAndMsgId, String>> translationByKeyByLocale = _Maps.newHashMap();
-    private final Map<Locale, Boolean> usesFallbackByLocale = _Maps.newHashMap();
+    private final Map<Locale, PoTranslations> translationsByLocale = _Maps.newConcurrentHashMap();
+    private final Map<Locale, Boolean> usesFallbackByLocale = _Maps.newConcurrentHashMap();
 
     /**
      * The basename of the translations file, hard-coded to <tt>translations</tt>.
@@ -63,7 +63,7 @@ class PoReader extends PoAbstract {
     private final Can<TranslationsResolver> translationsResolver;
     private final Can<LocaleProvider> localeProvider;
 
-    private List<String> fallback;
+    private volatile List<String> fallback;
 
     public PoReader(final TranslationServicePo translationServicePo) {
         super(translationServicePo, TranslationService.Mode.READ);
@@ -83,13 +83,22 @@ public PoReader(final TranslationServicePo translationServicePo) {
      * Not API
      */
     void init() {
-        fallback = readUrl(basename + ".po");
+        final List<String> fallback = readUrl(basename + ".po");
         if(fallback == null) {
             log.info("No fallback translations found; i18n is in effect disabled for this application");
-            fallback = Collections.emptyList();
+            this.fallback = Collections.emptyList();
+        } else {
+            this.fallback = fallback;
         }
     }
 
+    /**
+     * Not API; reads the translations of given locales up front, rather than on first use.
+     */
+    void warmUp(final List<Locale> locales) {
+        locales.forEach(this::readAndCacheTranslationsIfRequired);
+    }
+
     @Override
     public String translate(final String context, final String msgId) {
         if(translationsResolver == null) {
@@ -116,7 +125,7 @@ String translate(final String context, final String msgId, final String msgIdPlu
     }
 
     void clearCache() {
-        translationByKeyByLocale.clear();
+        translationsByLocale.clear();
         usesFallbackByLocale.clear();
         init();
     }
@@ -139,67 +148,46 @@ private String translate(
         }
 
 
-        final Map<ContextAndMsgId, String> translationsByKey = readAndCacheTranslationsIfRequired(targetLocale);
+        final PoTranslations translations = readAndCacheTranslationsIfRequired(targetLocale);
 
-        // search for translation with a context
-        final ContextAndMsgId key = new ContextAndMsgId(context, msgId, type);
-        final String translation = lookupTranslation(translationsByKey, key);
-        if (!_Strings.isNullOrEmpty(translation)) {
+        // search for translation with a context, else without a context
+        final String translation = translations.lookup(context, msgId);
+        if (translation != null) {
             return translation;
         }
 
-        // else search for translation without a context
-        final ContextAndMsgId keyNoContext = new ContextAndMsgId("", msgId, type);
-        final String translationNoContext = lookupTranslation(translationsByKey, keyNoContext);
-        if (!_Strings.isNullOrEmpty(translationNoContext)) {
-            return translationNoContext;
-        }
-
         // to avoid chattiness in the log, we only log if there are ANY translations at all for the target locale.
         // the algorithm for searching for translations looks for:
         // 1. language_country
         // 2. language
         // 3. fallback
         // so this message is only ever displayed if the locale isn't using fallback (ie a translation is genuinely missing)
-        final Boolean usesFallback = usesFallbackByLocale.get(targetLocale);
-        if(usesFallback == null || !usesFallback) {
-            logInfoIfNotPreviously("No translation found for: " + key);
+        if(!translations.isUsesFallback()) {
+            logInfoIfNotPreviously("No translation found for: " + new ContextAndMsgId(context, msgId, type));
         }
 
         return msgId;
     }
 
-
-    private String lookupTranslation(final Map<ContextAndMsgId, String> translationsByKey, final ContextAndMsgId key) {
-        final String s = translationsByKey.get(key);
-        return s != null? s.trim(): null;
+    private PoTranslations readAndCacheTranslationsIfRequired(final Locale locale) {
+        // parsed at most once per locale, even if requested concurrently
+        return translationsByLocale.computeIfAbsent(locale, this::read);
     }
 
-    private Map<ContextAndMsgId, String> readAndCacheTranslationsIfRequired(final Locale locale) {
-        Map<ContextAndMsgId, String> translationsByKey = translationByKeyByLocale.get(locale);
-        if(translationsByKey != null) {
-            return translationsByKey;
-        }
-
-        translationsByKey = _Maps.newHashMap();
-        read(locale, translationsByKey);
-        translationByKeyByLocale.put(locale, translationsByKey);
-
-        return translationsByKey;
-    }
-
-
     /**
      * @param locale - the .po file to load
-     * @param translationsByKey - the translations to be populated
      */
-    private void read(final Locale locale, final Map<ContextAndMsgId, String> translationsByKey) {
+    private PoTranslations read(final Locale locale) {
         final List<String> contents = readPo(locale);
 
+        final Map<ContextAndMsgId, String> translationsByKey = _Maps.newHashMap();
         Block block = new Block();
         for (final String line : contents) {
             block = block.parseLine(line, translationsByKey);
         }
+        return new PoTranslations(
+                translationsByKey, 
+                Boolean.TRUE.equals(usesFallbackByLocale.get(locale)));
     }
 
     protected List<String> readPo(final Locale locale) {
@@ -0,0 +1,83 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.i18n.po;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.isis.commons.internal.base._Strings;
+
+import lombok.Getter;
+
+/**
+ * The translations of a single locale, as parsed from its <tt>.po</tt> file.
+ *
+ * <p>
+ *     Immutable once created, hence safe to be shared among concurrent requests. Translations are held
+ *     by context, then by <tt>msgId</tt>, so that these can be looked up without first having to create
+ *     a {@link ContextAndMsgId} key. As with {@link ContextAndMsgId}'s equality, the {@link ContextAndMsgId.Type type}
+ *     does not take part in the lookup.
+ * </p>
+ */
+final class PoTranslations {
+
+    private final Map<String, Map<String, String>> translationByMsgIdByContext;
+
+    /**
+     * Whether these were read from the fallback <tt>.po</tt> file, rather than from one specific to the locale.
+     */
+    @Getter private final boolean usesFallback;
+
+    PoTranslations(final Map<ContextAndMsgId, String> translationsByKey, final boolean usesFallback) {
+        final Map<String, Map<String, String>> translationByMsgIdByContext = new HashMap<>();
+        translationsByKey.forEach((key, translation)->{
+            final String trimmed = translation != null ? translation.trim() : null;
+            if(_Strings.isNullOrEmpty(trimmed)) {
+                return; // treated as missing when looked up
+            }
+            translationByMsgIdByContext
+            .computeIfAbsent(key.getContext(), __->new HashMap<>())
+            .put(key.getMsgId(), trimmed);
+        });
+        translationByMsgIdByContext.replaceAll((context, translationByMsgId)->
+                Collections.unmodifiableMap(translationByMsgId));
+        this.translationByMsgIdByContext = Collections.unmodifiableMap(translationByMsgIdByContext);
+        this.usesFallback = usesFallback;
+    }
+
+    /**
+     * Returns the translation of given <tt>msgId</tt> within given context, else the translation
+     * without any context, else <tt>null</tt>.
+     */
+    String lookup(final String context, final String msgId) {
+        final String translation = lookupWithin(context != null ? context : "", msgId);
+        return translation != null
+                ? translation
+                : lookupWithin("", msgId);
+    }
+
+    private String lookupWithin(final String context, final String msgId) {
+        final Map<String, String> translationByMsgId = translationByMsgIdByContext.get(context);
+        return translationByMsgId != null
+                ? translationByMsgId.get(msgId)
+                : null;
+    }
+
+}
@@ -65,7 +65,9 @@ public TranslationServicePo() {
     @PostConstruct
     public void init() {
 
-        final Mode translationMode = configuration.getCore().getRuntimeServices().getTranslation().getPo().getMode();
+        final IsisConfiguration.Core.RuntimeServices.Translation.Po poConfig = 
+                configuration.getCore().getRuntimeServices().getTranslation().getPo(); 
+        final Mode translationMode = poConfig.getMode();
 
         if(translationMode == Mode.DISABLED) {
             // switch to disabled mode
@@ -86,6 +88,7 @@ public void init() {
         // switch to read mode
         final PoReader poReader = new PoReader(this);
         poReader.init();
+        poReader.warmUp(poConfig.getWarmUpLocales());
         po = poReader;
 
         if(!systemEnvironment.isUnitTesting()) {
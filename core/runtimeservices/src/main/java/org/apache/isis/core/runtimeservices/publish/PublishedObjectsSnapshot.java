@@ -0,0 +1,69 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.publish;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import org.apache.isis.applib.services.RepresentsInteractionMemberExecution;
+import org.apache.isis.applib.services.publish.PublishedObjects;
+import org.apache.isis.applib.util.schema.ChangesDtoUtils;
+import org.apache.isis.schema.chg.v2.ChangesDto;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Immutable copy of {@link PublishedObjects}, with (a deep copy of) its {@link ChangesDto} computed eagerly on the
+ * calling thread, such that it no longer refers to any (interaction-scoped) managed objects and can be published
+ * on another thread.
+ *
+ * @since 2.0
+ */
+@Value
+public class PublishedObjectsSnapshot implements PublishedObjects, RepresentsInteractionMemberExecution {
+
+    UUID uniqueId;
+    int sequence;
+    String username;
+    Timestamp completedAt;
+    int numberLoaded;
+    int numberCreated;
+    int numberUpdated;
+    int numberDeleted;
+    int numberPropertiesModified;
+    ChangesDto dto;
+
+    public static PublishedObjectsSnapshot of(final @NonNull PublishedObjectsDefault publishedObjects) {
+        return new PublishedObjectsSnapshot(
+                publishedObjects.getUniqueId(),
+                publishedObjects.getSequence(),
+                publishedObjects.getUsername(),
+                publishedObjects.getCompletedAt() != null 
+                    ? (Timestamp) publishedObjects.getCompletedAt().clone() 
+                    : null,
+                publishedObjects.getNumberLoaded(),
+                publishedObjects.getNumberCreated(),
+                publishedObjects.getNumberUpdated(),
+                publishedObjects.getNumberDeleted(),
+                publishedObjects.getNumberPropertiesModified(),
+                ChangesDtoUtils.clone(publishedObjects.getDto()));
+    }
+
+}
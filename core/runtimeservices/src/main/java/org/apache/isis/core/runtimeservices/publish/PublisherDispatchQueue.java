@@ -0,0 +1,259 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.publish;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.applib.services.iactn.Interaction;
+import org.apache.isis.applib.services.publish.PublishedObjects;
+import org.apache.isis.applib.services.publish.PublisherService;
+import org.apache.isis.commons.internal.base._NullSafe;
+import org.apache.isis.core.config.IsisConfiguration;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Application scoped queue between the {@link PublisherDispatchServiceDefault} and the {@link PublisherService}s,
+ * used if asynchronous publishing is enabled.
+ * <p>
+ * Each worker thread owns a bounded queue, from which it takes the published payloads in batches, delivering
+ * them to each of the {@link PublisherService}s in turn. Payloads of the same interaction are always routed to
+ * the same worker, hence are delivered in the order they were enqueued.
+ * <p>
+ * The payloads must be snapshots, not referring to any interaction-scoped state; also the publishers are
+ * called outside of any interaction.
+ *
+ * @since 2.0
+ */
+@Service
+@Named("isisRuntime.PublisherDispatchQueue")
+@Order(OrderPrecedence.EARLY)
+@Qualifier("Default")
+@Log4j2
+public class PublisherDispatchQueue {
+
+    @Value(staticConstructor = "of")
+    public static class Stats {
+        long enqueuedCount;
+        long deliveredCount;
+        long droppedCount;
+        long failedCount;
+        int queueDepth;
+    }
+
+    @RequiredArgsConstructor
+    private static class Publication {
+        final UUID interactionId;
+        final Consumer<PublisherService> publish;
+    }
+
+    @Autowired(required = false)
+    List<PublisherService> publisherServices;
+
+    private final boolean enabled;
+    private final int numberOfWorkers;
+    private final int queueCapacity;
+    private final int maxBatchSize;
+    private final long maxWaitWhenFullNanos;
+
+    private final List<Worker> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    private final LongAdder enqueuedCount = new LongAdder();
+    private final LongAdder deliveredCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    @Inject
+    public PublisherDispatchQueue(final IsisConfiguration configuration) {
+        this(configuration.getCore().getRuntimeServices().getPublisherDispatchService().getAsync());
+    }
+
+    PublisherDispatchQueue(final IsisConfiguration.Core.RuntimeServices.PublisherDispatchService.Async config) {
+        this.enabled = config.isEnabled();
+        this.numberOfWorkers = Math.max(1, config.getWorkers());
+        this.queueCapacity = Math.max(1, config.getQueueCapacity());
+        this.maxBatchSize = Math.max(1, config.getMaxBatchSize());
+        this.maxWaitWhenFullNanos = config.getMaxWaitWhenFull().toNanos();
+    }
+
+    @PostConstruct
+    public void init() {
+        if(!isEnabled()) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < numberOfWorkers; i++) {
+            val worker = new Worker(i);
+            workers.add(worker);
+            worker.thread.start();
+        }
+        log.info("publishing asynchronously, using {} worker(s)", numberOfWorkers);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        for (val worker : workers) {
+            try {
+                worker.thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Whether asynchronous publishing is enabled and there are any {@link PublisherService}s to publish to.
+     */
+    public boolean isEnabled() {
+        return enabled
+                && !_NullSafe.isEmpty(publisherServices);
+    }
+
+    /**
+     * @param execution - a {@link Interaction.Execution#snapshot() snapshot} of the execution to publish, 
+     * detached from the interaction's live state
+     * @return whether enqueued, else dropped
+     */
+    public boolean enqueue(final @NonNull Interaction.Execution<?, ?> execution) {
+        return enqueue(new Publication(
+                execution.getInteraction().getUniqueId(),
+                publisherService->publisherService.publish(execution)));
+    }
+
+    /**
+     * @param publishedObjects - an immutable snapshot of the changed objects to publish
+     * @return whether enqueued, else dropped
+     */
+    public boolean enqueue(final @NonNull PublishedObjectsSnapshot publishedObjects) {
+        return enqueue(new Publication(
+                publishedObjects.getUniqueId(),
+                publisherService->publisherService.publish((PublishedObjects)publishedObjects)));
+    }
+
+    public Stats getStats() {
+        int queueDepth = 0;
+        for (val worker : workers) {
+            queueDepth += worker.queue.size();
+        }
+        return Stats.of(
+                enqueuedCount.sum(),
+                deliveredCount.sum(),
+                droppedCount.sum(),
+                failedCount.sum(),
+                queueDepth);
+    }
+
+    // -- HELPER
+
+    private boolean enqueue(final Publication publication) {
+        if(!running) {
+            droppedCount.increment();
+            log.warn("dropped publication of interaction {}, not running", publication.interactionId);
+            return false;
+        }
+        val worker = workers.get(Math.floorMod(Objects.hashCode(publication.interactionId), workers.size()));
+        try {
+            // back-pressure: blocks the interaction while the worker's queue is full, up to the configured time
+            if(worker.queue.offer(publication, maxWaitWhenFullNanos, TimeUnit.NANOSECONDS)) {
+                enqueuedCount.increment();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        droppedCount.increment();
+        log.warn("dropped publication of interaction {}, queue of worker {} is full",
+                publication.interactionId, worker.thread.getName());
+        return false;
+    }
+
+    private class Worker implements Runnable {
+
+        final BlockingQueue<Publication> queue = new ArrayBlockingQueue<>(queueCapacity);
+        final Thread thread;
+
+        Worker(final int index) {
+            this.thread = new Thread(this, "isis-publisher-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            val batch = new ArrayList<Publication>(maxBatchSize);
+            while(running || !queue.isEmpty()) {
+                try {
+                    val first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if(first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, maxBatchSize - 1);
+                    deliver(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        private void deliver(final List<Publication> batch) {
+            for (val publisherService : publisherServices) {
+                for (val publication : batch) {
+                    try {
+                        publication.publish.accept(publisherService);
+                        deliveredCount.increment();
+                    } catch (Exception e) {
+                        failedCount.increment();
+                        log.error("failed to publish interaction {} to {}",
+                                publication.interactionId, publisherService.getClass().getName(), e);
+                    }
+                }
+            }
+        }
+    }
+
+}
@@ -41,7 +41,6 @@
 import org.apache.isis.applib.services.iactn.Interaction;
 import org.apache.isis.applib.services.iactn.InteractionContext;
 import org.apache.isis.applib.services.metrics.MetricsService;
-import org.apache.isis.applib.services.publish.PublishedObjects;
 import org.apache.isis.applib.services.publish.PublisherService;
 import org.apache.isis.applib.services.user.UserService;
 import org.apache.isis.commons.internal.collections._Maps;
@@ -55,6 +54,8 @@
 
 /**
  * Wrapper around {@link PublisherService}.  Is a no-op if there is no injected service.
+ * <p>
+ * If asynchronous publishing is enabled, hands over snapshots to the {@link PublisherDispatchQueue} instead.
  */
 @Service
 @Named("isisRuntimeServices.PublisherDispatchServiceDefault")
@@ -72,6 +73,7 @@ public class PublisherDispatchServiceDefault implements PublisherDispatchService
     @Inject final Provider<HasEnlistedForPublishing> changedObjectsProvider;
     @Inject final Provider<InteractionContext> interactionContextProvider;
     @Inject final Provider<MetricsService> metricsServiceProvider;
+    @Inject final PublisherDispatchQueue publisherDispatchQueue;
     
     @Override
     public void publishObjects() {
@@ -106,12 +108,16 @@ public void publishObjects() {
         if(publishedObjects == null) {
             return;
         }
+        if(publisherDispatchQueue.isEnabled()) {
+            publisherDispatchQueue.enqueue(PublishedObjectsSnapshot.of(publishedObjects));
+            return;
+        }
         for (val publisherService : publisherServices) {
             publisherService.publish(publishedObjects);
         }
     }
 
-    private PublishedObjects newPublishedObjects(
+    private PublishedObjectsDefault newPublishedObjects(
             final int numberLoaded,
             final int numberObjectPropertiesModified,
             final Map<ManagedObject, PublishingChangeKind> changeKindByPublishedAdapter) {
@@ -151,6 +157,10 @@ private void publishToPublisherServices(final Interaction.Execution<?,?> executi
         if(isSuppressed()) {
             return;
         }
+        if(publisherDispatchQueue.isEnabled()) {
+            publisherDispatchQueue.enqueue(execution.snapshot());
+            return;
+        }
         for (val publisherService : publisherServices) {
             publisherService.publish(execution);
         }
@@ -17,6 +17,7 @@
  *  under the License.
  */
 package org.apache.isis.core.runtimeservices.queryresultscache;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -37,6 +38,8 @@
 import org.apache.isis.commons.internal.base._Casts;
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+import org.apache.isis.core.runtime.persistence.changetracking.ChangedObjectsService;
 import org.apache.isis.applib.services.MethodReferences.Call0;
 import org.apache.isis.applib.services.MethodReferences.Call1;
 import org.apache.isis.applib.services.MethodReferences.Call2;
@@ -44,6 +47,7 @@
 import org.apache.isis.applib.services.MethodReferences.Call4;
 import org.apache.isis.applib.services.MethodReferences.Call5;
 
+import lombok.val;
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -141,6 +145,58 @@ public <T> T execute(
         return executeWithCaching(callable, cacheKey);
     }
 
+    @Override
+    public <T> T executeShared(
+            final Callable<T> callable,
+            final Collection<Class<?>> dependsOn,
+            final Class<?> callingClass,
+            final String methodName,
+            final Object... keys) {
+        if(sharedCache==null
+                || !sharedCache.isEnabled()
+                || objectManager==null) {
+            return execute(callable, callingClass, methodName, keys);
+        }
+        if(isIgnoreCache()) {
+            try {
+                return callable.call();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+        final Key cacheKey = new Key(callingClass, methodName, keys);
+        if(changedObjectsService!=null
+                && changedObjectsService.isAnyEntityTypeChanged(dependsOn)) {
+            // changes not yet committed are visible to the current transaction only, 
+            // hence shared results must neither be used nor be computed from these
+            return executeWithCaching(callable, cacheKey);
+        }
+        return executeWithCaching(()->executeSharing(callable, cacheKey, dependsOn), cacheKey);
+    }
+
+    private <T> T executeSharing(
+            final Callable<T> callable,
+            final Key cacheKey,
+            final Collection<Class<?>> dependsOn) throws Exception {
+
+        // entities are re-fetched within the current persistence session
+        val sharedResult = sharedCache.get(cacheKey)
+                .flatMap(shared->shared.restore(objectManager));
+        if(sharedResult.isPresent()) {
+            return _Casts.uncheckedCast(sharedResult.get());
+        }
+
+        final long epoch = sharedCache.getInvalidationEpoch();
+
+        // concurrent misses on the same key might compute the result more than once
+        final T result = callable.call();
+
+        SharedResult.of(objectManager, result)
+        .ifPresent(shared->sharedCache.put(cacheKey, shared, dependsOn, epoch));
+
+        return result;
+    }
+
     private <T> T executeWithCaching(final Callable<T> callable, final Key cacheKey) {
         try {
             final Value<?> cacheValue = cache.get(cacheKey);
@@ -201,6 +257,15 @@ public void destroy() throws Exception {
     @Autowired(required = false)
     protected List<QueryResultCacheControl> cacheControl;
 
+    @Autowired(required = false)
+    protected QueryResultsCacheShared sharedCache;
+
+    @Autowired(required = false)
+    protected ChangedObjectsService changedObjectsService;
+
+    @Autowired(required = false)
+    protected ObjectManager objectManager;
+
     private boolean isIgnoreCache() {
         return _NullSafe.stream(cacheControl)
                 .anyMatch(c->c.isIgnoreCache());
@@ -0,0 +1,225 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.queryresultscache;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.applib.services.queryresultscache.QueryResultsCache.Key;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.runtime.persistence.changetracking.EntityChangeListener;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Application scoped (second-level) tier of the {@link QueryResultsCacheDefault}, caching the results of
+ * {@link QueryResultsCacheDefault#executeShared(Callable, Collection, Class, String, Object...) executeShared(...)}
+ * calls across interactions.
+ * <p>
+ * Bounded in size, evicting the least recently used results first, and results expire after a configured
+ * time to live. Results are invalidated once a transaction has committed, that changed an entity of a type they 
+ * depend on (or of a subtype thereof).
+ * <p>
+ * Only values and references to entities are shared (see {@link SharedResult}), never the entity pojos
+ * themselves.
+ *
+ * @since 2.0
+ */
+@Service
+@Named("isisRuntime.QueryResultsCacheShared")
+@Order(OrderPrecedence.EARLY)
+@Qualifier("Default")
+@Log4j2
+public class QueryResultsCacheShared implements EntityChangeListener {
+
+    @Value(staticConstructor = "of")
+    public static class Stats {
+        long hitCount;
+        long missCount;
+        long evictionCount;
+        long invalidationCount;
+        int size;
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        final SharedResult result;
+        final Can<Class<?>> dependsOn;
+        final long expiresAtNanos;
+
+        boolean dependsOn(final Class<?> changedType) {
+            return dependsOn.stream()
+                    .anyMatch(type->type.isAssignableFrom(changedType));
+        }
+    }
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoTime;
+
+    // guarded by itself; access-ordered, hence iterates least recently used first
+    private final Map<Key, Entry> entries;
+
+    // incremented on every invalidation, to detect results computed from data that changed meanwhile
+    private long invalidationEpoch;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    @Inject
+    public QueryResultsCacheShared(final IsisConfiguration configuration) {
+        this(configuration.getCore().getRuntimeServices().getQueryResultsCache().getShared(), System::nanoTime);
+    }
+
+    QueryResultsCacheShared(
+            final IsisConfiguration.Core.RuntimeServices.QueryResultsCache.Shared config,
+            final LongSupplier nanoTime) {
+        this.enabled = config.isEnabled() && config.getMaxSize() > 0;
+        this.maxSize = config.getMaxSize();
+        this.timeToLiveNanos = config.getTimeToLive().toNanos();
+        this.nanoTime = nanoTime;
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+                if(size() <= maxSize) {
+                    return false;
+                }
+                evictionCount.increment();
+                return true;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the shared result for given {@code cacheKey}, if any that has not yet expired.
+     */
+    Optional<SharedResult> get(final @NonNull Key cacheKey) {
+        synchronized (entries) {
+            val entry = entries.get(cacheKey);
+            if(entry != null) {
+                if(nanoTime.getAsLong() - entry.expiresAtNanos < 0) {
+                    hitCount.increment();
+                    log.debug("SHARED HIT: {}", cacheKey);
+                    return Optional.of(entry.result);
+                }
+                entries.remove(cacheKey);
+                evictionCount.increment();
+            }
+        }
+        missCount.increment();
+        log.debug("SHARED MISS: {}", cacheKey);
+        return Optional.empty();
+    }
+
+    /**
+     * To be obtained before computing a result to be {@link #put(Key, SharedResult, Collection, long) put}.
+     */
+    long getInvalidationEpoch() {
+        synchronized (entries) {
+            return invalidationEpoch;
+        }
+    }
+
+    /**
+     * Shares given result, unless any invalidation happened since given {@code epoch}, as obtained by
+     * {@link #getInvalidationEpoch()} before the result was computed; the result then might have been
+     * computed from data that changed meanwhile.
+     */
+    void put(
+            final @NonNull Key cacheKey,
+            final @NonNull SharedResult result,
+            final @NonNull Collection<Class<?>> dependsOn,
+            final long epoch) {
+        val entry = new Entry(result, Can.ofCollection(dependsOn), nanoTime.getAsLong() + timeToLiveNanos);
+        synchronized (entries) {
+            if(epoch == invalidationEpoch) {
+                entries.put(cacheKey, entry);
+            }
+        }
+    }
+
+    @Override
+    public void onEntityTypeChanged(final @NonNull Class<?> entityType) {
+        if(!enabled) {
+            return;
+        }
+        int invalidated = 0;
+        synchronized (entries) {
+            ++invalidationEpoch;
+            val iterator = entries.values().iterator();
+            while(iterator.hasNext()) {
+                if(iterator.next().dependsOn(entityType)) {
+                    iterator.remove();
+                    ++invalidated;
+                }
+            }
+        }
+        if(invalidated > 0) {
+            invalidationCount.add(invalidated);
+            log.debug("invalidated {} shared results, as {} changed", invalidated, entityType.getName());
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            ++invalidationEpoch;
+            entries.clear();
+        }
+    }
+
+    public Stats getStats() {
+        final int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return Stats.of(
+                hitCount.sum(),
+                missCount.sum(),
+                evictionCount.sum(),
+                invalidationCount.sum(),
+                size);
+    }
+
+}
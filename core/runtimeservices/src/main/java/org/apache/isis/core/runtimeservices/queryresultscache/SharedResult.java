@@ -0,0 +1,153 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.queryresultscache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+import org.apache.isis.core.metamodel.objectmanager.load.ObjectLoader;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ManagedObjects.EntityUtil;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * Immutable form of a result as held by the {@link QueryResultsCacheShared}: either a value, a reference to
+ * an entity or a list thereof. Entity pojos themselves are never shared across interactions, instead they
+ * are re-fetched by identifier within the persistence session of the interaction asking for them.
+ *
+ * @since 2.0
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class SharedResult {
+
+    @Value(staticConstructor = "of")
+    static class EntityRef {
+        @NonNull ObjectSpecification spec;
+        @NonNull String identifier;
+    }
+
+    private final boolean list;
+
+    // each element is either a value or an EntityRef
+    private final List<Object> elements;
+
+    static SharedResult ofValue(final @NonNull Object value) {
+        return new SharedResult(false, Collections.singletonList(value));
+    }
+
+    /**
+     * @return empty, unless given result is a value, a persistent entity or a list thereof
+     */
+    static Optional<SharedResult> of(
+            final @NonNull ObjectManager objectManager,
+            final @Nullable Object result) {
+
+        if(result instanceof List) {
+            val elements = _Lists.<Object>newArrayList();
+            for(val pojo : (List<?>) result) {
+                val element = toElement(objectManager, pojo);
+                if(!element.isPresent()) {
+                    return Optional.empty();
+                }
+                elements.add(element.get());
+            }
+            return Optional.of(new SharedResult(true, Collections.unmodifiableList(elements)));
+        }
+        return toElement(objectManager, result)
+                .map(element->new SharedResult(false, Collections.singletonList(element)));
+    }
+
+    /**
+     * Re-fetches the referenced entities (if any) within the current persistence session, entities of the same
+     * type at once.
+     *
+     * @return empty, if any of the referenced entities can no longer be found
+     */
+    Optional<Object> restore(final @NonNull ObjectManager objectManager) {
+
+        val identifiersBySpec = elements.stream()
+                .filter(EntityRef.class::isInstance)
+                .map(EntityRef.class::cast)
+                .collect(Collectors.groupingBy(
+                        EntityRef::getSpec,
+                        LinkedHashMap::new,
+                        Collectors.mapping(EntityRef::getIdentifier, Collectors.toCollection(LinkedHashSet::new))));
+
+        val pojosByRef = _Maps.<EntityRef, Object>newHashMap();
+        for(val entry : identifiersBySpec.entrySet()) {
+            val spec = entry.getKey();
+            val identifiers = Can.ofCollection(entry.getValue());
+            val entities = objectManager.loadObjects(ObjectLoader.BulkRequest.of(spec, identifiers));
+            for(int i = 0; i < identifiers.size(); ++i) {
+                val pojo = entities.get(i).map(ManagedObject::getPojo).orElse(null);
+                if(pojo == null) {
+                    return Optional.empty();
+                }
+                pojosByRef.put(EntityRef.of(spec, identifiers.getElseFail(i)), pojo);
+            }
+        }
+
+        val restored = elements.stream()
+                .map(element->element instanceof EntityRef
+                        ? pojosByRef.get(element)
+                        : element)
+                .collect(Collectors.toList());
+
+        return Optional.of(list
+                ? restored
+                : restored.get(0));
+    }
+
+    // -- HELPER
+
+    private static Optional<Object> toElement(final ObjectManager objectManager, final @Nullable Object pojo) {
+        val spec = objectManager.loadSpecification(pojo);
+        if(spec == null) {
+            return Optional.empty();
+        }
+        if(spec.isValue()) {
+            return Optional.of(pojo);
+        }
+        if(spec.isEntity()) {
+            val adapter = ManagedObject.of(spec, pojo);
+            if(!EntityUtil.isAttached(adapter)) {
+                return Optional.empty();
+            }
+            return Optional.of(EntityRef.of(spec, objectManager.identifyObject(adapter).getIdentifier()));
+        }
+        return Optional.empty();
+    }
+
+}
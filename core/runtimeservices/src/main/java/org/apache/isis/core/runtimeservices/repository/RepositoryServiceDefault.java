@@ -24,6 +24,7 @@
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 import javax.annotation.PostConstruct;
@@ -38,7 +39,9 @@
 import org.apache.isis.applib.PersistFailedException;
 import org.apache.isis.applib.RepositoryException;
 import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.applib.query.Criteria;
 import org.apache.isis.applib.query.Query;
+import org.apache.isis.applib.query.QueryFindByCriteria;
 import org.apache.isis.applib.query.QueryFindAllInstances;
 import org.apache.isis.applib.services.factory.FactoryService;
 import org.apache.isis.applib.services.repository.EntityState;
@@ -46,7 +49,6 @@
 import org.apache.isis.applib.services.wrapper.WrapperFactory;
 import org.apache.isis.applib.services.xactn.TransactionService;
 import org.apache.isis.commons.internal.base._Casts;
-import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
 import org.apache.isis.core.metamodel.objectmanager.query.ObjectBulkLoader;
@@ -151,9 +153,23 @@ public <T> List<T> allMatches(Class<T> ofType, Predicate<? super T> predicate) {
 
     @Override
     public <T> List<T> allMatches(Class<T> ofType, final Predicate<? super T> predicate, long start, long count) {
-        return _NullSafe.stream(allInstances(ofType, start, count))
-                .filter(predicate)
-                .collect(Collectors.toCollection(ArrayList::new));
+        
+        if(predicate instanceof Criteria) {
+            // push filter and range down to the datastore
+            val criteria = (Criteria<? super T>) predicate; 
+            return allMatches(new QueryFindByCriteria<T>(ofType, criteria, start, count));
+        }
+        
+        // filter client-side, applying the range to the filtered (not the unfiltered) instances
+        return transactionService.executeWithinTransaction(()->{
+            try(val instances = streamMatches(new QueryFindAllInstances<T>(ofType, 0L, Long.MAX_VALUE))) {
+                return instances
+                        .filter(predicate)
+                        .skip(start)
+                        .limit(count)
+                        .collect(Collectors.toCollection(ArrayList::new));
+            }
+        });
     }
 
     @Override
@@ -174,6 +190,21 @@ <T> List<T> submitQuery(final Query<T> query) {
         return _Casts.uncheckedCast(UnwrapUtil.multipleAsList(allMatching));
     }
 
+    @Override
+    public <T> Stream<T> streamMatches(final Query<T> query) {
+        if(autoFlush) {
+            transactionService.flushTransaction();
+        }
+        val resultTypeSpec = objectManager.getMetaModelContext()
+                .getSpecificationLoader()
+                .loadSpecification(query.getResultType());
+        
+        val queryRequest = ObjectBulkLoader.Request.of(resultTypeSpec, query);
+        return objectManager.streamObjects(queryRequest)
+                .map(UnwrapUtil::single)
+                .map(_Casts::<T>uncheckedCast);
+    }
+
     @Override
     public <T> Optional<T> uniqueMatch(final Class<T> type, final Predicate<T> predicate) {
         final List<T> instances = allMatches(type, predicate, 0, 2); // No need to fetch more than 2.
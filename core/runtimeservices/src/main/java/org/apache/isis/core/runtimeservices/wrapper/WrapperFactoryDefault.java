@@ -95,9 +95,11 @@
 import org.apache.isis.core.runtime.iactn.InteractionSession;
 import org.apache.isis.core.runtime.iactn.IsisInteractionFactory;
 import org.apache.isis.core.runtime.iactn.IsisInteractionTracker;
+import org.apache.isis.core.runtimeservices.async.AsyncExecutionService;
 import org.apache.isis.core.runtimeservices.wrapper.dispatchers.InteractionEventDispatcher;
 import org.apache.isis.core.runtimeservices.wrapper.dispatchers.InteractionEventDispatcherTypeSafe;
 import org.apache.isis.core.runtimeservices.wrapper.handlers.DomainObjectInvocationHandler;
+import org.apache.isis.core.runtimeservices.wrapper.handlers.MethodDispatchTables;
 import org.apache.isis.core.runtimeservices.wrapper.handlers.ProxyContextHandler;
 import org.apache.isis.core.runtimeservices.wrapper.proxy.ProxyCreator;
 import org.apache.isis.core.security.authentication.AuthenticationSession;
@@ -132,17 +134,19 @@ public class WrapperFactoryDefault implements WrapperFactory {
     @Inject ServiceInjector serviceInjector;
     @Inject _ProxyFactoryService proxyFactoryService; // protected to allow JUnit test
     @Inject CommandDtoServiceInternal commandDtoServiceInternal;
+    @Inject AsyncExecutionService asyncExecutionService;
 
     private final List<InteractionListener> listeners = new ArrayList<>();
     private final Map<Class<? extends InteractionEvent>, InteractionEventDispatcher>
         dispatchersByEventClass = new HashMap<>();
+    private final MethodDispatchTables dispatchTables = new MethodDispatchTables();
     private ProxyContextHandler proxyContextHandler;
     
     @PostConstruct
     public void init() {
 
         val proxyCreator = new ProxyCreator(proxyFactoryService);
-        proxyContextHandler = new ProxyContextHandler(proxyCreator);
+        proxyContextHandler = new ProxyContextHandler(proxyCreator, dispatchTables);
         
         putDispatcher(ObjectTitleEvent.class, InteractionListener::objectTitleRead);
         putDispatcher(PropertyVisibilityEvent.class, InteractionListener::propertyVisible);
@@ -244,7 +248,7 @@ public Object invoke(Object proxy, Method method, Object[] args) throws Throwabl
 
                 if (shouldCheckRules(asyncControl)) {
                     val doih = new DomainObjectInvocationHandler<>(
-                            metaModelContext, domainObject, control().withNoExecute(), null);
+                            metaModelContext, domainObject, control().withNoExecute(), null, dispatchTables);
                     doih.invoke(null, method, args);
                 }
 
@@ -281,7 +285,7 @@ public Object invoke(Object proxy, Method method, Object[] args) throws Throwabl
 
                 if (shouldCheckRules(asyncControl)) {
                     val doih = new DomainObjectInvocationHandler<>(
-                            metaModelContext, mixin, control().withNoExecute(), null);
+                            metaModelContext, mixin, control().withNoExecute(), null, dispatchTables);
                     doih.invoke(null, method, args);
                 }
 
@@ -333,6 +337,8 @@ private <R> Object submitAsync(
         asyncControl.setMethod(method);
         asyncControl.setBookmark(Bookmark.from(oidDto));
 
+        // unless provided explicitly, use the framework's pool for the workload
+        asyncControl.setExecutorServiceByWorkload(asyncExecutionService::getExecutorService);
         val executorService = asyncControl.getExecutorService();
         val future = executorService.submit(
                 new ExecCommand(asyncAuthSession, commandDto, asyncControl.getReturnType(), command, serviceInjector)
@@ -26,6 +26,8 @@
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
 import org.apache.isis.applib.annotation.Where;
 import org.apache.isis.applib.services.wrapper.DisabledException;
 import org.apache.isis.applib.services.wrapper.HiddenException;
@@ -48,9 +50,6 @@
 import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.consent.InteractionResult;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
-import org.apache.isis.core.metamodel.facets.ImperativeFacet;
-import org.apache.isis.core.metamodel.facets.ImperativeFacet.Intent;
-import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.isis.core.metamodel.facets.object.mixin.MixinFacet;
 import org.apache.isis.core.metamodel.interactions.managed.ActionInteractionHead;
 import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
@@ -68,6 +67,8 @@
 import org.apache.isis.core.metamodel.specloader.specimpl.ContributeeMember;
 import org.apache.isis.core.metamodel.specloader.specimpl.MixedInMember;
 import org.apache.isis.core.metamodel.specloader.specimpl.dflt.ObjectSpecificationDefault;
+import org.apache.isis.core.runtimeservices.wrapper.handlers.MethodDispatchTable.Dispatch;
+import org.apache.isis.core.runtimeservices.wrapper.handlers.MethodDispatchTable.Kind;
 
 import lombok.SneakyThrows;
 import lombok.val;
@@ -78,58 +79,20 @@
 
     private final ProxyContextHandler proxyContextHandler;
     private final MetaModelContext mmContext;
-
-    /**
-     * The <tt>title()</tt> method; may be <tt>null</tt>.
-     */
-    protected Method titleMethod;
-
-    /**
-     * The <tt>__isis_save()</tt> method from {@link WrappingObject#__isis_save()}.
-     */
-    protected Method __isis_saveMethod;
-
-    /**
-     * The <tt>__isis_wrapped()</tt> method from {@link WrappingObject#__isis_wrapped()}.
-     */
-    protected Method __isis_wrappedMethod;
-
-    /**
-     * The <tt>__isis_executionModes()</tt> method from {@link WrappingObject#__isis_executionModes()}.
-     */
-    protected Method __isis_executionModes;
-
-    private EntityFacet entityFacet; 
+    private final MethodDispatchTable dispatchTable;
 
     public DomainObjectInvocationHandler(
             final MetaModelContext metaModelContext,
             final T domainObject,
             final SyncControl syncControl,
-            final ProxyContextHandler proxyContextHandler) {
+            final ProxyContextHandler proxyContextHandler,
+            final MethodDispatchTables dispatchTables) {
         super(metaModelContext.getServiceRegistry(), domainObject, syncControl);
 
         this.mmContext = metaModelContext;
         this.proxyContextHandler = proxyContextHandler;
-
-        try {
-            titleMethod = getDelegate().getClass().getMethod("title", new Class[]{});
-        } catch (final NoSuchMethodException e) {
-            // ignore
-        }
-        try {
-            __isis_saveMethod = WrappingObject.class.getMethod("__isis_save", new Class[]{});
-            __isis_wrappedMethod = WrappingObject.class.getMethod("__isis_wrapped", new Class[]{});
-            __isis_executionModes = WrappingObject.class.getMethod("__isis_executionModes", new Class[]{});
-            
-
-        } catch (final NoSuchMethodException nsme) {
-            throw new IllegalStateException(
-                    "Could not locate reserved declared methods in the WrappingObject interfaces",
-                    nsme);
-        }
-
-        entityFacet = metaModelContext.getSpecification(getDelegate().getClass())
-                .getFacet(EntityFacet.class);
+        this.dispatchTable = dispatchTables.forSpecification(
+                metaModelContext.getSpecification(getDelegate().getClass()));
     }
 
     /**
@@ -144,137 +107,94 @@ public DomainObjectInvocationHandler(
     @Override
     public Object invoke(final Object proxyObjectUnused, final Method method, final Object[] args) throws Throwable {
 
-        if (isObjectMethod(method)) {
-            return delegate(method, args);
-        }
+        val dispatch = dispatchTable.getDispatch(method, this::locateMember);
 
-        if(isEnhancedEntityMethod(method)) {
+        if (dispatch.getKind() == Kind.DELEGATE) {
             return delegate(method, args);
         }
 
         final ManagedObject targetAdapter = getObjectManager().adapt(getDelegate());
 
-        if (method.equals(titleMethod)) {
+        switch (dispatch.getKind()) {
+        case TITLE:
             return handleTitleMethod(targetAdapter);
-        }
-
-
-        final ObjectSpecification targetSpec = targetAdapter.getSpecification();
-
-        // save method, through the proxy
-        if (method.equals(__isis_saveMethod)) {
-            return handleSaveMethod(targetAdapter, targetSpec);
-        }
-
-        if (method.equals(__isis_wrappedMethod)) {
+        case SAVE:
+            // save method, through the proxy
+            return handleSaveMethod(targetAdapter, targetAdapter.getSpecification());
+        case WRAPPED:
             return getDelegate();
-        }
-
-        if (method.equals(__isis_executionModes)) {
+        case EXECUTION_MODES:
             return getSyncControl().getExecutionModes();
+        case PROPERTY_GET:
+            return handleGetterMethodOnProperty(targetAdapter, args, dispatch.getProperty());
+        case PROPERTY_SET:
+            return handleSetterMethodOnProperty(targetAdapter, args, dispatch.getProperty());
+        case COLLECTION_GET:
+            return handleGetterMethodOnCollection(targetAdapter, args, dispatch.getCollection(), 
+                    dispatch.getCollection().getName());
+        case COLLECTION_ADD_TO:
+            return handleCollectionAddToMethod(targetAdapter, args, dispatch.getCollection());
+        case COLLECTION_REMOVE_FROM:
+            return handleCollectionRemoveFromMethod(targetAdapter, args, dispatch.getCollection());
+        case ACTION:
+            // this is just a regular non-mixin action.
+            return handleActionMethod(targetAdapter, args, dispatch.getAction(), 
+                    determineIfContributed(args, dispatch));
+        case MIXIN_ACTION:
+            return handleMixinActionMethod(targetAdapter, args, dispatch);
+        case UNSUPPORTED:
+            throw new UnsupportedOperationException(dispatch.getUnsupportedReason());
+        default:
+            throw _Exceptions.unmatchedCase(dispatch.getKind());
         }
+    }
 
-        final ObjectMember objectMember = locateAndCheckMember(method);
-        final ContributeeMember contributeeMember = determineIfContributed(args, objectMember);
-
-        final String memberName = objectMember.getName();
-
-        final Intent intent = ImperativeFacet.Util.getIntent(objectMember, method);
-        if(intent == Intent.CHECK_IF_HIDDEN || intent == Intent.CHECK_IF_DISABLED) {
-            throw new UnsupportedOperationException(String.format("Cannot invoke supporting method '%s'", memberName));
-        }
-
-        if (intent == Intent.DEFAULTS || intent == Intent.CHOICES_OR_AUTOCOMPLETE) {
-            return method.invoke(getDelegate(), args);
-        }
-
-        if (objectMember.isOneToOneAssociation()) {
-
-            if (intent == Intent.CHECK_IF_VALID || intent == Intent.MODIFY_PROPERTY_SUPPORTING) {
-                throw new UnsupportedOperationException(String.format("Cannot invoke supporting method for '%s'; use only property accessor/mutator", memberName));
-            }
+    private Object handleMixinActionMethod(
+            final ManagedObject targetAdapter,
+            final Object[] args,
+            final Dispatch dispatch) {
 
-            final OneToOneAssociation otoa = (OneToOneAssociation) objectMember;
+        val objectAction = dispatch.getAction();
+        val contributeeMember = determineIfContributed(args, dispatch);
 
-            if (intent == Intent.ACCESSOR) {
-                return handleGetterMethodOnProperty(targetAdapter, args, otoa);
-            }
+        // rather than invoke on a (transient) mixin, instead try to
+        // figure out the corresponding contributed member on the contributee.
+        final ManagedObject contributeeAdapter =
+                dispatchTable.getMixinFacet().mixedIn(targetAdapter, MixinFacet.Policy.IGNORE_FAILURES);
 
-            if (intent == Intent.MODIFY_PROPERTY || intent == Intent.INITIALIZATION) {
-                return handleSetterMethodOnProperty(targetAdapter, args, otoa);
-            }
+        if (contributeeAdapter == null) {
+            throw _Exceptions.illegalState(String.format("Could not locate contributeeAdapter for action '%s'", objectAction.getId()));
         }
-        if (objectMember.isOneToManyAssociation()) {
-
-            if (intent == Intent.CHECK_IF_VALID) {
-                throw new UnsupportedOperationException(String.format("Cannot invoke supporting method '%s'; use only collection accessor/mutator", memberName));
-            }
+        final ObjectMember mixinMember = dispatch
+                .mixinMemberFor(contributeeAdapter.getSpecification(), 
+                        contributeeSpec->Optional.ofNullable(determineMixinMember(contributeeSpec, objectAction)))
+                .orElse(null);
 
-            final OneToManyAssociation otma = (OneToManyAssociation) objectMember;
-            if (intent == Intent.ACCESSOR) {
-                return handleGetterMethodOnCollection(targetAdapter, args, otma, memberName);
-            }
-            if (intent == Intent.MODIFY_COLLECTION_ADD) {
-                return handleCollectionAddToMethod(targetAdapter, args, otma);
+        if (mixinMember != null) {
+            if(mixinMember instanceof ObjectAction) {
+                return handleActionMethod(contributeeAdapter, args, (ObjectAction)mixinMember, contributeeMember);
             }
-            if (intent == Intent.MODIFY_COLLECTION_REMOVE) {
-                return handleCollectionRemoveFromMethod(targetAdapter, args, otma);
+            if(mixinMember instanceof OneToOneAssociation) {
+                return handleGetterMethodOnProperty(contributeeAdapter, new Object[0], (OneToOneAssociation)mixinMember);
             }
-        }
-
-        if (objectMember instanceof ObjectAction) {
-
-            if (intent == Intent.CHECK_IF_VALID) {
-                throw new UnsupportedOperationException(String.format("Cannot invoke supporting method '%s'; use only the 'invoke' method", memberName));
-            }
-
-            val objectAction = (ObjectAction) objectMember;
-
-
-            val mixinFacet = targetSpec.getFacet(MixinFacet.class);
-            if(mixinFacet != null) {
-
-                // rather than invoke on a (transient) mixin, instead try to
-                // figure out the corresponding contributed member on the contributee.
-                final ManagedObject contributeeAdapter =
-                        mixinFacet.mixedIn(targetAdapter, MixinFacet.Policy.IGNORE_FAILURES);
-
-                if (contributeeAdapter == null) {
-                    throw _Exceptions.illegalState(String.format("Could not locate contributeeAdapter for action '%s'", objectAction.getId()));
-                }
-                final ObjectMember mixinMember = determineMixinMember(contributeeAdapter, objectAction);
-
-                if (mixinMember != null) {
-                    if(mixinMember instanceof ObjectAction) {
-                        return handleActionMethod(contributeeAdapter, args, (ObjectAction)mixinMember, contributeeMember);
-                    }
-                    if(mixinMember instanceof OneToOneAssociation) {
-                        return handleGetterMethodOnProperty(contributeeAdapter, new Object[0], (OneToOneAssociation)mixinMember);
-                    }
-                    if(mixinMember instanceof OneToManyAssociation) {
-                        return handleGetterMethodOnCollection(contributeeAdapter, new Object[0], (OneToManyAssociation)mixinMember, memberName);
-                    }
-                } else {
-                    throw _Exceptions.illegalState(String.format(
-                            "Could not locate mixin member for action '%s' on spec '%s'", objectAction.getId(), targetSpec));
-                }
+            if(mixinMember instanceof OneToManyAssociation) {
+                return handleGetterMethodOnCollection(contributeeAdapter, new Object[0], (OneToManyAssociation)mixinMember, 
+                        objectAction.getName());
             }
-
-            // this is just a regular non-mixin action.
-            return handleActionMethod(targetAdapter, args, objectAction, contributeeMember);
+        } else {
+            throw _Exceptions.illegalState(String.format(
+                    "Could not locate mixin member for action '%s' on spec '%s'", objectAction.getId(), 
+                    targetAdapter.getSpecification()));
         }
 
-        throw new UnsupportedOperationException(String.format("Unknown member type '%s'", objectMember));
+        // this is just a regular non-mixin action.
+        return handleActionMethod(targetAdapter, args, objectAction, contributeeMember);
     }
 
     private static ObjectMember determineMixinMember(
-            final ManagedObject domainObjectAdapter,
+            final ObjectSpecification specification,
             final ObjectAction objectAction) {
         
-        if(domainObjectAdapter == null) {
-            return null;
-        }
-        val specification = domainObjectAdapter.getSpecification();
         val objectActions = specification.streamObjectActions(Contributed.INCLUDED);
         val objectAssociations = specification.streamAssociations(Contributed.INCLUDED);
 
@@ -298,62 +218,59 @@ public InteractionInitiatedBy getInteractionInitiatedBy() {
     // see if this is a contributed property/collection/action
     private ContributeeMember determineIfContributed(
             final Object[] args,
-            final ObjectMember objectMember) {
+            final Dispatch dispatch) {
 
-        if (!(objectMember instanceof ObjectAction)) {
-            return null;
-        }
-
-        final ObjectAction objectAction = (ObjectAction) objectMember;
+        final ObjectAction objectAction = dispatch.getAction();
+        final boolean singleArg = args.length == 1;
 
         for (final Object arg : args) {
             if (arg == null) {
                 continue;
             }
-            final ObjectSpecificationDefault objectSpec = getJavaSpecification(arg.getClass());
+            // memoized per arg type, as the args count is fixed per action 
+            final Optional<ContributeeMember> contributeeMember = dispatch.contributeeMemberFor(
+                    arg.getClass(), 
+                    argType->findContributeeMember(argType, objectAction, singleArg));
+            if(contributeeMember.isPresent()) {
+                return contributeeMember.get();
+            }
+        }
 
-            if (args.length == 1) {
-                // is this a contributed property/collection?
-                final Stream<ObjectAssociation> associations =
-                        objectSpec.streamAssociations(Contributed.INCLUDED);
+        return null;
+    }
 
+    private Optional<ContributeeMember> findContributeeMember(
+            final Class<?> argType,
+            final ObjectAction objectAction,
+            final boolean singleArg) {
 
-                final Optional<ContributeeMember> contributeeMember = associations
-                        .filter(association->association instanceof ContributeeMember)
-                        .map(association->(ContributeeMember) association)
-                        .filter(contributeeMember1->contributeeMember1.isContributedBy(objectAction))
-                        .findAny();
+        final ObjectSpecificationDefault objectSpec = getJavaSpecification(argType);
 
-                if(contributeeMember.isPresent()) {
-                    return contributeeMember.get();
-                }
-            }
+        if (singleArg) {
+            // is this a contributed property/collection?
+            final Stream<ObjectAssociation> associations =
+                    objectSpec.streamAssociations(Contributed.INCLUDED);
 
-            // is this a contributed action?
-            {
-                final Stream<ObjectAction> actions =
-                        objectSpec.streamObjectActions(Contributed.INCLUDED);
+            final Optional<ContributeeMember> contributeeMember = associations
+                    .filter(association->association instanceof ContributeeMember)
+                    .map(association->(ContributeeMember) association)
+                    .filter(contributeeMember1->contributeeMember1.isContributedBy(objectAction))
+                    .findAny();
 
-                final Optional<ContributeeMember> contributeeMember = actions
-                        .filter(action->action instanceof ContributeeMember)
-                        .map(action->(ContributeeMember) action)
-                        .filter(contributeeMember1->contributeeMember1.isContributedBy(objectAction))
-                        .findAny();
-
-                if(contributeeMember.isPresent()) {
-                    return contributeeMember.get();
-                }
+            if(contributeeMember.isPresent()) {
+                return contributeeMember;
             }
-
         }
 
-        return null;
-    }
+        // is this a contributed action?
+        final Stream<ObjectAction> actions =
+                objectSpec.streamObjectActions(Contributed.INCLUDED);
 
-    private boolean isEnhancedEntityMethod(final Method method) {
-        return entityFacet!=null 
-                ? entityFacet.isProxyEnhancement(method)
-                        : false;
+        return actions
+                .filter(action->action instanceof ContributeeMember)
+                .map(action->(ContributeeMember) action)
+                .filter(contributeeMember1->contributeeMember1.isContributedBy(objectAction))
+                .findAny();
     }
 
     // /////////////////////////////////////////////////////////////////
@@ -757,20 +674,11 @@ private InteractionException toException(final InteractionEvent interactionEvent
 
     // -- SWITCHING
 
-    private ObjectMember locateAndCheckMember(final Method method) {
-        val objectSpecificationDefault = getJavaSpecificationOfOwningClass(method);
-        val member = objectSpecificationDefault.getMember(method);
-
-        if(member == null) {
-            val methodName = method.getName();
-            val msg = "Method '" + methodName + "' being invoked does not correspond "
-                    + "to any of the object's fields or actions.";
-            throw new UnsupportedOperationException(msg);
-        }
-        
-        return member;
+    @Nullable
+    private ObjectMember locateMember(final Method method) {
+        return getJavaSpecificationOfOwningClass(method).getMember(method);
     }
-
+    
     // -- SPECIFICATION LOOKUP
 
     private ObjectSpecificationDefault getJavaSpecificationOfOwningClass(final Method method) {
@@ -0,0 +1,300 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.wrapper.handlers;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.apache.isis.applib.services.wrapper.WrappingObject;
+import org.apache.isis.commons.internal._Constants;
+import org.apache.isis.core.metamodel.facets.ImperativeFacet;
+import org.apache.isis.core.metamodel.facets.ImperativeFacet.Intent;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.isis.core.metamodel.facets.object.mixin.MixinFacet;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
+import org.apache.isis.core.metamodel.spec.feature.ObjectMember;
+import org.apache.isis.core.metamodel.spec.feature.OneToManyAssociation;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.core.metamodel.specloader.specimpl.ContributeeMember;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * For the domain type of an {@link ObjectSpecification}, classifies each {@link Method} invoked on a
+ * wrapper, such that {@link DomainObjectInvocationHandler} can dispatch it without having to locate
+ * the corresponding member and its intent on every call.
+ * <p>
+ * There is one table per domain type, shared by all its wrappers and held by {@link MethodDispatchTables}.
+ * A method is classified on its first invocation; its entry is reused thereafter.
+ *
+ * @since 2.0
+ */
+final class MethodDispatchTable {
+
+    enum Kind {
+        /** invoke on the delegate, bypassing the metamodel */
+        DELEGATE,
+        TITLE,
+        SAVE,
+        WRAPPED,
+        EXECUTION_MODES,
+        PROPERTY_GET,
+        PROPERTY_SET,
+        COLLECTION_GET,
+        COLLECTION_ADD_TO,
+        COLLECTION_REMOVE_FROM,
+        ACTION,
+        /** an action of a mixin, to be invoked on the mixed-in type's corresponding member instead */
+        MIXIN_ACTION,
+        /** reject with an {@link UnsupportedOperationException} */
+        UNSUPPORTED
+    }
+
+    /**
+     * How to dispatch a particular {@link Method}.
+     */
+    @RequiredArgsConstructor
+    static final class Dispatch {
+
+        @Getter private final @NonNull Kind kind;
+        @Getter private final @Nullable ObjectMember member;
+        @Getter private final @Nullable String unsupportedReason;
+
+        // for actions only: arg type -> contributee member (if any) 
+        private final Map<Class<?>, Optional<ContributeeMember>> contributeeMembersByArgType = 
+                new ConcurrentHashMap<>();
+
+        // for mixin actions only: spec of mixed-in type -> corresponding member (if any)
+        private final Map<ObjectSpecification, Optional<ObjectMember>> mixinMembersBySpec = 
+                new ConcurrentHashMap<>();
+
+        OneToOneAssociation getProperty() {
+            return (OneToOneAssociation) member;
+        }
+
+        OneToManyAssociation getCollection() {
+            return (OneToManyAssociation) member;
+        }
+
+        ObjectAction getAction() {
+            return (ObjectAction) member;
+        }
+
+        Optional<ContributeeMember> contributeeMemberFor(
+                final Class<?> argType,
+                final Function<Class<?>, Optional<ContributeeMember>> contributeeMemberLookup) {
+            return contributeeMembersByArgType.computeIfAbsent(argType, contributeeMemberLookup);
+        }
+
+        Optional<ObjectMember> mixinMemberFor(
+                final ObjectSpecification mixedInSpec,
+                final Function<ObjectSpecification, Optional<ObjectMember>> mixinMemberLookup) {
+            return mixinMembersBySpec.computeIfAbsent(mixedInSpec, mixinMemberLookup);
+        }
+
+        private static Dispatch of(final Kind kind) {
+            return new Dispatch(kind, null, null);
+        }
+
+        private static Dispatch of(final Kind kind, final ObjectMember member) {
+            return new Dispatch(kind, member, null);
+        }
+
+        private static Dispatch unsupported(final String reason) {
+            return new Dispatch(Kind.UNSUPPORTED, null, reason);
+        }
+
+    }
+
+    // -- TABLE
+
+    private static final Method __isis_saveMethod = wrappingObjectMethod("__isis_save");
+    private static final Method __isis_wrappedMethod = wrappingObjectMethod("__isis_wrapped");
+    private static final Method __isis_executionModes = wrappingObjectMethod("__isis_executionModes");
+
+    private final ObjectSpecification spec;
+    private final @Nullable EntityFacet entityFacet;
+    private final @Nullable MixinFacet mixinFacet;
+    private final Method equalsMethod;
+    private final Method hashCodeMethod;
+    private final Method toStringMethod;
+    private final @Nullable Method titleMethod;
+
+    private final Map<Method, Dispatch> dispatchByMethod = new ConcurrentHashMap<>();
+
+    MethodDispatchTable(final @NonNull ObjectSpecification spec) {
+        this.spec = spec;
+        this.entityFacet = spec.getFacet(EntityFacet.class);
+        this.mixinFacet = spec.getFacet(MixinFacet.class);
+
+        val type = spec.getCorrespondingClass();
+        try {
+            equalsMethod = type.getMethod("equals", new Class[] { Object.class });
+            hashCodeMethod = type.getMethod("hashCode", _Constants.emptyClasses);
+            toStringMethod = type.getMethod("toString", _Constants.emptyClasses);
+        } catch (final NoSuchMethodException e) {
+            throw new RuntimeException("An Object method could not be found: " + e.getMessage());
+        }
+
+        Method titleMethod = null;
+        try {
+            titleMethod = type.getMethod("title", _Constants.emptyClasses);
+        } catch (final NoSuchMethodException e) {
+            // ignore
+        }
+        this.titleMethod = titleMethod;
+    }
+
+    /**
+     * @param memberLookup - the member (if any) that given method corresponds to
+     */
+    Dispatch getDispatch(
+            final Method method,
+            final Function<Method, ObjectMember> memberLookup) {
+
+        Dispatch dispatch = dispatchByMethod.get(method);
+        if(dispatch == null) {
+            // not cached in case of failure
+            dispatch = classify(method, memberLookup);
+            val existing = dispatchByMethod.putIfAbsent(method, dispatch);
+            if(existing != null) {
+                dispatch = existing;
+            }
+        }
+        return dispatch;
+    }
+
+    ObjectSpecification getSpecification() {
+        return spec;
+    }
+
+    @Nullable
+    MixinFacet getMixinFacet() {
+        return mixinFacet;
+    }
+
+    // -- HELPER
+
+    private Dispatch classify(
+            final Method method,
+            final Function<Method, ObjectMember> memberLookup) {
+
+        if (isObjectMethod(method)
+                || isEnhancedEntityMethod(method)) {
+            return Dispatch.of(Kind.DELEGATE);
+        }
+        if (method.equals(titleMethod)) {
+            return Dispatch.of(Kind.TITLE);
+        }
+        if (method.equals(__isis_saveMethod)) {
+            return Dispatch.of(Kind.SAVE);
+        }
+        if (method.equals(__isis_wrappedMethod)) {
+            return Dispatch.of(Kind.WRAPPED);
+        }
+        if (method.equals(__isis_executionModes)) {
+            return Dispatch.of(Kind.EXECUTION_MODES);
+        }
+
+        final ObjectMember objectMember = memberLookup.apply(method);
+        if(objectMember == null) {
+            return Dispatch.unsupported("Method '" + method.getName() + "' being invoked does not correspond "
+                    + "to any of the object's fields or actions.");
+        }
+
+        final String memberName = objectMember.getName();
+
+        final Intent intent = ImperativeFacet.Util.getIntent(objectMember, method);
+        if(intent == Intent.CHECK_IF_HIDDEN || intent == Intent.CHECK_IF_DISABLED) {
+            return Dispatch.unsupported(String.format("Cannot invoke supporting method '%s'", memberName));
+        }
+
+        if (intent == Intent.DEFAULTS || intent == Intent.CHOICES_OR_AUTOCOMPLETE) {
+            return Dispatch.of(Kind.DELEGATE);
+        }
+
+        if (objectMember.isOneToOneAssociation()) {
+
+            if (intent == Intent.CHECK_IF_VALID || intent == Intent.MODIFY_PROPERTY_SUPPORTING) {
+                return Dispatch.unsupported(String.format("Cannot invoke supporting method for '%s'; use only property accessor/mutator", memberName));
+            }
+            if (intent == Intent.ACCESSOR) {
+                return Dispatch.of(Kind.PROPERTY_GET, objectMember);
+            }
+            if (intent == Intent.MODIFY_PROPERTY || intent == Intent.INITIALIZATION) {
+                return Dispatch.of(Kind.PROPERTY_SET, objectMember);
+            }
+        }
+        if (objectMember.isOneToManyAssociation()) {
+
+            if (intent == Intent.CHECK_IF_VALID) {
+                return Dispatch.unsupported(String.format("Cannot invoke supporting method '%s'; use only collection accessor/mutator", memberName));
+            }
+            if (intent == Intent.ACCESSOR) {
+                return Dispatch.of(Kind.COLLECTION_GET, objectMember);
+            }
+            if (intent == Intent.MODIFY_COLLECTION_ADD) {
+                return Dispatch.of(Kind.COLLECTION_ADD_TO, objectMember);
+            }
+            if (intent == Intent.MODIFY_COLLECTION_REMOVE) {
+                return Dispatch.of(Kind.COLLECTION_REMOVE_FROM, objectMember);
+            }
+        }
+
+        if (objectMember instanceof ObjectAction) {
+
+            if (intent == Intent.CHECK_IF_VALID) {
+                return Dispatch.unsupported(String.format("Cannot invoke supporting method '%s'; use only the 'invoke' method", memberName));
+            }
+            return Dispatch.of(mixinFacet != null ? Kind.MIXIN_ACTION : Kind.ACTION, objectMember);
+        }
+
+        return Dispatch.unsupported(String.format("Unknown member type '%s'", objectMember));
+    }
+
+    private boolean isObjectMethod(final Method method) {
+        return toStringMethod.equals(method) || hashCodeMethod.equals(method) || equalsMethod.equals(method);
+    }
+
+    private boolean isEnhancedEntityMethod(final Method method) {
+        return entityFacet!=null 
+                ? entityFacet.isProxyEnhancement(method)
+                        : false;
+    }
+
+    private static Method wrappingObjectMethod(final String name) {
+        try {
+            return WrappingObject.class.getMethod(name, _Constants.emptyClasses);
+        } catch (final NoSuchMethodException nsme) {
+            throw new IllegalStateException(
+                    "Could not locate reserved declared methods in the WrappingObject interfaces",
+                    nsme);
+        }
+    }
+
+}
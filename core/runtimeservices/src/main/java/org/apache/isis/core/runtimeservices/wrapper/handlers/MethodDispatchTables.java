@@ -0,0 +1,54 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.wrapper.handlers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+import lombok.NonNull;
+import lombok.val;
+
+/**
+ * Holds the {@link MethodDispatchTable}s of a single {@link org.apache.isis.applib.services.wrapper.WrapperFactory},
+ * one per domain type; as such these do not outlive the (meta-model) context the factory belongs to.
+ *
+ * @since 2.0
+ */
+public final class MethodDispatchTables {
+
+    private final Map<Class<?>, MethodDispatchTable> tablesByType = new ConcurrentHashMap<>();
+
+    /**
+     * The (shared) table for given {@code spec}'s domain type, replaced if the specification is (re-)loaded.
+     */
+    MethodDispatchTable forSpecification(final @NonNull ObjectSpecification spec) {
+        val table = tablesByType.get(spec.getCorrespondingClass());
+        if(table != null
+                && table.getSpecification() == spec) {
+            return table;
+        }
+        // concurrent builds yield equivalent tables
+        val newTable = new MethodDispatchTable(spec);
+        tablesByType.put(spec.getCorrespondingClass(), newTable);
+        return newTable;
+    }
+
+}
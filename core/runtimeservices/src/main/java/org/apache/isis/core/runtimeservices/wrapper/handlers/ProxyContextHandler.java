@@ -35,6 +35,7 @@
 public class ProxyContextHandler {
 
     @NonNull private final ProxyCreator proxyCreator;
+    @NonNull private final MethodDispatchTables dispatchTables;
 
     public <T> T proxy(MetaModelContext metaModelContext, T domainObject, SyncControl syncControl) {
 
@@ -42,7 +43,8 @@ public <T> T proxy(MetaModelContext metaModelContext, T domainObject, SyncContro
                 metaModelContext, 
                 domainObject,
                 syncControl,
-                this);
+                this,
+                dispatchTables);
 
         return proxyCreator.instantiateProxy(invocationHandler);
     }
@@ -0,0 +1,120 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.async;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.apache.isis.core.config.IsisConfiguration.Core.RuntimeServices.AsyncExecution;
+
+public class AsyncExecutionServiceTest {
+
+    private final CountDownLatch gate = new CountDownLatch(1);
+    private AsyncExecutionService service;
+
+    @After
+    public void tearDown() {
+        gate.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    public void defaultWorkload_isUsed_whenNoneSpecified() throws Exception {
+        service = new AsyncExecutionService(new AsyncExecution());
+
+        final Future<String> future = service.getExecutorService(null).submit(()->Thread.currentThread().getName());
+
+        assertThat(future.get(5, TimeUnit.SECONDS).startsWith("isis-async-default-"), is(true));
+        assertThat(service.getStats().keySet().contains(AsyncExecution.DEFAULT_WORKLOAD), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownWorkload_isRejected() {
+        service = new AsyncExecutionService(new AsyncExecution());
+
+        service.getExecutorService("unknown");
+    }
+
+    @Test
+    public void whenQueueIsFull_thenRejectedAfterMaxWait() throws Exception {
+        service = new AsyncExecutionService(singleThreadedConfig("reports", 1, Duration.ofMillis(50)));
+        final CountDownLatch started = new CountDownLatch(1);
+
+        // occupies the only thread
+        service.getExecutorService("reports").submit(()->{
+            started.countDown();
+            gate.await();
+            return null;
+        });
+        started.await(5, TimeUnit.SECONDS);
+        // fills the queue
+        service.getExecutorService("reports").submit(()->null);
+
+        try {
+            service.getExecutorService("reports").submit(()->null);
+            throw new AssertionError("expected to be rejected");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+
+        final AsyncExecutionService.Stats stats = service.getStats().get("reports");
+        assertThat(stats.getActiveCount(), is(1));
+        assertThat(stats.getQueueDepth(), is(1));
+        assertThat(stats.getRejectedCount(), is(1L));
+    }
+
+    @Test
+    public void latencies_areTracked() throws Exception {
+        service = new AsyncExecutionService(singleThreadedConfig("reports", 10, Duration.ofMillis(50)));
+
+        service.getExecutorService("reports").submit(()->{
+            Thread.sleep(20);
+            return null;
+        }).get(5, TimeUnit.SECONDS);
+        service.shutdown();
+
+        final AsyncExecutionService.Stats stats = service.getStats().get("reports");
+        assertThat(stats.getCompletedCount(), is(1L));
+        assertThat(stats.getAverageExecutionLatency().toMillis() >= 20, is(true));
+    }
+
+    // -- HELPER
+
+    private static AsyncExecution singleThreadedConfig(
+            final String workload, final int queueCapacity, final Duration maxWaitWhenFull) {
+        final AsyncExecution.Pool pool = new AsyncExecution.Pool();
+        pool.setCoreSize(1);
+        pool.setMaxSize(1);
+        pool.setQueueCapacity(queueCapacity);
+        pool.setMaxWaitWhenFull(maxWaitWhenFull);
+        final AsyncExecution config = new AsyncExecution();
+        config.getPools().put(workload, pool);
+        return config;
+    }
+
+}
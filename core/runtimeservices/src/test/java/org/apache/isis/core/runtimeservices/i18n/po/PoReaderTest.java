@@ -20,6 +20,7 @@
 
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jmock.Expectations;
 import org.jmock.auto.Mock;
@@ -242,6 +243,36 @@ protected List<String> readPo(final Locale locale) {
             // then
             assertThat(translated, is(equalTo("Something to translate")));
         }
+
+        @Test
+        public void readOnlyOncePerLocale() throws Exception {
+
+            // given
+            final String context = "org.apache.isis.applib.fixturescripts.FixtureScripts#runFixtureScript()";
+            final AtomicInteger readCount = new AtomicInteger();
+
+            poReader = new PoReader(mockTranslationServicePo) {
+                @Override
+                protected List<String> readPo(final Locale locale) {
+                    readCount.incrementAndGet();
+                    final List<String> lines = _Lists.newArrayList();
+                    lines.add(String.format("#: %s", context));
+                    lines.add(String.format("msgid \"%s\"", "Parameters"));
+                    lines.add(String.format("msgstr \"%s\"", "Paramètres"));
+                    return lines;
+                }
+            };
+
+            // when
+            poReader.warmUp(_Lists.of(Locale.UK));
+            final String translated = poReader.translate(context, "Parameters");
+            final String translatedAgain = poReader.translate(context, "Parameters");
+
+            // then
+            assertThat(translated, is(equalTo("Paramètres")));
+            assertThat(translatedAgain, is(equalTo("Paramètres")));
+            assertThat(readCount.get(), is(1));
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,184 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.publish;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.apache.isis.applib.services.iactn.Interaction;
+import org.apache.isis.applib.services.publish.PublishedObjects;
+import org.apache.isis.applib.services.publish.PublisherService;
+import org.apache.isis.core.config.IsisConfiguration;
+
+public class PublisherDispatchQueueTest {
+
+    static class PublisherServiceForTesting implements PublisherService {
+
+        final List<PublishedObjectsSnapshot> published = Collections.synchronizedList(new ArrayList<>());
+        volatile CountDownLatch gate;
+
+        @Override
+        public void publish(final Interaction.Execution<?, ?> execution) {
+        }
+
+        @Override
+        public void publish(final PublishedObjects publishedObjects) {
+            if(gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            final PublishedObjectsSnapshot snapshot = (PublishedObjectsSnapshot) publishedObjects;
+            if(snapshot.getSequence() < 0) {
+                throw new IllegalStateException("failing on purpose");
+            }
+            published.add(snapshot);
+        }
+    }
+
+    private PublisherServiceForTesting publisherService;
+    private PublisherDispatchQueue queue;
+
+    @After
+    public void tearDown() {
+        if(publisherService.gate != null) {
+            publisherService.gate.countDown();
+        }
+        queue.shutdown();
+    }
+
+    @Test
+    public void deliversInOrderPerInteraction() throws Exception {
+        setUp(4, 1024);
+        final UUID interaction1 = UUID.randomUUID();
+        final UUID interaction2 = UUID.randomUUID();
+
+        for (int i = 0; i < 100; i++) {
+            queue.enqueue(snapshot(interaction1, i));
+            queue.enqueue(snapshot(interaction2, i));
+        }
+        queue.shutdown();
+
+        assertThat(publisherService.published.size(), is(200));
+        assertThat(sequencesOf(interaction1), is(range(100)));
+        assertThat(sequencesOf(interaction2), is(range(100)));
+        assertThat(queue.getStats().getEnqueuedCount(), is(200L));
+        assertThat(queue.getStats().getDeliveredCount(), is(200L));
+    }
+
+    @Test
+    public void dropsWhenFull() throws Exception {
+        setUp(1, 2);
+        publisherService.gate = new CountDownLatch(1);
+        final UUID interaction = UUID.randomUUID();
+
+        assertThat(queue.enqueue(snapshot(interaction, 0)), is(true));
+        awaitQueueDepth(0); // taken by the worker, which now blocks
+        assertThat(queue.enqueue(snapshot(interaction, 1)), is(true));
+        assertThat(queue.enqueue(snapshot(interaction, 2)), is(true));
+        assertThat(queue.enqueue(snapshot(interaction, 3)), is(false));
+
+        assertThat(queue.getStats().getQueueDepth(), is(2));
+        assertThat(queue.getStats().getDroppedCount(), is(1L));
+
+        publisherService.gate.countDown();
+        queue.shutdown();
+
+        assertThat(sequencesOf(interaction), is(range(3)));
+    }
+
+    @Test
+    public void countsFailures() throws Exception {
+        setUp(1, 16);
+        final UUID interaction = UUID.randomUUID();
+
+        queue.enqueue(snapshot(interaction, 0));
+        queue.enqueue(snapshot(interaction, -1));
+        queue.enqueue(snapshot(interaction, 1));
+        queue.shutdown();
+
+        assertThat(sequencesOf(interaction), is(range(2)));
+        assertThat(queue.getStats().getFailedCount(), is(1L));
+        assertThat(queue.getStats().getDeliveredCount(), is(2L));
+    }
+
+    // -- HELPER
+
+    private void setUp(final int workers, final int queueCapacity) {
+        final IsisConfiguration.Core.RuntimeServices.PublisherDispatchService.Async config =
+                new IsisConfiguration.Core.RuntimeServices.PublisherDispatchService.Async();
+        config.setEnabled(true);
+        config.setWorkers(workers);
+        config.setQueueCapacity(queueCapacity);
+        config.setMaxBatchSize(8);
+        config.setMaxWaitWhenFull(Duration.ofMillis(10));
+
+        publisherService = new PublisherServiceForTesting();
+        queue = new PublisherDispatchQueue(config);
+        queue.publisherServices = Collections.singletonList(publisherService);
+        queue.init();
+    }
+
+    private static PublishedObjectsSnapshot snapshot(final UUID interactionId, final int sequence) {
+        return new PublishedObjectsSnapshot(
+                interactionId, sequence, "sven", new Timestamp(0L), 0, 0, 0, 0, 0, null);
+    }
+
+    private List<Integer> sequencesOf(final UUID interactionId) {
+        final List<Integer> sequences = new ArrayList<>();
+        synchronized (publisherService.published) {
+            for (PublishedObjectsSnapshot publishedObjects : publisherService.published) {
+                if(publishedObjects.getUniqueId().equals(interactionId)) {
+                    sequences.add(publishedObjects.getSequence());
+                }
+            }
+        }
+        return sequences;
+    }
+
+    private static List<Integer> range(final int size) {
+        final List<Integer> range = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            range.add(i);
+        }
+        return range;
+    }
+
+    private void awaitQueueDepth(final int queueDepth) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while(queue.getStats().getQueueDepth() != queueDepth && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.queryresultscache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.apache.isis.applib.services.queryresultscache.QueryResultsCache.Key;
+import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+
+public class QueryResultsCacheSharedTest {
+
+    static class Customer {}
+    static class VipCustomer extends Customer {}
+    static class Order {}
+
+    @Rule
+    public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(JUnitRuleMockery2.Mode.INTERFACES_AND_CLASSES);
+
+    // not to be consulted for value results
+    @Mock private ObjectManager mockObjectManager;
+
+    private AtomicLong now;
+    private AtomicInteger calls;
+    private QueryResultsCacheShared cache;
+
+    @Before
+    public void setUp() throws Exception {
+        now = new AtomicLong();
+        calls = new AtomicInteger();
+
+        final IsisConfiguration.Core.RuntimeServices.QueryResultsCache.Shared config =
+                new IsisConfiguration.Core.RuntimeServices.QueryResultsCache.Shared();
+        config.setEnabled(true);
+        config.setMaxSize(2);
+        config.setTimeToLive(Duration.ofNanos(100));
+
+        cache = new QueryResultsCacheShared(config, now::get);
+    }
+
+    @Test
+    public void hit() throws Exception {
+        assertThat(lookup("a", Customer.class), is(1));
+        assertThat(lookup("a", Customer.class), is(1));
+
+        assertThat(cache.getStats().getHitCount(), is(1L));
+        assertThat(cache.getStats().getMissCount(), is(1L));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() throws Exception {
+        lookup("a", Customer.class);
+        lookup("b", Customer.class);
+        lookup("a", Customer.class); // 'b' is now least recently used
+        lookup("c", Customer.class);
+
+        assertThat(cache.getStats().getSize(), is(2));
+        assertThat(cache.getStats().getEvictionCount(), is(1L));
+
+        assertThat(lookup("a", Customer.class), is(1));
+        assertThat(lookup("b", Customer.class), is(4));
+    }
+
+    @Test
+    public void expires() throws Exception {
+        lookup("a", Customer.class);
+        now.addAndGet(99);
+        assertThat(lookup("a", Customer.class), is(1));
+        now.addAndGet(1);
+        assertThat(lookup("a", Customer.class), is(2));
+    }
+
+    @Test
+    public void invalidatedBySubtypeChange() throws Exception {
+        lookup("a", Customer.class);
+        lookup("b", Order.class);
+
+        cache.onEntityTypeChanged(VipCustomer.class);
+
+        assertThat(cache.getStats().getInvalidationCount(), is(1L));
+        assertThat(lookup("a", Customer.class), is(3));
+        assertThat(lookup("b", Order.class), is(2));
+    }
+
+    @Test
+    public void notCachedIfInvalidatedWhileComputing() throws Exception {
+        final Key key = new Key(getClass(), "lookup", "a");
+        final long epoch = cache.getInvalidationEpoch();
+        cache.onEntityTypeChanged(Customer.class);
+        cache.put(key, SharedResult.ofValue(calls.incrementAndGet()), Collections.singletonList(Customer.class), epoch);
+
+        assertThat(cache.getStats().getSize(), is(0));
+    }
+
+    // -- HELPER
+
+    private int lookup(final String arg, final Class<?> dependsOn) throws Exception {
+        final Key key = new Key(getClass(), "lookup", arg);
+        final Optional<Object> shared = cache.get(key)
+                .flatMap(sharedResult->sharedResult.restore(mockObjectManager));
+        if(shared.isPresent()) {
+            return (Integer) shared.get();
+        }
+        final long epoch = cache.getInvalidationEpoch();
+        final int result = calls.incrementAndGet();
+        cache.put(key, SharedResult.ofValue(result), Collections.singletonList(dependsOn), epoch);
+        return result;
+    }
+
+}
@@ -0,0 +1,263 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.runtimeservices.wrapper.handlers;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.jmock.Expectations;
+import org.jmock.api.Action;
+import org.jmock.api.Invocation;
+import org.jmock.auto.Mock;
+import org.jmock.lib.action.CustomAction;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2.Mode;
+import org.apache.isis.core.metamodel.facets.ImperativeFacet;
+import org.apache.isis.core.metamodel.facets.ImperativeFacet.Intent;
+import org.apache.isis.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.isis.core.metamodel.facets.object.mixin.MixinFacet;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAction;
+import org.apache.isis.core.metamodel.spec.feature.ObjectMember;
+import org.apache.isis.core.metamodel.spec.feature.OneToManyAssociation;
+import org.apache.isis.core.metamodel.spec.feature.OneToOneAssociation;
+import org.apache.isis.core.runtimeservices.wrapper.handlers.MethodDispatchTable.Kind;
+
+import lombok.val;
+
+public class MethodDispatchTableTest {
+
+    @Rule public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock private ObjectSpecification mockSpec;
+    @Mock private ObjectSpecification mockReloadedSpec;
+    @Mock private OneToOneAssociation mockNameProperty;
+    @Mock private OneToManyAssociation mockOrdersCollection;
+    @Mock private ObjectAction mockPlaceOrderAction;
+    @Mock private ImperativeFacet mockNameFacet;
+    @Mock private ImperativeFacet mockOrdersFacet;
+    @Mock private ImperativeFacet mockPlaceOrderFacet;
+
+    public static class Customer {
+        public String getName() { return null; }
+        public void setName(String name) { }
+        public List<Object> getOrders() { return Collections.emptyList(); }
+        public void addToOrders(Object order) { }
+        public void removeFromOrders(Object order) { }
+        public void placeOrder() { }
+        public String title() { return null; }
+    }
+
+    private Method getName;
+    private Method setName;
+    private Method addToOrders;
+    private Method removeFromOrders;
+    private Method placeOrder;
+    private Method title;
+
+    private Map<Method, ObjectMember> membersByMethod;
+    private AtomicInteger memberLookups;
+
+    private MethodDispatchTable table;
+
+    @Before
+    public void setUp() throws Exception {
+
+        getName = Customer.class.getMethod("getName");
+        setName = Customer.class.getMethod("setName", String.class);
+        addToOrders = Customer.class.getMethod("addToOrders", Object.class);
+        removeFromOrders = Customer.class.getMethod("removeFromOrders", Object.class);
+        placeOrder = Customer.class.getMethod("placeOrder");
+        title = Customer.class.getMethod("title");
+
+        membersByMethod = new HashMap<>();
+        membersByMethod.put(getName, mockNameProperty);
+        membersByMethod.put(setName, mockNameProperty);
+        membersByMethod.put(addToOrders, mockOrdersCollection);
+        membersByMethod.put(removeFromOrders, mockOrdersCollection);
+        membersByMethod.put(placeOrder, mockPlaceOrderAction);
+        memberLookups = new AtomicInteger();
+
+        context.checking(new Expectations() {{
+            allowing(mockSpec).getCorrespondingClass();
+            will(returnValue(Customer.class));
+            allowing(mockSpec).getFacet(EntityFacet.class);
+            will(returnValue(null));
+            allowing(mockSpec).getFacet(MixinFacet.class);
+            will(returnValue(null));
+
+            allowing(mockReloadedSpec).getCorrespondingClass();
+            will(returnValue(Customer.class));
+            allowing(mockReloadedSpec).getFacet(EntityFacet.class);
+            will(returnValue(null));
+            allowing(mockReloadedSpec).getFacet(MixinFacet.class);
+            will(returnValue(null));
+
+            allowing(mockNameProperty).getName();
+            will(returnValue("Name"));
+            allowing(mockNameProperty).isOneToOneAssociation();
+            will(returnValue(true));
+            allowing(mockNameProperty).isOneToManyAssociation();
+            will(returnValue(false));
+            allowing(mockNameProperty).streamFacets();
+            will(streamOf(mockNameFacet));
+            allowing(mockNameFacet).getMethods();
+            will(returnValue(Arrays.asList(getName, setName)));
+            allowing(mockNameFacet).getIntent(getName);
+            will(returnValue(Intent.ACCESSOR));
+            allowing(mockNameFacet).getIntent(setName);
+            will(returnValue(Intent.MODIFY_PROPERTY));
+
+            allowing(mockOrdersCollection).getName();
+            will(returnValue("Orders"));
+            allowing(mockOrdersCollection).isOneToOneAssociation();
+            will(returnValue(false));
+            allowing(mockOrdersCollection).isOneToManyAssociation();
+            will(returnValue(true));
+            allowing(mockOrdersCollection).streamFacets();
+            will(streamOf(mockOrdersFacet));
+            allowing(mockOrdersFacet).getMethods();
+            will(returnValue(Arrays.asList(addToOrders, removeFromOrders)));
+            allowing(mockOrdersFacet).getIntent(addToOrders);
+            will(returnValue(Intent.MODIFY_COLLECTION_ADD));
+            allowing(mockOrdersFacet).getIntent(removeFromOrders);
+            will(returnValue(Intent.MODIFY_COLLECTION_REMOVE));
+
+            allowing(mockPlaceOrderAction).getName();
+            will(returnValue("Place Order"));
+            allowing(mockPlaceOrderAction).isOneToOneAssociation();
+            will(returnValue(false));
+            allowing(mockPlaceOrderAction).isOneToManyAssociation();
+            will(returnValue(false));
+            allowing(mockPlaceOrderAction).streamFacets();
+            will(streamOf(mockPlaceOrderFacet));
+            allowing(mockPlaceOrderFacet).getMethods();
+            will(returnValue(Arrays.asList(placeOrder)));
+            allowing(mockPlaceOrderFacet).getIntent(placeOrder);
+            will(returnValue(Intent.EXECUTE));
+        }});
+
+        table = new MethodDispatchTable(mockSpec);
+    }
+
+    @Test
+    public void getter_dispatchesAsPropertyGet() {
+        val dispatch = table.getDispatch(getName, this::lookupMember);
+        assertThat(dispatch.getKind(), is(Kind.PROPERTY_GET));
+        assertThat(dispatch.getProperty(), is(mockNameProperty));
+    }
+
+    @Test
+    public void setter_dispatchesAsPropertySet() {
+        val dispatch = table.getDispatch(setName, this::lookupMember);
+        assertThat(dispatch.getKind(), is(Kind.PROPERTY_SET));
+        assertThat(dispatch.getProperty(), is(mockNameProperty));
+    }
+
+    @Test
+    public void addTo_dispatchesAsCollectionAddTo() {
+        val dispatch = table.getDispatch(addToOrders, this::lookupMember);
+        assertThat(dispatch.getKind(), is(Kind.COLLECTION_ADD_TO));
+        assertThat(dispatch.getCollection(), is(mockOrdersCollection));
+    }
+
+    @Test
+    public void removeFrom_dispatchesAsCollectionRemoveFrom() {
+        val dispatch = table.getDispatch(removeFromOrders, this::lookupMember);
+        assertThat(dispatch.getKind(), is(Kind.COLLECTION_REMOVE_FROM));
+        assertThat(dispatch.getCollection(), is(mockOrdersCollection));
+    }
+
+    @Test
+    public void action_dispatchesAsAction() {
+        val dispatch = table.getDispatch(placeOrder, this::lookupMember);
+        assertThat(dispatch.getKind(), is(Kind.ACTION));
+        assertThat(dispatch.getAction(), is(mockPlaceOrderAction));
+    }
+
+    @Test
+    public void title_dispatchesAsTitle_withoutMemberLookup() {
+        val dispatch = table.getDispatch(title, this::lookupMember);
+        assertThat(dispatch.getKind(), is(Kind.TITLE));
+        assertThat(memberLookups.get(), is(0));
+    }
+
+    @Test
+    public void objectMethod_dispatchesToDelegate() throws Exception {
+        val dispatch = table.getDispatch(Customer.class.getMethod("toString"), this::lookupMember);
+        assertThat(dispatch.getKind(), is(Kind.DELEGATE));
+    }
+
+    @Test
+    public void dispatch_isClassifiedOnce() {
+        val dispatch = table.getDispatch(getName, this::lookupMember);
+        assertThat(table.getDispatch(getName, this::lookupMember), is(sameInstance(dispatch)));
+        assertThat(memberLookups.get(), is(1));
+    }
+
+    @Test
+    public void tables_areSharedPerSpecification_andReplacedOnceReloaded() {
+        val tables = new MethodDispatchTables();
+
+        val first = tables.forSpecification(mockSpec);
+        assertThat(tables.forSpecification(mockSpec), is(sameInstance(first)));
+
+        val reloaded = tables.forSpecification(mockReloadedSpec);
+        assertThat(reloaded, is(not(sameInstance(first))));
+        assertThat(reloaded.getSpecification(), is(mockReloadedSpec));
+    }
+
+    @Test
+    public void tables_areNotSharedBetweenFactories() {
+        assertThat(new MethodDispatchTables().forSpecification(mockSpec), 
+                is(not(sameInstance(new MethodDispatchTables().forSpecification(mockSpec)))));
+    }
+
+    // -- HELPER
+
+    private ObjectMember lookupMember(Method method) {
+        memberLookups.incrementAndGet();
+        return membersByMethod.get(method);
+    }
+
+    private static Action streamOf(final Object facet) {
+        return new CustomAction("stream of facets") {
+            @Override
+            public Object invoke(Invocation invocation) throws Throwable {
+                return Stream.of(facet);
+            }
+        };
+    }
+
+}
@@ -19,8 +19,10 @@
 
 package org.apache.isis.core.security.authentication.manager;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -35,7 +37,7 @@
 import org.apache.isis.applib.util.ToString;
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.collections._Lists;
-import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.core.config.IsisConfiguration;
 import org.apache.isis.core.security.authentication.AuthenticationSession;
 import org.apache.isis.core.security.authentication.standard.NoAuthenticatorException;
 import org.apache.isis.core.security.authentication.standard.RandomCodeGenerator;
@@ -45,6 +47,7 @@
 import org.apache.isis.core.security.authentication.standard.Registrar;
 
 import lombok.Getter;
+import lombok.Value;
 import lombok.val;
 
 @Service
@@ -54,17 +57,49 @@
 @Qualifier("Default")
 public class AuthenticationManager {
 
-    private final Map<String, String> userByValidationCode = _Maps.newHashMap();
+    @Value(staticConstructor = "of")
+    public static class Stats {
+        /** number of sessions currently considered valid (or not yet found to have expired) */
+        int activeSessions;
+        long authenticatedCount;
+        long failedCount;
+        /** average time taken by the authenticators, over all authentication attempts */
+        Duration averageLatency;
+        Duration maxLatency;
+    }
+
+    private final SessionRegistry sessionRegistry;
 
     private final RandomCodeGenerator randomCodeGenerator;
     @Getter
     private final List<Authenticator> authenticators;
     private final List<Registrar> registrars;
 
+    private final LongAdder authenticatedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0L);
+
     @Inject
+    public AuthenticationManager(
+            final List<Authenticator> authenticators,
+            final RandomCodeGenerator randomCodeGenerator,
+            final IsisConfiguration configuration) {
+        this(authenticators, randomCodeGenerator, configuration.getSecurity().getSessions());
+    }
+
     public AuthenticationManager(
             final List<Authenticator> authenticators,
             final RandomCodeGenerator randomCodeGenerator) {
+        this(authenticators, randomCodeGenerator, new IsisConfiguration.Security.Sessions());
+    }
+
+    AuthenticationManager(
+            final List<Authenticator> authenticators,
+            final RandomCodeGenerator randomCodeGenerator,
+            final IsisConfiguration.Security.Sessions sessionsConfig) {
+        this.sessionRegistry = new SessionRegistry(
+                sessionsConfig.getMaxSessions(), sessionsConfig.getIdleTimeout(), System::nanoTime);
         this.randomCodeGenerator = randomCodeGenerator;
         this.authenticators = authenticators;
         if (authenticators.isEmpty()) {
@@ -79,7 +114,10 @@ public AuthenticationManager(
 
     // -- SESSION MANAGEMENT (including authenticate)
 
-    public synchronized final AuthenticationSession authenticate(AuthenticationRequest request) {
+    /**
+     * Safe to be called concurrently; the (potentially slow) authenticators are not serialized.
+     */
+    public final AuthenticationSession authenticate(AuthenticationRequest request) {
         
         if (request == null) {
             return null;
@@ -93,22 +131,30 @@ public synchronized final AuthenticationSession authenticate(AuthenticationReque
             throw new NoAuthenticatorException("No authenticator available for processing " + request.getClass().getName());
         }
         
-        for (final Authenticator authenticator : compatibleAuthenticators) {
-            val authSession = authenticator.authenticate(request, getUnusedRandomCode());
-            if (authSession != null) {
-                userByValidationCode.put(authSession.getValidationCode(), authSession.getUserName());
-                return authSession;
+        val startNanos = System.nanoTime();
+        try {
+            for (final Authenticator authenticator : compatibleAuthenticators) {
+                val authSession = authenticator.authenticate(request, getUnusedRandomCode());
+                if (authSession != null) {
+                    sessionRegistry.register(authSession.getValidationCode(), authSession.getUserName());
+                    authenticatedCount.increment();
+                    return authSession;
+                }
             }
+            failedCount.increment();
+            return null;
+        } finally {
+            val latencyNanos = System.nanoTime() - startNanos;
+            totalLatencyNanos.add(latencyNanos);
+            maxLatencyNanos.accumulate(latencyNanos);
         }
-        
-        return null;
     }
     
     private String getUnusedRandomCode() {
         String code;
         do {
             code = randomCodeGenerator.generateRandomCode();
-        } while (userByValidationCode.containsKey(code));
+        } while (sessionRegistry.contains(code));
 
         return code;
     }
@@ -121,7 +167,7 @@ public final boolean isSessionValid(final AuthenticationSession session) {
                 return true;
             }
         }
-        final String userName = userByValidationCode.get(session.getValidationCode());
+        final String userName = sessionRegistry.lookupUserName(session.getValidationCode());
         return session.hasUserNameOf(userName);
     }
 
@@ -130,7 +176,17 @@ public void closeSession(AuthenticationSession session) {
         for (Authenticator authenticator : authenticators) {
             authenticator.logout(session);
         }
-        userByValidationCode.remove(session.getValidationCode());
+        sessionRegistry.remove(session.getValidationCode());
+    }
+
+    public Stats getStats() {
+        val attempts = authenticatedCount.sum() + failedCount.sum();
+        return Stats.of(
+                sessionRegistry.size(),
+                authenticatedCount.sum(),
+                failedCount.sum(),
+                Duration.ofNanos(attempts > 0 ? totalLatencyNanos.sum() / attempts : 0L),
+                Duration.ofNanos(maxLatencyNanos.get()));
     }
 
     // -- AUTHENTICATORS
@@ -161,7 +217,7 @@ public boolean supportsRegistration(Class<? extends RegistrationDetails> registr
     private static final ToString<AuthenticationManager> toString =
             ToString.<AuthenticationManager>toString("class", obj->obj.getClass().getSimpleName())
             .thenToString("authenticators", obj->""+obj.authenticators.size())
-            .thenToString("users", obj->""+obj.userByValidationCode.size());
+            .thenToString("users", obj->""+obj.sessionRegistry.size());
 
     @Override
     public String toString() {
@@ -0,0 +1,141 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.security.authentication.manager;
+
+import java.time.Duration;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * The user names of the authenticated sessions, by their validation code.
+ *
+ * <p>
+ * Safe for concurrent use. Sessions expire once not used for the configured idle timeout; if more than
+ * the configured maximum of sessions are registered, those used least recently are discarded.
+ */
+final class SessionRegistry {
+
+    @RequiredArgsConstructor
+    private static final class Entry {
+        private final String userName;
+        private volatile long lastAccessNanos;
+    }
+
+    private final Map<String, Entry> entryByValidationCode = new ConcurrentHashMap<>();
+    private final int maxSessions;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicBoolean pruning = new AtomicBoolean();
+    private volatile long nextPruneNanos;
+
+    SessionRegistry(final int maxSessions, final Duration idleTimeout, final LongSupplier nanoClock) {
+        this.maxSessions = maxSessions;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoClock = nanoClock;
+        this.nextPruneNanos = nanoClock.getAsLong() + idleTimeoutNanos;
+    }
+
+    boolean contains(final String validationCode) {
+        return entryByValidationCode.containsKey(validationCode);
+    }
+
+    void register(final String validationCode, final String userName) {
+        val now = nanoClock.getAsLong();
+        val entry = new Entry(userName);
+        entry.lastAccessNanos = now;
+        entryByValidationCode.put(validationCode, entry);
+        if(entryByValidationCode.size() > maxSessions
+                || now - nextPruneNanos >= 0) {
+            prune(now);
+        }
+    }
+
+    /**
+     * @return the user name of the session with given validation code, or <code>null</code> if there
+     * is no such session or if it has expired; otherwise the session counts as used.
+     */
+    String lookupUserName(final String validationCode) {
+        if(validationCode == null) {
+            return null;
+        }
+        val entry = entryByValidationCode.get(validationCode);
+        if(entry == null) {
+            return null;
+        }
+        val now = nanoClock.getAsLong();
+        if(isExpired(entry, now)) {
+            entryByValidationCode.remove(validationCode, entry);
+            return null;
+        }
+        entry.lastAccessNanos = now;
+        return entry.userName;
+    }
+
+    void remove(final String validationCode) {
+        if(validationCode != null) {
+            entryByValidationCode.remove(validationCode);
+        }
+    }
+
+    int size() {
+        return entryByValidationCode.size();
+    }
+
+    // -- HELPER
+
+    private boolean isExpired(final Entry entry, final long now) {
+        return now - entry.lastAccessNanos >= idleTimeoutNanos;
+    }
+
+    private void prune(final long now) {
+        // one thread prunes at a time; the others need not wait for it
+        if(!pruning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            nextPruneNanos = now + idleTimeoutNanos;
+            entryByValidationCode.values().removeIf(entry->isExpired(entry, now));
+
+            val excess = entryByValidationCode.size() - maxSessions;
+            if(excess > 0) {
+                // make some room, so that we don't need to do this again on the very next registration
+                val toDiscard = excess + maxSessions / 10;
+                // snapshot the idle times, as the access times may change while sorting
+                entryByValidationCode.entrySet().stream()
+                .map(codeAndEntry->new SimpleImmutableEntry<>(
+                        codeAndEntry.getKey(), now - codeAndEntry.getValue().lastAccessNanos))
+                .sorted(Comparator.comparingLong(SimpleImmutableEntry<String, Long>::getValue).reversed())
+                .limit(toDiscard)
+                .map(SimpleImmutableEntry::getKey)
+                .forEach(entryByValidationCode::remove);
+            }
+        } finally {
+            pruning.set(false);
+        }
+    }
+
+}
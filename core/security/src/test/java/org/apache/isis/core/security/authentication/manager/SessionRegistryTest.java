@@ -0,0 +1,96 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.core.security.authentication.manager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SessionRegistryTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private SessionRegistry registry;
+
+    @Before
+    public void setUp() throws Exception {
+        registry = new SessionRegistry(3, Duration.ofMinutes(10), nanoTime::get);
+    }
+
+    @Test
+    public void registeredSession_isLookedUp() throws Exception {
+        registry.register("code-1", "sven");
+
+        assertThat(registry.lookupUserName("code-1"), is("sven"));
+        assertThat(registry.lookupUserName("code-2"), is(nullValue()));
+    }
+
+    @Test
+    public void idleSession_expires() throws Exception {
+        registry.register("code-1", "sven");
+
+        advance(Duration.ofMinutes(9));
+        assertThat(registry.lookupUserName("code-1"), is("sven"));
+
+        // the lookup above counts as use
+        advance(Duration.ofMinutes(9));
+        assertThat(registry.lookupUserName("code-1"), is("sven"));
+
+        advance(Duration.ofMinutes(10));
+        assertThat(registry.lookupUserName("code-1"), is(nullValue()));
+        assertThat(registry.size(), is(0));
+    }
+
+    @Test
+    public void whenFull_leastRecentlyUsedSessions_areDiscarded() throws Exception {
+        registry.register("code-1", "sven");
+        advance(Duration.ofSeconds(1));
+        registry.register("code-2", "dick");
+        advance(Duration.ofSeconds(1));
+        registry.register("code-3", "bob");
+        advance(Duration.ofSeconds(1));
+        registry.lookupUserName("code-1");
+        advance(Duration.ofSeconds(1));
+
+        registry.register("code-4", "joe");
+
+        assertThat(registry.size(), is(3));
+        assertThat(registry.lookupUserName("code-2"), is(nullValue()));
+        assertThat(registry.lookupUserName("code-1"), is("sven"));
+        assertThat(registry.lookupUserName("code-4"), is("joe"));
+    }
+
+    @Test
+    public void removedSession_isNoLongerLookedUp() throws Exception {
+        registry.register("code-1", "sven");
+        registry.remove("code-1");
+
+        assertThat(registry.lookupUserName("code-1"), is(nullValue()));
+    }
+
+    private void advance(final Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.isis.extensions.secman.api;
 
+import java.time.Duration;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -75,6 +76,32 @@ public class SecurityModuleConfig {
     @Getter @Builder.Default 
     final boolean autoEnableIfDelegatedAndAuthenticated = false;
 
+    // -- AUTHENTICATION
+
+    /**
+     * How long a successfully verified user name and password combination (of a local user) 
+     * is remembered, so that clients authenticating on every request (eg. REST clients using
+     * basic auth) need not have their password checked each time.
+     * <p>
+     * The user is still looked up each time; a remembered combination no longer applies once 
+     * the user's password or status have changed.
+     * <p>
+     * default: zero, ie. disabled
+     *
+     */
+    @Getter @Builder.Default @NonNull
+    final Duration verifiedCredentialsTimeToLive = Duration.ZERO;
+
+    /**
+     * The maximum number of verified user name and password combinations remembered.
+     * <p>
+     * default: 1000
+     *
+     * @see #getVerifiedCredentialsTimeToLive()
+     */
+    @Getter @Builder.Default
+    final int verifiedCredentialsMaxSize = 1000;
+
     // -- UTILITIES
     
     public Stream<String> streamAdminPackagePermissions() {
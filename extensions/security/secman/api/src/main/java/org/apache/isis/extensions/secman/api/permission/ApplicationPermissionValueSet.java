@@ -22,6 +22,8 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.isis.applib.annotation.Programmatic;
 import org.apache.isis.commons.internal.collections._Lists;
@@ -95,6 +97,11 @@ public static abstract class ActionDomainEvent extends IsisModuleExtSecmanApi.Ac
      */
     private PermissionsEvaluationService permissionsEvaluationService;
 
+    /**
+     * The evaluations made so far, by feature; see {@link #decisions()}.
+     */
+    private transient Decisions decisions;
+
 
     // -- constructor
 
@@ -136,10 +143,22 @@ public boolean grants(final ApplicationFeatureId featureId, final ApplicationPer
         return evaluate(featureId, mode).isGranted();
     }
 
+    /**
+     * As permission sets are immutable, the outcome for any feature and mode never changes; hence these are 
+     * evaluated only once, and then looked up.
+     */
     @Programmatic
     public Evaluation evaluate(
             final ApplicationFeatureId featureId,
             final ApplicationPermissionMode mode) {
+        return decisions()
+                .evaluationByFeature(mode)
+                .computeIfAbsent(featureId, __->evaluateUncached(featureId, mode));
+    }
+
+    private Evaluation evaluateUncached(
+            final ApplicationFeatureId featureId,
+            final ApplicationPermissionMode mode) {
         final List<ApplicationFeatureId> pathIds = featureId.getPathIds();
         for (final ApplicationFeatureId pathId : pathIds) {
             final Collection<ApplicationPermissionValue> permissionValues = permissionsByFeature.get(pathId);
@@ -152,6 +171,33 @@ public Evaluation evaluate(
     }
 
 
+    // -- decisions
+
+    static final class Decisions {
+        private final Map<ApplicationFeatureId, Evaluation> evaluationByFeatureWhenViewing = new ConcurrentHashMap<>();
+        private final Map<ApplicationFeatureId, Evaluation> evaluationByFeatureWhenChanging = new ConcurrentHashMap<>();
+
+        Map<ApplicationFeatureId, Evaluation> evaluationByFeature(final ApplicationPermissionMode mode) {
+            return mode == ApplicationPermissionMode.CHANGING
+                    ? evaluationByFeatureWhenChanging
+                    : evaluationByFeatureWhenViewing;
+        }
+    }
+
+    /**
+     * The decisions are shared among all equal permission sets (eg. those of any users having the same roles), 
+     * as these are typically recreated on every login; these are held by the 
+     * {@link PermissionsEvaluationServiceAbstract evaluation service}, if it supports doing so.
+     */
+    private Decisions decisions() {
+        if(decisions == null) {
+            decisions = permissionsEvaluationService instanceof PermissionsEvaluationServiceAbstract
+                    ? ((PermissionsEvaluationServiceAbstract) permissionsEvaluationService).decisionsFor(values)
+                    : new Decisions();
+        }
+        return decisions;
+    }
+
     // -- equals, hashCode, toString
     @Override
     public boolean equals(final Object o) {
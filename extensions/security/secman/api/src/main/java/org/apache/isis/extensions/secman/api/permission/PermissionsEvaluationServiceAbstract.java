@@ -19,6 +19,9 @@
 package org.apache.isis.extensions.secman.api.permission;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.core.metamodel.services.appfeat.ApplicationFeatureId;
@@ -27,6 +30,15 @@ public abstract class PermissionsEvaluationServiceAbstract implements Permission
 
     private static final long serialVersionUID = 1L;
 
+    static final int MAX_SHARED_DECISIONS = 256;
+
+    /**
+     * The decisions made for equal {@link ApplicationPermissionValueSet permission sets}, by their values;
+     * those used least recently are discarded once too many have been accumulated (eg. because permissions
+     * changed, yielding sets no longer equal to the previous ones).
+     */
+    private transient Map<List<ApplicationPermissionValue>, ApplicationPermissionValueSet.Decisions> decisionsByValues;
+
     @Override
     public ApplicationPermissionValueSet.Evaluation evaluate(
             final ApplicationFeatureId targetMemberId,
@@ -49,6 +61,22 @@ public ApplicationPermissionValueSet.Evaluation evaluate(
         return null;
     }
 
+    synchronized ApplicationPermissionValueSet.Decisions decisionsFor(final List<ApplicationPermissionValue> values) {
+        if(decisionsByValues == null) {
+            // not serialized
+            decisionsByValues = new LinkedHashMap<List<ApplicationPermissionValue>, ApplicationPermissionValueSet.Decisions>(
+                    16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+                @Override
+                protected boolean removeEldestEntry(
+                        final Map.Entry<List<ApplicationPermissionValue>, ApplicationPermissionValueSet.Decisions> eldest) {
+                    return size() > MAX_SHARED_DECISIONS;
+                }
+            };
+        }
+        return decisionsByValues.computeIfAbsent(values, __->new ApplicationPermissionValueSet.Decisions());
+    }
+
     protected abstract Collection<ApplicationPermissionValue> ordered(
             Collection<ApplicationPermissionValue> permissionValues);
 
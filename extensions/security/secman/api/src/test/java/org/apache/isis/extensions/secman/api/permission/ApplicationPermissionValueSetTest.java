@@ -0,0 +1,112 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.secman.api.permission;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.core.metamodel.services.appfeat.ApplicationFeatureId;
+
+import lombok.val;
+
+class ApplicationPermissionValueSetTest {
+
+    static class CountingPermissionsEvaluationService extends PermissionsEvaluationServiceAllowBeatsVeto {
+        private static final long serialVersionUID = 1L;
+        final AtomicInteger evaluationCount = new AtomicInteger();
+        @Override
+        protected Collection<ApplicationPermissionValue> ordered(
+                final Collection<ApplicationPermissionValue> permissionValues) {
+            evaluationCount.incrementAndGet();
+            return super.ordered(permissionValues);
+        }
+    }
+
+    private final ApplicationFeatureId customerName = ApplicationFeatureId.newMember("com.foo.Customer", "name");
+
+    private CountingPermissionsEvaluationService evaluationService;
+
+    @BeforeEach
+    void setUp() {
+        evaluationService = new CountingPermissionsEvaluationService();
+    }
+
+    @Test
+    void equalSets_shareDecisions() {
+        val first = permissionSet(viewing("com.foo"));
+        val second = permissionSet(viewing("com.foo"));
+
+        assertTrue(first.grants(customerName, ApplicationPermissionMode.VIEWING));
+        assertEquals(1, evaluationService.evaluationCount.get());
+
+        assertTrue(second.grants(customerName, ApplicationPermissionMode.VIEWING));
+        assertEquals(1, evaluationService.evaluationCount.get());
+    }
+
+    @Test
+    void differentSets_haveOwnDecisions() {
+        val viewingFoo = permissionSet(viewing("com.foo"));
+        val viewingBar = permissionSet(viewing("com.bar"));
+
+        assertTrue(viewingFoo.grants(customerName, ApplicationPermissionMode.VIEWING));
+        assertFalse(viewingBar.grants(customerName, ApplicationPermissionMode.VIEWING));
+    }
+
+    @Test
+    void decisions_remainCorrect_afterEviction() {
+        val viewingFoo = permissionSet(viewing("com.foo"));
+        assertTrue(viewingFoo.grants(customerName, ApplicationPermissionMode.VIEWING));
+
+        // crowd out the decisions of the above
+        for (int i = 0; i < PermissionsEvaluationServiceAbstract.MAX_SHARED_DECISIONS; i++) {
+            permissionSet(viewing("com.other" + i)).grants(customerName, ApplicationPermissionMode.VIEWING);
+        }
+        val evaluationCount = evaluationService.evaluationCount.get();
+
+        val viewingFooAgain = permissionSet(viewing("com.foo"));
+        assertTrue(viewingFooAgain.grants(customerName, ApplicationPermissionMode.VIEWING));
+        assertFalse(viewingFooAgain.grants(customerName, ApplicationPermissionMode.CHANGING));
+        // evaluated afresh
+        assertTrue(evaluationService.evaluationCount.get() > evaluationCount);
+    }
+
+    // -- HELPER
+
+    private ApplicationPermissionValueSet permissionSet(final ApplicationPermissionValue permissionValue) {
+        final List<ApplicationPermissionValue> permissionValues = Collections.singletonList(permissionValue);
+        return new ApplicationPermissionValueSet(permissionValues, evaluationService);
+    }
+
+    private static ApplicationPermissionValue viewing(final String packageFqn) {
+        return new ApplicationPermissionValue(
+                ApplicationFeatureId.newPackage(packageFqn),
+                ApplicationPermissionRule.ALLOW,
+                ApplicationPermissionMode.VIEWING);
+    }
+
+}
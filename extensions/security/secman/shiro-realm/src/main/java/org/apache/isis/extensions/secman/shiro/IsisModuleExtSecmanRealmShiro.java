@@ -25,7 +25,8 @@
 
 @Configuration
 @Import({
-    SecurityRealmServiceUsingShiro.class
+    SecurityRealmServiceUsingShiro.class,
+    VerifiedCredentialsCache.class
 })
 public class IsisModuleExtSecmanRealmShiro {
 
@@ -66,6 +66,7 @@ public class IsisModuleExtSecmanShiroRealm extends AuthorizingRealm implements S
     @Inject protected PlatformTransactionManager txMan;
     @Inject private SecurityModuleConfig configBean;
 	@Inject protected IsisConfiguration isisConfiguration;
+    @Inject private VerifiedCredentialsCache verifiedCredentialsCache;
     
     @Getter @Setter private AuthenticatingRealm delegateAuthenticationRealm;
     @Getter @Setter private boolean autoCreateUser = true;
@@ -106,7 +107,7 @@ protected AuthenticationInfo doGetAuthenticationInfo(AuthenticationToken token)
                 return AuthInfoForApplicationUser.of(alreadyAuthenticatedPrincipal, realmName, credentials);
             }
         }
-        
+
         // lookup from database, for roles/perms
         PrincipalForApplicationUser principal = lookupPrincipal_inApplicationUserRepository(username);
 
@@ -139,16 +140,28 @@ protected AuthenticationInfo doGetAuthenticationInfo(AuthenticationToken token)
         if(principal.getAccountType() == AccountType.DELEGATED) {
             authenticateElseThrow_usingDelegatedMechanism(token);
         } else {
-            val checkPasswordResult = checkPassword(password, principal.getEncryptedPassword());
-            switch (checkPasswordResult) {
-            case OK:
-                break;
-            case BAD_PASSWORD:
-                throw credentialsException();
-            case NO_PASSWORD_ENCRYPTION_SERVICE_CONFIGURED:
-                throw new AuthenticationException("No password encryption service is installed");
-            default:
-                throw new AuthenticationException();
+            // optional: skip the (expensive) password check, if passed just recently against the very same
+            // stored password and user status (eg. REST clients using basic auth authenticate on every request)
+            val recentlyVerified = verifiedCredentialsCache != null
+                    && verifiedCredentialsCache.isVerified(
+                            username, password, principal.getEncryptedPassword(), principal.getStatus());
+            if(!recentlyVerified) {
+                val checkPasswordResult = checkPassword(password, principal.getEncryptedPassword());
+                switch (checkPasswordResult) {
+                case OK:
+                    break;
+                case BAD_PASSWORD:
+                    throw credentialsException();
+                case NO_PASSWORD_ENCRYPTION_SERVICE_CONFIGURED:
+                    throw new AuthenticationException("No password encryption service is installed");
+                default:
+                    throw new AuthenticationException();
+                }
+                // delegated accounts are not remembered, as their passwords are managed elsewhere
+                if(verifiedCredentialsCache != null) {
+                    verifiedCredentialsCache.putVerified(
+                            username, password, principal.getEncryptedPassword(), principal.getStatus());
+                }
             }
         }
 
@@ -0,0 +1,163 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.secman.shiro;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.commons.internal.exceptions._Exceptions;
+import org.apache.isis.extensions.secman.api.SecurityModuleConfig;
+import org.apache.isis.extensions.secman.api.user.ApplicationUserStatus;
+
+import lombok.val;
+
+/**
+ * Remembers, for a short while, the password checks recently passed by {@link IsisModuleExtSecmanShiroRealm},
+ * so that (the expensive) password hashing can be skipped.
+ *
+ * <p>
+ * A check is remembered for the user name and password as entered, along with the user's stored (encrypted)
+ * password and status, as read from the user repository at the time. The realm still reads the user (and with
+ * it its roles and permissions) on every authentication; a check is only matched again as long as neither the
+ * stored password nor the status of the user have changed since.
+ *
+ * <p>
+ * Checks are held by a salted hash only, never in clear. Enabled only if
+ * {@link SecurityModuleConfig#getVerifiedCredentialsTimeToLive()} is positive.
+ */
+@Service
+@Named("isisExtSecman.VerifiedCredentialsCache")
+@Order(OrderPrecedence.MIDPOINT)
+@Qualifier("Default")
+public class VerifiedCredentialsCache {
+
+    private final SecurityModuleConfig configBean;
+
+    private final Map<String, Long> expiresAtNanosByCheckHash = new ConcurrentHashMap<>();
+    private final byte[] salt = new byte[16];
+
+    @Inject
+    public VerifiedCredentialsCache(final SecurityModuleConfig configBean) {
+        this.configBean = configBean;
+        new SecureRandom().nextBytes(salt);
+    }
+
+    public void invalidateAll() {
+        expiresAtNanosByCheckHash.clear();
+    }
+
+    // -- LOOKUP
+
+    /**
+     * @return whether given password was checked recently against given stored password, 
+     * with the user having had given status 
+     */
+    boolean isVerified(
+            final String username, 
+            final char[] password, 
+            final String encryptedPassword, 
+            final ApplicationUserStatus status) {
+        if(!isEnabled()
+                || username == null
+                || password == null) {
+            return false;
+        }
+        val checkHash = hash(username, password, encryptedPassword, status);
+        val expiresAtNanos = expiresAtNanosByCheckHash.get(checkHash);
+        if(expiresAtNanos == null) {
+            return false;
+        }
+        if(System.nanoTime() - expiresAtNanos >= 0) {
+            expiresAtNanosByCheckHash.remove(checkHash, expiresAtNanos);
+            return false;
+        }
+        return true;
+    }
+
+    void putVerified(
+            final String username, 
+            final char[] password, 
+            final String encryptedPassword, 
+            final ApplicationUserStatus status) {
+        if(!isEnabled()
+                || username == null
+                || password == null) {
+            return;
+        }
+        val now = System.nanoTime();
+        if(expiresAtNanosByCheckHash.size() >= configBean.getVerifiedCredentialsMaxSize()) {
+            expiresAtNanosByCheckHash.values().removeIf(expiresAtNanos->now - expiresAtNanos >= 0);
+            if(expiresAtNanosByCheckHash.size() >= configBean.getVerifiedCredentialsMaxSize()) {
+                // rather than tracking usage, just start over
+                invalidateAll();
+            }
+        }
+        val timeToLive = configBean.getVerifiedCredentialsTimeToLive();
+        expiresAtNanosByCheckHash.put(
+                hash(username, password, encryptedPassword, status), 
+                now + timeToLive.toNanos());
+    }
+
+    // -- HELPER
+
+    private boolean isEnabled() {
+        return configBean != null
+                && !configBean.getVerifiedCredentialsTimeToLive().isNegative()
+                && !configBean.getVerifiedCredentialsTimeToLive().isZero();
+    }
+
+    private String hash(
+            final String username, 
+            final char[] password, 
+            final String encryptedPassword, 
+            final ApplicationUserStatus status) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw _Exceptions.unrecoverable(e);
+        }
+        digest.update(salt);
+        digest.update(username.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0); // separates user name from password
+        final ByteBuffer passwordBytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(password));
+        digest.update(passwordBytes);
+        digest.update((byte) 0);
+        digest.update(String.valueOf(encryptedPassword).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(String.valueOf(status).getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.extensions.secman.shiro;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.isis.extensions.secman.api.SecurityModuleConfig;
+import org.apache.isis.extensions.secman.api.user.ApplicationUserStatus;
+
+class VerifiedCredentialsCacheTest {
+
+    private VerifiedCredentialsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VerifiedCredentialsCache(SecurityModuleConfig.builder()
+                .verifiedCredentialsTimeToLive(Duration.ofMinutes(1))
+                .build());
+        cache.putVerified("sven", "pass".toCharArray(), "{bcrypt}hash-1", ApplicationUserStatus.ENABLED);
+    }
+
+    @Test
+    void hit_whenUnchanged() {
+        assertTrue(cache.isVerified("sven", "pass".toCharArray(), "{bcrypt}hash-1", ApplicationUserStatus.ENABLED));
+    }
+
+    @Test
+    void miss_whenOtherPasswordEntered() {
+        assertFalse(cache.isVerified("sven", "wrong".toCharArray(), "{bcrypt}hash-1", ApplicationUserStatus.ENABLED));
+    }
+
+    @Test
+    void miss_afterPasswordChange() {
+        assertFalse(cache.isVerified("sven", "pass".toCharArray(), "{bcrypt}hash-2", ApplicationUserStatus.ENABLED));
+    }
+
+    @Test
+    void miss_afterLock() {
+        assertFalse(cache.isVerified("sven", "pass".toCharArray(), "{bcrypt}hash-1", ApplicationUserStatus.DISABLED));
+    }
+
+    @Test
+    void miss_whenDisabled() {
+        cache = new VerifiedCredentialsCache(SecurityModuleConfig.builder().build());
+        cache.putVerified("sven", "pass".toCharArray(), "{bcrypt}hash-1", ApplicationUserStatus.ENABLED);
+
+        assertFalse(cache.isVerified("sven", "pass".toCharArray(), "{bcrypt}hash-1", ApplicationUserStatus.ENABLED));
+    }
+
+}
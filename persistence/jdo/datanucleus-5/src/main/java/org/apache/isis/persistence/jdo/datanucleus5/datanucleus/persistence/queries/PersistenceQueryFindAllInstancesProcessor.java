@@ -18,6 +18,8 @@
  */
 package org.apache.isis.persistence.jdo.datanucleus5.datanucleus.persistence.queries;
 
+import java.util.stream.Stream;
+
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.persistence.jdo.datanucleus5.persistence.PersistenceSession5;
@@ -53,5 +55,25 @@ public Can<ManagedObject> process(final PersistenceQueryFindAllInstances persist
         return loadAdapters(pojos);
 
     }
+    
+    @Override
+    public Stream<ManagedObject> stream(final PersistenceQueryFindAllInstances persistenceQuery) {
+        
+        val spec = persistenceQuery.getSpecification();
+        val cls = spec.getCorrespondingClass();
+        
+        val serviceRegistry = spec.getMetaModelContext().getServiceRegistry();
+        val isisJdoSupport = isisJdoSupport(serviceRegistry);
+
+        val typesafeQuery = isisJdoSupport.newTypesafeQuery(cls);
+        isisJdoSupport.disableMultivaluedFetch(typesafeQuery); // fetch optimization
+        configureForStreaming(spec, typesafeQuery.getFetchPlan(), typesafeQuery::extension);
+
+        if (log.isDebugEnabled()) {
+            log.debug("streamInstances(): class={}", spec.getFullIdentifier());
+        }
+        
+        return streamAdapters(typesafeQuery.executeList(), typesafeQuery::closeAll);
+    }
 
 }
@@ -0,0 +1,164 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.datanucleus5.datanucleus.persistence.queries;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.jdo.Query;
+
+import org.apache.isis.applib.query.Criteria;
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.commons.internal.collections._Lists;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.core.metamodel.services.container.query.QueryCardinality;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.persistence.jdo.datanucleus5.persistence.PersistenceSession5;
+import org.apache.isis.persistence.jdo.datanucleus5.persistence.query.PersistenceQueryFindByCriteria;
+
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Translates {@link Criteria} into a JDOQL filter (using implicit parameters), with the range 
+ * applied server-side.
+ * 
+ * @since 2.0
+ */
+@Log4j2
+public class PersistenceQueryFindByCriteriaProcessor extends PersistenceQueryProcessorAbstract<PersistenceQueryFindByCriteria> {
+
+    public PersistenceQueryFindByCriteriaProcessor(final PersistenceSession5 persistenceSession) {
+        super(persistenceSession);
+    }
+
+    @Override
+    public Can<ManagedObject> process(final PersistenceQueryFindByCriteria persistenceQuery) {
+        
+        val argumentsByParameterName = _Maps.<String, Object>newHashMap();
+        val jdoQuery = newJdoQuery(persistenceQuery, argumentsByParameterName);
+        
+        try {
+            final List<?> results = (List<?>) jdoQuery.executeWithMap(argumentsByParameterName);
+            return loadAdapters(results != null 
+                    ? _Lists.newArrayList(results) 
+                    : Collections.emptyList());
+        } finally {
+            jdoQuery.closeAll();
+        }
+    }
+    
+    @Override
+    public Stream<ManagedObject> stream(final PersistenceQueryFindByCriteria persistenceQuery) {
+        
+        val argumentsByParameterName = _Maps.<String, Object>newHashMap();
+        val jdoQuery = newJdoQuery(persistenceQuery, argumentsByParameterName);
+        configureForStreaming(persistenceQuery.getSpecification(), jdoQuery.getFetchPlan(), jdoQuery::addExtension);
+        
+        try {
+            final List<?> results = (List<?>) jdoQuery.executeWithMap(argumentsByParameterName);
+            if(results == null) {
+                jdoQuery.closeAll();
+                return Stream.empty();
+            }
+            return streamAdapters(results, jdoQuery::closeAll);
+        } catch (RuntimeException e) {
+            jdoQuery.closeAll();
+            throw e;
+        }
+    }
+    
+    // -- HELPER
+    
+    private Query<?> newJdoQuery(
+            final PersistenceQueryFindByCriteria persistenceQuery,
+            final Map<String, Object> argumentsByParameterName) {
+        
+        val spec = persistenceQuery.getSpecification();
+        val cls = spec.getCorrespondingClass();
+        val filter = toFilter(persistenceQuery.getCriteria(), argumentsByParameterName);
+        
+        val serviceRegistry = spec.getMetaModelContext().getServiceRegistry();
+        val isisJdoSupport = isisJdoSupport(serviceRegistry);
+        
+        final Query<?> jdoQuery = filter.isEmpty()
+                ? persistenceSession.newJdoQuery(cls)
+                : persistenceSession.newJdoQuery(cls, filter);
+        isisJdoSupport.disableMultivaluedFetch(jdoQuery); // fetch optimization
+        
+        val start = persistenceQuery.getStart();
+        val end = persistenceQuery.getCardinality() == QueryCardinality.SINGLE
+                ? start + 1
+                : persistenceQuery.getEnd();
+        if(start>0 || end<Integer.MAX_VALUE) {
+            jdoQuery.setRange(start, end);
+        }
+        
+        if (log.isDebugEnabled()) {
+            log.debug("{} where {} ( {} ) range [{}, {})", cls.getName(), filter, argumentsByParameterName, start, end);
+        }
+        
+        return jdoQuery;
+    }
+    
+    /**
+     * Renders given {@code criteria} as JDOQL filter, collecting the operands as implicit parameters.
+     */
+    static String toFilter(
+            final Criteria<?> criteria,
+            final Map<String, Object> argumentsByParameterName) {
+        
+        val filter = new StringBuilder();
+        for(val criterion : criteria.getCriteria()) {
+            if(filter.length()>0) {
+                filter.append(" && ");
+            }
+            filter.append(criterion.getPropertyName()).append(' ');
+            switch (criterion.getOperator()) {
+            case IS_NULL:
+                filter.append("== null");
+                continue;
+            case IS_NOT_NULL:
+                filter.append("!= null");
+                continue;
+            default:
+                val parameterName = "p" + argumentsByParameterName.size();
+                argumentsByParameterName.put(parameterName, criterion.getOperand());
+                filter.append(toJdoql(criterion.getOperator())).append(" :").append(parameterName);
+            }
+        }
+        return filter.toString();
+    }
+    
+    private static String toJdoql(final Criteria.Operator operator) {
+        switch (operator) {
+        case EQ: return "==";
+        case NE: return "!=";
+        case LT: return "<";
+        case LE: return "<=";
+        case GT: return ">";
+        case GE: return ">=";
+        default: 
+            throw new IllegalArgumentException("not a binary operator " + operator);
+        }
+    }
+
+}
@@ -21,6 +21,7 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import javax.jdo.Query;
 
@@ -61,6 +62,37 @@ public Can<ManagedObject> process(final PersistenceQueryFindUsingApplibQueryDefa
 
         return loadAdapters(results);
     }
+    
+    @Override
+    public Stream<ManagedObject> stream(final PersistenceQueryFindUsingApplibQueryDefault persistenceQuery) {
+        final String queryName = persistenceQuery.getQueryName();
+        final ObjectSpecification objectSpec = persistenceQuery.getSpecification();
+
+        if((objectSpec.getFullIdentifier() + "#pk").equals(queryName)) {
+            return loadAdapters(getResultsPk(persistenceQuery)).stream(); // at most a single result
+        }
+        
+        final Map<String, Object> argumentsByParameterName = unwrap(
+                persistenceQuery.getArgumentsAdaptersByParameterName());
+        final Query<?> jdoQuery = newJdoNamedQuery(persistenceQuery, argumentsByParameterName);
+        configureForStreaming(objectSpec, jdoQuery.getFetchPlan(), jdoQuery::addExtension);
+
+        try {
+            final List<?> results = (List<?>) jdoQuery.executeWithMap(argumentsByParameterName);
+            if(results == null) {
+                jdoQuery.closeAll();
+                return Stream.empty();
+            }
+            final List<?> resultsToStream =
+                    persistenceQuery.getCardinality() == QueryCardinality.MULTIPLE
+                    ? results
+                            : firstIfAnyOf(results);
+            return streamAdapters(resultsToStream, jdoQuery::closeAll);
+        } catch (RuntimeException e) {
+            jdoQuery.closeAll();
+            throw e;
+        }
+    }
 
     // -- HELPER
 
@@ -102,10 +134,31 @@ private List<?> getResultsPk(final PersistenceQueryFindUsingApplibQueryDefault p
 
     private List<?> getResults(final PersistenceQueryFindUsingApplibQueryDefault persistenceQuery) {
 
-        val queryName = persistenceQuery.getQueryName();
         final Map<String, Object> argumentsByParameterName = unwrap(
                 persistenceQuery.getArgumentsAdaptersByParameterName());
         final QueryCardinality cardinality = persistenceQuery.getCardinality();
+        final Query<?> jdoQuery = newJdoNamedQuery(persistenceQuery, argumentsByParameterName);
+
+        try {
+            final List<?> results = (List<?>) jdoQuery.executeWithMap(argumentsByParameterName);
+            if(results == null) {
+                return Collections.emptyList();
+            }
+            final List<?> resultsToReturn =
+                    cardinality == QueryCardinality.MULTIPLE
+                    ? results
+                            : firstIfAnyOf(results);
+            return _Lists.newArrayList(resultsToReturn);
+        } finally {
+            jdoQuery.closeAll();
+        }
+    }
+    
+    private Query<?> newJdoNamedQuery(
+            final PersistenceQueryFindUsingApplibQueryDefault persistenceQuery,
+            final Map<String, Object> argumentsByParameterName) {
+        
+        val queryName = persistenceQuery.getQueryName();
         val spec = persistenceQuery.getSpecification();
         val cls = spec.getCorrespondingClass();
         
@@ -125,20 +178,8 @@ private List<?> getResults(final PersistenceQueryFindUsingApplibQueryDefault per
         if (log.isDebugEnabled()) {
             log.debug("{} # {} ( {} )", cls.getName(), queryName, argumentsByParameterName);
         }
-
-        try {
-            final List<?> results = (List<?>) jdoQuery.executeWithMap(argumentsByParameterName);
-            if(results == null) {
-                return Collections.emptyList();
-            }
-            final List<?> resultsToReturn =
-                    cardinality == QueryCardinality.MULTIPLE
-                    ? results
-                            : firstIfAnyOf(results);
-            return _Lists.newArrayList(resultsToReturn);
-        } finally {
-            jdoQuery.closeAll();
-        }
+        
+        return jdoQuery;
     }
 
     private List<?> firstIfAnyOf(final List<?> results) {
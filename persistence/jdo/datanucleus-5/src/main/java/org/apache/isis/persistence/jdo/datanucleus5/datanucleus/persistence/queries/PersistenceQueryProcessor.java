@@ -18,6 +18,8 @@
  */
 package org.apache.isis.persistence.jdo.datanucleus5.datanucleus.persistence.queries;
 
+import java.util.stream.Stream;
+
 import org.apache.isis.commons.collections.Can;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.persistence.jdo.datanucleus5.persistence.query.PersistenceQuery;
@@ -25,5 +27,14 @@
 public interface PersistenceQueryProcessor<T extends PersistenceQuery> {
     
     Can<ManagedObject> process(T query);
+    
+    /**
+     * As {@link #process(PersistenceQuery)}, but adapting the query results lazily, as the returned 
+     * stream is consumed. By default the fully materialized result is streamed.
+     * @return a stream that should be closed once done with
+     */
+    default Stream<ManagedObject> stream(T query) {
+        return process(query).stream();
+    }
 }
 
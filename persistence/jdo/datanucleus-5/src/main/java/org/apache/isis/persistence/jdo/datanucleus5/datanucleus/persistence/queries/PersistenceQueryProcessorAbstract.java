@@ -19,7 +19,13 @@
 package org.apache.isis.persistence.jdo.datanucleus5.datanucleus.persistence.queries;
 
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import javax.jdo.FetchPlan;
 import javax.jdo.listener.InstanceLifecycleEvent;
 
 import org.datanucleus.enhancement.Persistable;
@@ -29,6 +35,7 @@
 import org.apache.isis.commons.internal.assertions._Assert;
 import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.persistence.jdo.applib.services.IsisJdoSupport_v3_2;
 import org.apache.isis.persistence.jdo.datanucleus5.objectadapter.ObjectAdapter;
 import org.apache.isis.persistence.jdo.datanucleus5.persistence.IsisLifecycleListener;
@@ -56,28 +63,66 @@ protected PersistenceQueryProcessorAbstract(final PersistenceSession5 persistenc
     protected Can<ManagedObject> loadAdapters(final List<?> pojos) {
         val adapters = _Lists.<ManagedObject>newArrayList();
         for (val pojo : pojos) {
-            // ought not to be necessary, however for some queries it seems that the
-            // lifecycle listener is not called
-            ObjectAdapter adapter;
-            if(pojo instanceof Persistable) {
-                // an entity
-                adapter = persistenceSession.initializeEntity((Persistable) pojo);
-                _Assert.assertNotNull(adapter);
-            } else {
-                // a value type
-                adapter = persistenceSession.adapterFor(pojo);
-                _Assert.assertNotNull(adapter);
-            }
-            adapters.add(adapter);
+            adapters.add(loadAdapter(pojo));
         }
         return Can.ofCollection(adapters);
     }
+    
+    /**
+     * As {@link #loadAdapters(List)}, but lazily, as the returned stream is consumed. 
+     * <p>
+     * Only ever iterates the provided (typically lazy loading) list, such that rows are fetched from 
+     * the underlying cursor on demand.
+     * 
+     * @param onClose - to release the underlying query, once the stream is closed 
+     */
+    protected Stream<ManagedObject> streamAdapters(final List<?> pojos, final Runnable onClose) {
+        val spliterator = Spliterators.spliteratorUnknownSize(pojos.iterator(), Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false)
+                .map(this::loadAdapter)
+                .onClose(onClose);
+    }
+    
+    private ManagedObject loadAdapter(final Object pojo) {
+        // ought not to be necessary, however for some queries it seems that the
+        // lifecycle listener is not called
+        ObjectAdapter adapter;
+        if(pojo instanceof Persistable) {
+            // an entity
+            adapter = persistenceSession.initializeEntity((Persistable) pojo);
+            _Assert.assertNotNull(adapter);
+        } else {
+            // a value type
+            adapter = persistenceSession.adapterFor(pojo);
+            _Assert.assertNotNull(adapter);
+        }
+        return adapter;
+    }
 
     // -- HELPER
 
     protected static IsisJdoSupport_v3_2 isisJdoSupport(ServiceRegistry serviceRegistry) { 
         return serviceRegistry.lookupServiceElseFail(IsisJdoSupport_v3_2.class);
     }
+    
+    /**
+     * Configures given query for streaming, that is, rows are fetched in batches of the configured 
+     * fetch size, and are not retained by the (lazy loading) query result, once iterated over.
+     */
+    protected static void configureForStreaming(
+            final ObjectSpecification spec, 
+            final FetchPlan fetchPlan,
+            final BiConsumer<String, Object> extensionConsumer) {
+        
+        val fetchSize = spec.getMetaModelContext().getConfiguration()
+                .getCore().getRuntimeServices().getRepositoryService().getStreamFetchSize();
+        if(fetchSize>0) {
+            fetchPlan.setFetchSize(fetchSize);
+        }
+        extensionConsumer.accept(QUERY_RESULT_CACHE_TYPE, "none");
+    }
+    
+    private static final String QUERY_RESULT_CACHE_TYPE = "datanucleus.query.resultCacheType";
 
 
 }
@@ -19,7 +19,10 @@
 package org.apache.isis.persistence.jdo.datanucleus5.metamodel.facets.object.persistencecapable;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import javax.jdo.annotations.IdentityType;
 
@@ -35,6 +38,7 @@
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.runtime.iactn.IsisInteractionTracker;
 import org.apache.isis.persistence.jdo.datanucleus5.metamodel.JdoMetamodelUtil;
+import org.apache.isis.persistence.jdo.datanucleus5.persistence.IsisStateManagerForJdo;
 
 import lombok.val;
 
@@ -63,6 +67,28 @@ public ManagedObject fetchByIdentifier(ObjectSpecification spec, String identifi
         return ManagedObject.identified(spec, pojo, rootOid);
     }
     
+    /**
+     * Fetches all entities with a single call to {@link javax.jdo.PersistenceManager#getObjectsById(java.util.Collection, boolean)}.
+     */
+    @Override
+    public Can<ManagedObject> fetchByIdentifiers(ObjectSpecification spec, Can<String> identifiers) {
+        
+        if(!spec.isEntity()) {
+            throw _Exceptions.unexpectedCodeReach();
+        }
+        
+        val persistenceSession = super.getPersistenceSessionJdo();
+        val rootOids = identifiers.map(identifier->Oid.Factory.root(spec.getSpecId(), identifier));
+        val pojoByOid = persistenceSession.fetchPersistentPojos(rootOids.toList());
+        
+        return rootOids.map(rootOid->{
+            val pojo = pojoByOid.get(rootOid);
+            return pojo!=null
+                    ? ManagedObject.identified(spec, pojo, rootOid)
+                    : ManagedObject.empty(spec);
+        });
+    }
+    
     @Override
     public Can<ManagedObject> fetchByQuery(ObjectSpecification spec, Query<?> query) {
         if(!spec.isEntity()) {
@@ -72,6 +98,15 @@ public Can<ManagedObject> fetchByQuery(ObjectSpecification spec, Query<?> query)
         return persistenceSession.allMatchingQuery(query);
     }
     
+    @Override
+    public Stream<ManagedObject> streamByQuery(ObjectSpecification spec, Query<?> query) {
+        if(!spec.isEntity()) {
+            throw _Exceptions.unexpectedCodeReach();
+        }
+        val persistenceSession = super.getPersistenceSessionJdo();
+        return persistenceSession.streamMatchingQuery(query);
+    }
+    
     @Override
     public String identifierFor(ObjectSpecification spec, Object pojo) {
 
@@ -130,6 +165,23 @@ public EntityState getEntityState(Object pojo) {
         return persistenceSession.getEntityState(pojo);
     }
 
+    /**
+     * Supported only if {@link IsisStateManagerForJdo} is installed as DataNucleus' state manager.
+     */
+    @Override
+    public boolean isTrackingChangedProperties(Object pojo) {
+        return stateManagerForJdo(pojo) != null;
+    }
+
+    /**
+     * Supported only if {@link IsisStateManagerForJdo} is installed as DataNucleus' state manager.
+     */
+    @Override
+    public Optional<Map<String, Object>> getOriginalValuesOfChangedProperties(Object pojo) {
+        return Optional.ofNullable(stateManagerForJdo(pojo))
+                .map(IsisStateManagerForJdo::getOriginalValuesOfChangedFields);
+    }
+
     @Override
     public <T> T detach(T pojo) {
         return super.getPersistenceSessionJdo().getJdoPersistenceManager().detachCopy(pojo);
@@ -141,6 +193,16 @@ private static boolean isPersistableType(Class<?> type) {
         return Persistable.class.isAssignableFrom(type);
     }
 
+    private static IsisStateManagerForJdo stateManagerForJdo(Object pojo) {
+        if(!(pojo instanceof Persistable)) {
+            return null;
+        }
+        val stateManager = ((Persistable)pojo).dnGetStateManager();
+        return stateManager instanceof IsisStateManagerForJdo
+                ? (IsisStateManagerForJdo)stateManager
+                : null;
+    }
+
     @Override
     public boolean isProxyEnhancement(Method method) {
         return JdoMetamodelUtil.isMethodProvidedByEnhancement(method);
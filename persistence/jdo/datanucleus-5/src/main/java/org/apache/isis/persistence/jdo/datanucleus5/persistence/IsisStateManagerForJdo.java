@@ -0,0 +1,217 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.datanucleus5.persistence;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.datanucleus.ExecutionContext;
+import org.datanucleus.PropertyNames;
+import org.datanucleus.Transaction;
+import org.datanucleus.enhancement.Persistable;
+import org.datanucleus.metadata.AbstractClassMetaData;
+import org.datanucleus.state.ReferentialStateManagerImpl;
+
+import lombok.val;
+
+/**
+ * DataNucleus state manager, that in addition tracks the original value of each field of a persistent
+ * entity as it is first changed within the current transaction; installed via
+ * {@link PropertyNames#PROPERTY_OBJECT_PROVIDER_CLASS_NAME}.
+ * <p>
+ * Memory is proportional to the number of fields changed, rather than to the width of the entity.
+ *
+ * @since 2.0
+ */
+public class IsisStateManagerForJdo extends ReferentialStateManagerImpl {
+
+    // field number -> value as of when first changed; lazily allocated
+    private Map<Integer, Object> originalValues;
+
+    public IsisStateManagerForJdo(final ExecutionContext ec, final AbstractClassMetaData cmd) {
+        super(ec, cmd);
+    }
+
+    /**
+     * The original values of the fields changed since the start of the current transaction,
+     * keyed by field name.
+     */
+    public Map<String, Object> getOriginalValuesOfChangedFields() {
+        if(originalValues==null) {
+            return Collections.emptyMap();
+        }
+        val originalValuesByName = new HashMap<String, Object>(originalValues.size() * 2);
+        originalValues.forEach((fieldNumber, originalValue)->{
+            val fieldName = cmd.getMetaDataForManagedMemberAtAbsolutePosition(fieldNumber).getName();
+            originalValuesByName.put(fieldName, originalValue);
+        });
+        return originalValuesByName;
+    }
+
+    // -- FIELD CHANGE INTERCEPTION
+
+    @Override
+    public void setBooleanField(Persistable pc, int fieldNumber, boolean currentValue, boolean newValue) {
+        if(isToBeTracked(pc, fieldNumber)) {
+            currentValue = (Boolean) trackOriginalValueIfChanged(fieldNumber, currentValue, newValue);
+        }
+        super.setBooleanField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setByteField(Persistable pc, int fieldNumber, byte currentValue, byte newValue) {
+        if(isToBeTracked(pc, fieldNumber)) {
+            currentValue = (Byte) trackOriginalValueIfChanged(fieldNumber, currentValue, newValue);
+        }
+        super.setByteField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setCharField(Persistable pc, int fieldNumber, char currentValue, char newValue) {
+        if(isToBeTracked(pc, fieldNumber)) {
+            currentValue = (Character) trackOriginalValueIfChanged(fieldNumber, currentValue, newValue);
+        }
+        super.setCharField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setDoubleField(Persistable pc, int fieldNumber, double currentValue, double newValue) {
+        if(isToBeTracked(pc, fieldNumber)) {
+            currentValue = (Double) trackOriginalValueIfChanged(fieldNumber, currentValue, newValue);
+        }
+        super.setDoubleField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setFloatField(Persistable pc, int fieldNumber, float currentValue, float newValue) {
+        if(isToBeTracked(pc, fieldNumber)) {
+            currentValue = (Float) trackOriginalValueIfChanged(fieldNumber, currentValue, newValue);
+        }
+        super.setFloatField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setIntField(Persistable pc, int fieldNumber, int currentValue, int newValue) {
+        if(isToBeTracked(pc, fieldNumber)) {
+            currentValue = (Integer) trackOriginalValueIfChanged(fieldNumber, currentValue, newValue);
+        }
+        super.setIntField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setLongField(Persistable pc, int fieldNumber, long currentValue, long newValue) {
+        if(isToBeTracked(pc, fieldNumber)) {
+            currentValue = (Long) trackOriginalValueIfChanged(fieldNumber, currentValue, newValue);
+        }
+        super.setLongField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setShortField(Persistable pc, int fieldNumber, short currentValue, short newValue) {
+        if(isToBeTracked(pc, fieldNumber)) {
+            currentValue = (Short) trackOriginalValueIfChanged(fieldNumber, currentValue, newValue);
+        }
+        super.setShortField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setStringField(Persistable pc, int fieldNumber, String currentValue, String newValue) {
+        if(isToBeTracked(pc, fieldNumber)) {
+            currentValue = (String) trackOriginalValueIfChanged(fieldNumber, currentValue, newValue);
+        }
+        super.setStringField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    @Override
+    public void setObjectField(Persistable pc, int fieldNumber, Object currentValue, Object newValue) {
+        if(isToBeTracked(pc, fieldNumber)) {
+            currentValue = trackOriginalValueIfChanged(fieldNumber, currentValue, newValue);
+        }
+        super.setObjectField(pc, fieldNumber, currentValue, newValue);
+    }
+
+    // -- LIFECYCLE
+
+    @Override
+    public void postCommit(Transaction tx) {
+        originalValues = null;
+        super.postCommit(tx);
+    }
+
+    @Override
+    public void preRollback(Transaction tx) {
+        originalValues = null;
+        super.preRollback(tx);
+    }
+
+    @Override
+    public void connect(ExecutionContext ec, AbstractClassMetaData cmd) {
+        originalValues = null;
+        super.connect(ec, cmd);
+    }
+
+    @Override
+    public void disconnect() {
+        originalValues = null;
+        super.disconnect();
+    }
+
+    // -- HELPER
+
+    /**
+     * Only fields of persistent (not new, not deleted) objects are tracked, each at most once per transaction.
+     */
+    private boolean isToBeTracked(
+            final Persistable pc,
+            final int fieldNumber) {
+
+        if(pc!=myPC
+                || myLC==null
+                || !myLC.isPersistent()
+                || myLC.isNew()
+                || myLC.isDeleted()) {
+            return false;
+        }
+        return originalValues==null
+                || !originalValues.containsKey(fieldNumber);
+    }
+
+    /**
+     * Records the field's current value as its original value, if it differs from the new value; a field
+     * not yet loaded is loaded first, as its unloaded value (the Java default) says nothing about the stored one.
+     * @return the field's current value
+     */
+    Object trackOriginalValueIfChanged(final int fieldNumber, Object currentValue, final Object newValue) {
+        if(!loadedFields[fieldNumber]) {
+            loadField(fieldNumber);
+            currentValue = provideField(fieldNumber);
+        }
+        if(Objects.equals(currentValue, newValue)) {
+            return currentValue;
+        }
+        if(originalValues==null) {
+            originalValues = new HashMap<>(4);
+        }
+        originalValues.put(fieldNumber, currentValue);
+        return currentValue;
+    }
+
+}
@@ -411,6 +411,9 @@ void commit() {
 
         setState(State.COMMITTED);
         
+        for (TransactionScopeListener listener : transactionScopeListeners) {
+            listener.onTransactionCommitted();
+        }
     }
 
     // -- abortCause, markAsAborted
@@ -21,6 +21,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.apache.isis.applib.query.Query;
 import org.apache.isis.applib.services.repository.EntityState;
@@ -89,6 +90,13 @@ default Object fetchPersistentPojoInTransaction(final RootOid oid) {
 
     Can<ManagedObject> allMatchingQuery(final Query<?> query);
     Optional<ManagedObject> firstMatchingQuery(final Query<?> query);
+    
+    /**
+     * As {@link #allMatchingQuery(Query)}, but adapting the query results lazily, as the returned 
+     * stream is consumed. The stream must be consumed within the current transaction.
+     * @since 2.0
+     */
+    Stream<ManagedObject> streamMatchingQuery(final Query<?> query);
 
     /**
      * Removes the specified object from the system. The specified object's data
@@ -27,6 +27,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 
@@ -34,13 +35,12 @@
 import javax.enterprise.inject.Vetoed;
 import javax.jdo.FetchGroup;
 import javax.jdo.FetchPlan;
+import javax.jdo.JDOObjectNotFoundException;
 import javax.jdo.PersistenceManager;
 import javax.jdo.PersistenceManagerFactory;
-import javax.jdo.identity.SingleFieldIdentity;
 
 import org.datanucleus.enhancement.Persistable;
 import org.datanucleus.exceptions.NucleusObjectNotFoundException;
-import org.datanucleus.identity.DatastoreIdImpl;
 
 import org.apache.isis.applib.query.Query;
 import org.apache.isis.applib.services.exceprecog.ExceptionRecognizer;
@@ -65,6 +65,7 @@
 import org.apache.isis.persistence.jdo.datanucleus5.datanucleus.persistence.commands.DataNucleusCreateObjectCommand;
 import org.apache.isis.persistence.jdo.datanucleus5.datanucleus.persistence.commands.DataNucleusDeleteObjectCommand;
 import org.apache.isis.persistence.jdo.datanucleus5.datanucleus.persistence.queries.PersistenceQueryFindAllInstancesProcessor;
+import org.apache.isis.persistence.jdo.datanucleus5.datanucleus.persistence.queries.PersistenceQueryFindByCriteriaProcessor;
 import org.apache.isis.persistence.jdo.datanucleus5.datanucleus.persistence.queries.PersistenceQueryFindUsingApplibQueryProcessor;
 import org.apache.isis.persistence.jdo.datanucleus5.datanucleus.persistence.queries.PersistenceQueryProcessor;
 import org.apache.isis.persistence.jdo.datanucleus5.datanucleus.persistence.spi.JdoObjectIdSerializer;
@@ -77,6 +78,7 @@
 import org.apache.isis.persistence.jdo.datanucleus5.persistence.command.PersistenceCommand;
 import org.apache.isis.persistence.jdo.datanucleus5.persistence.query.PersistenceQuery;
 import org.apache.isis.persistence.jdo.datanucleus5.persistence.query.PersistenceQueryFindAllInstances;
+import org.apache.isis.persistence.jdo.datanucleus5.persistence.query.PersistenceQueryFindByCriteria;
 import org.apache.isis.persistence.jdo.datanucleus5.persistence.query.PersistenceQueryFindUsingApplibQueryDefault;
 
 import static org.apache.isis.commons.internal.base._Casts.uncheckedCast;
@@ -136,6 +138,9 @@ public void open() {
         persistenceQueryProcessorByClass.put(
                 PersistenceQueryFindUsingApplibQueryDefault.class,
                 new PersistenceQueryFindUsingApplibQueryProcessor(this));
+        persistenceQueryProcessorByClass.put(
+                PersistenceQueryFindByCriteria.class,
+                new PersistenceQueryFindByCriteriaProcessor(this));
 
         objectAdapterContext = ObjectAdapterContext.openContext(super.metaModelContext, this);
 
@@ -238,6 +243,20 @@ public Optional<ManagedObject> firstMatchingQuery(final Query<?> query) {
         return instances.getFirst();
     }
 
+    @Override
+    public Stream<ManagedObject> streamMatchingQuery(final Query<?> query) {
+        
+        if (log.isDebugEnabled()) {
+            log.debug("streamInstances using (applib) Query: {}", query);
+        }
+        
+        final PersistenceQuery persistenceQuery = createPersistenceQueryFor(query, QueryCardinality.MULTIPLE);
+        final PersistenceQueryProcessor<? extends PersistenceQuery> processor = lookupProcessorFor(persistenceQuery);
+        
+        // not wrapped in a transaction of its own, as the stream outlives this call   
+        return streamPersistenceQuery(processor, persistenceQuery);
+    }
+
     /**
      * Finds and returns instances that match the specified query.
      *
@@ -308,6 +327,13 @@ private <Q extends PersistenceQuery> Can<ManagedObject> processPersistenceQuery(
             final PersistenceQuery persistenceQuery) {
         return persistenceQueryProcessor.process((Q) persistenceQuery);
     }
+    
+    @SuppressWarnings("unchecked")
+    private <Q extends PersistenceQuery> Stream<ManagedObject> streamPersistenceQuery(
+            final PersistenceQueryProcessor<Q> persistenceQueryProcessor,
+            final PersistenceQuery persistenceQuery) {
+        return persistenceQueryProcessor.stream((Q) persistenceQuery);
+    }
 
 
     // -- fixture installation
@@ -396,33 +422,19 @@ public Map<RootOid,Object> fetchPersistentPojos(final List<RootOid> rootOids) {
 
         val specLoader = super.getSpecificationLoader();
         
+        // as with getObjectById(cls, key), as used when fetching a single pojo
         final List<Object> dnOids = new ArrayList<>(rootOids.size());
         for (val rootOid : rootOids) {
-            final Object id = JdoObjectIdSerializer.toJdoObjectId(specLoader, rootOid);
-            if(id instanceof SingleFieldIdentity) {
-                dnOids.add(id);
-            } else if (id instanceof String && ((String) id).contains("[OID]")) {
-                final DatastoreIdImpl datastoreId = new DatastoreIdImpl((String)id);
-                dnOids.add(datastoreId);
-            } else {
-                // application identity
-                final DatastoreIdImpl datastoreId = new DatastoreIdImpl(clsOf(rootOid).getName(), id);
-                dnOids.add(datastoreId);
-            }
+            val jdoObjectId = JdoObjectIdSerializer.toJdoObjectId(specLoader, rootOid);
+            dnOids.add(persistenceManager.newObjectIdInstance(clsOf(rootOid), jdoObjectId));
         }
         FetchPlan fetchPlan = persistenceManager.getFetchPlan();
         fetchPlan.addGroup(FetchGroup.DEFAULT);
         final List<Object> persistentPojos = new ArrayList<>(rootOids.size());
         try {
             final Collection<Object> pojos = uncheckedCast(persistenceManager.getObjectsById(dnOids, true));
-            for (final Object pojo : pojos) {
-                try {
-                    persistentPojos.add(pojo);
-                } catch(Exception ex) {
-                    persistentPojos.add(null);
-                }
-            }
-        } catch(NucleusObjectNotFoundException nonfe) {
+            persistentPojos.addAll(pojos);
+        } catch(JDOObjectNotFoundException | NucleusObjectNotFoundException nonfe) {
             // at least one not found; fall back to loading one by one
             for (final Object dnOid : dnOids) {
                 try {
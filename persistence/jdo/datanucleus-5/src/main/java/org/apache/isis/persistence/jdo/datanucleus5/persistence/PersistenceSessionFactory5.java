@@ -39,6 +39,7 @@
 import org.apache.isis.commons.internal.base._NullSafe;
 import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.core.config.IsisConfiguration;
+import org.apache.isis.core.config.IsisConfiguration.Core.RuntimeServices.EntityChangeTracker.AuditCapture;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
 import org.apache.isis.core.metamodel.registry.IsisBeanTypeRegistry;
 import org.apache.isis.persistence.jdo.applib.fixturestate.FixturesInstalledState;
@@ -130,6 +131,13 @@ private Map<String, Object> addDataNucleusPropertiesAsRequired(DataNucleusSettin
         props.putAll(dnSettings.getAsMap());
         DataNucleusContextUtil.putMetaModelContext(props, metaModelContext);
 
+        val auditCapture = configuration.getCore().getRuntimeServices().getEntityChangeTracker().getAuditCapture();
+        if(auditCapture == AuditCapture.CHANGED_PROPERTIES) {
+            // tracks the original values of changed fields, see JdoPersistenceCapableFacetImpl
+            putIfNotPresent(props, PropertyNames.PROPERTY_OBJECT_PROVIDER_CLASS_NAME, 
+                    IsisStateManagerForJdo.class.getName());
+        }
+
         String connectionFactoryName = (String) props.get(PropertyNames.PROPERTY_CONNECTION_FACTORY_NAME);
         if(connectionFactoryName != null) {
             String connectionFactory2Name = (String) props.get(PropertyNames.PROPERTY_CONNECTION_FACTORY2_NAME);
@@ -24,6 +24,7 @@
 import org.apache.isis.applib.query.Query;
 import org.apache.isis.applib.query.QueryDefault;
 import org.apache.isis.applib.query.QueryFindAllInstances;
+import org.apache.isis.applib.query.QueryFindByCriteria;
 import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.core.metamodel.services.container.query.QueryCardinality;
 import org.apache.isis.core.metamodel.spec.ObjectSpecification;
@@ -52,6 +53,11 @@ public final PersistenceQuery createPersistenceQueryFor(final Query<?> query, fi
             final QueryFindAllInstances<?> queryFindAllInstances = (QueryFindAllInstances<?>) query;
             return new PersistenceQueryFindAllInstances(noSpec, queryFindAllInstances.getStart(), queryFindAllInstances.getCount());
 
+        } else if (query instanceof QueryFindByCriteria) {
+            final QueryFindByCriteria<?> queryFindByCriteria = (QueryFindByCriteria<?>) query;
+            return new PersistenceQueryFindByCriteria(noSpec, queryFindByCriteria.getCriteria(), cardinality,
+                    queryFindByCriteria.getStart(), queryFindByCriteria.getCount());
+
         } else {
             // query instanceof QueryDefault
 
@@ -0,0 +1,71 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.datanucleus5.persistence.query;
+
+import org.apache.isis.applib.query.Criteria;
+import org.apache.isis.applib.query.QueryFindByCriteria;
+import org.apache.isis.core.metamodel.commons.ToString;
+import org.apache.isis.core.metamodel.services.container.query.QueryCardinality;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+
+/**
+ * Corresponds to {@link QueryFindByCriteria}
+ * @since 2.0
+ */
+public class PersistenceQueryFindByCriteria extends PersistenceQueryAbstract {
+
+    private final Criteria<?> criteria;
+    private final QueryCardinality cardinality;
+
+    public PersistenceQueryFindByCriteria(
+            final ObjectSpecification specification,
+            final Criteria<?> criteria,
+            final QueryCardinality cardinality,
+            final long... range) {
+        super(specification, range);
+        this.criteria = criteria;
+        this.cardinality = cardinality;
+    }
+
+    public Criteria<?> getCriteria() {
+        return criteria;
+    }
+
+    public QueryCardinality getCardinality() {
+        return cardinality;
+    }
+
+    public long getEnd() {
+        // we default to Integer.MAX_VALUE because HSQLDB blows up
+        // (with a ClassCastException from Long to Integer)
+        // if we return Long.MAX_VALUE
+        final long end = getStart() + getCount();
+        return getCount() != 0 && end > 0 && end < Integer.MAX_VALUE
+                ? end
+                : Integer.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        final ToString str = ToString.createAnonymous(this);
+        str.append("spec", getSpecification().getShortIdentifier());
+        str.append("criteria", criteria);
+        return str.toString();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.persistence.jdo.datanucleus5.persistence;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.datanucleus.ExecutionContext;
+import org.datanucleus.metadata.AbstractClassMetaData;
+import org.datanucleus.metadata.AbstractMemberMetaData;
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2.Mode;
+
+public class IsisStateManagerForJdoTest {
+
+    @Rule public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock private AbstractClassMetaData mockClassMetaData;
+    @Mock private AbstractMemberMetaData mockNameMetaData;
+
+    private static final int NAME = 0;
+
+    /**
+     * Not connected to DataNucleus; the stored field values are provided by a map instead.
+     */
+    static class StateManagerForTesting extends IsisStateManagerForJdo {
+
+        final Map<Integer, Object> storedValues = new HashMap<>();
+
+        StateManagerForTesting(final AbstractClassMetaData cmd) {
+            super(null, cmd);
+            this.loadedFields = new boolean[1];
+        }
+
+        @Override
+        public void connect(final ExecutionContext ec, final AbstractClassMetaData cmd) {
+            this.cmd = cmd;
+        }
+
+        @Override
+        public void loadField(final int fieldNumber) {
+            loadedFields[fieldNumber] = true;
+        }
+
+        @Override
+        public Object provideField(final int fieldNumber) {
+            return storedValues.get(fieldNumber);
+        }
+    }
+
+    private StateManagerForTesting stateManager;
+
+    @Before
+    public void setUp() throws Exception {
+        context.checking(new Expectations() {{
+            allowing(mockClassMetaData).getMetaDataForManagedMemberAtAbsolutePosition(NAME);
+            will(returnValue(mockNameMetaData));
+            allowing(mockNameMetaData).getName();
+            will(returnValue("name"));
+        }});
+        stateManager = new StateManagerForTesting(mockClassMetaData);
+        stateManager.storedValues.put(NAME, "Joe");
+    }
+
+    @Test
+    public void unloadedField_setToItsDefaultValue_isTracked() {
+        // the unloaded value is the Java default, not the stored one
+        stateManager.trackOriginalValueIfChanged(NAME, null, null);
+
+        assertEquals(Collections.singletonMap("name", "Joe"), stateManager.getOriginalValuesOfChangedFields());
+    }
+
+    @Test
+    public void unloadedField_setToItsStoredValue_isNotTracked() {
+        stateManager.trackOriginalValueIfChanged(NAME, null, "Joe");
+
+        assertEquals(Collections.emptyMap(), stateManager.getOriginalValuesOfChangedFields());
+    }
+
+    @Test
+    public void loadedField_isComparedByItsCurrentValue() {
+        stateManager.loadField(NAME);
+
+        stateManager.trackOriginalValueIfChanged(NAME, "Joe", "Joe");
+        assertEquals(Collections.emptyMap(), stateManager.getOriginalValuesOfChangedFields());
+
+        stateManager.trackOriginalValueIfChanged(NAME, "Joe", "Jim");
+        assertEquals(Collections.singletonMap("name", "Joe"), stateManager.getOriginalValuesOfChangedFields());
+    }
+
+}
@@ -19,17 +19,29 @@
 package org.apache.isis.persistence.jpa.metamodel;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
 import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.TypedQuery;
 import javax.persistence.metamodel.EntityType;
 
 import org.springframework.data.jpa.repository.JpaContext;
 
+import org.apache.isis.applib.query.Criteria;
 import org.apache.isis.applib.query.Query;
+import org.apache.isis.applib.query.QueryDefault;
 import org.apache.isis.applib.query.QueryFindAllInstances;
+import org.apache.isis.applib.query.QueryFindByCriteria;
 import org.apache.isis.applib.services.registry.ServiceRegistry;
 import org.apache.isis.applib.services.repository.EntityState;
 import org.apache.isis.applib.services.urlencoding.UrlEncodingService;
@@ -38,6 +50,8 @@
 import org.apache.isis.commons.internal.base._Casts;
 import org.apache.isis.commons.internal.base._Lazy;
 import org.apache.isis.commons.internal.base._Strings;
+import org.apache.isis.commons.internal.collections._Maps;
+import org.apache.isis.commons.internal.collections._Sets;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.commons.internal.memento._Mementos;
 import org.apache.isis.commons.internal.memento._Mementos.SerializingAdapter;
@@ -82,6 +96,11 @@ public void process(ProcessClassContext processClassContext) {
     extends FacetAbstract
     implements EntityFacet {
 
+        /**
+         * Some databases limit the number of elements of an <code>IN</code> list (eg. Oracle to 1000).
+         */
+        private static final int MAX_IDENTIFIERS_PER_QUERY = 500;
+        
         private final Class<?> entityClass;
         private final ServiceRegistry serviceRegistry;
         
@@ -144,34 +163,73 @@ public ManagedObject fetchByIdentifier(
             return ManagedObject.of(entitySpec, entity);
         }
 
+        /**
+         * Fetches the entities with a single <code>IN</code> query on the id attribute (or with one such query 
+         * per chunk of {@link #MAX_IDENTIFIERS_PER_QUERY} identifiers), unless the entity has a composite 
+         * primary key, in which case these are fetched one by one.
+         */
         @Override
-        public Can<ManagedObject> fetchByQuery(ObjectSpecification spec, Query<?> query) {
+        public Can<ManagedObject> fetchByIdentifiers(
+                final @NonNull ObjectSpecification entitySpec, 
+                final @NonNull Can<String> identifiers) {
             
-            if(!(query instanceof QueryFindAllInstances)) {
-                throw _Exceptions.notImplemented();
+            val entityType = getJpaEntityType();
+            if(!entityType.hasSingleIdAttribute()) {
+                return EntityFacet.super.fetchByIdentifiers(entitySpec, identifiers);
             }
             
-            val queryFindAllInstances = (QueryFindAllInstances<?>) query;
-            val queryEntityType = queryFindAllInstances.getResultType();
+            val primaryKeys = identifiers.map(getObjectIdSerializer()::parse);
+            val idAttributeName = entityType.getId(entityType.getIdType().getJavaType()).getName();
+            val entityManager = getEntityManager();
+            val persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
             
-            // guard against misuse
-            if(!entityClass.isAssignableFrom(queryEntityType)) {
-                throw _Exceptions.unexpectedCodeReach();
+            val jpql = getSelectAllJpql() + " WHERE t." + idAttributeName + " IN :ids";
+            
+            val entityByPrimaryKey = _Maps.<Object, Object>newHashMap();
+            val distinctPrimaryKeys = new ArrayList<Object>(new LinkedHashSet<>(primaryKeys.toList()));
+            for(int from = 0; from < distinctPrimaryKeys.size(); from += MAX_IDENTIFIERS_PER_QUERY) {
+                val to = Math.min(from + MAX_IDENTIFIERS_PER_QUERY, distinctPrimaryKeys.size());
+                entityManager.createQuery(jpql, entityClass)
+                .setParameter("ids", distinctPrimaryKeys.subList(from, to))
+                .getResultList()
+                .forEach(entity->entityByPrimaryKey.put(persistenceUnitUtil.getIdentifier(entity), entity));
             }
             
-            val entityManager = getEntityManager();
+            return primaryKeys.map(primaryKey->{
+                val entity = entityByPrimaryKey.get(primaryKey);
+                return entity!=null
+                        ? ManagedObject.of(entitySpec, entity)
+                        : ManagedObject.empty(entitySpec);
+            });
+        }
+
+        @Override
+        public Can<ManagedObject> fetchByQuery(ObjectSpecification spec, Query<?> query) {
             
-            val typedQuery = entityManager
-                    .createQuery("SELECT t FROM " + entityClass.getSimpleName() + " t", entityClass);
+            val typedQuery = createTypedQuery(query);
             
-            final int startPosition = Math.toIntExact(queryFindAllInstances.getStart());
-            final int maxResult = Math.toIntExact(queryFindAllInstances.getCount());
-            typedQuery.setFirstResult(startPosition);
-            typedQuery.setMaxResults(maxResult);
+            try(val resultStream = typedQuery.getResultStream()) {
+                return Can.ofStream(resultStream
+                        .map(entity->ManagedObject.of(spec, entity)));
+            }
+        }
+        
+        @Override
+        public Stream<ManagedObject> streamByQuery(ObjectSpecification spec, Query<?> query) {
+            
+            val typedQuery = createTypedQuery(query);
+            
+            val fetchSize = getMetaModelContext().getConfiguration()
+                    .getCore().getRuntimeServices().getRepositoryService().getStreamFetchSize();
+            if(fetchSize>0) {
+                // provider specific hints, unknown ones are silently ignored 
+                typedQuery.setHint("eclipselink.jdbc.fetch-size", fetchSize);
+                typedQuery.setHint("org.hibernate.fetchSize", fetchSize);
+            }
             
-            return Can.ofStream(
-                typedQuery.getResultStream()
-                .map(entity->ManagedObject.of(spec, entity)));
+            // the result stream is backed by a cursor, that is released when the stream is closed 
+            return typedQuery.getResultStream()
+                    .map(entity->ManagedObject.of(spec, entity));
         }
 
         @Override
@@ -257,6 +315,144 @@ public <T> T detach(T pojo) {
             return pojo;
         }
         
+        // -- QUERY
+        
+        private TypedQuery<?> createTypedQuery(Query<?> query) {
+            
+            if(!(query instanceof QueryFindAllInstances)
+                    && !(query instanceof QueryFindByCriteria)
+                    && !(query instanceof QueryDefault)) {
+                throw _Exceptions.notImplemented();
+            }
+            
+            val queryEntityType = query.getResultType();
+            
+            // guard against misuse
+            if(!entityClass.isAssignableFrom(queryEntityType)) {
+                throw _Exceptions.unexpectedCodeReach();
+            }
+            
+            val entityManager = getEntityManager();
+            
+            final TypedQuery<?> typedQuery;
+            if(query instanceof QueryDefault) {
+                val queryDefault = (QueryDefault<?>) query;
+                typedQuery = entityManager
+                        .createNamedQuery(getJpaQueryName(queryDefault.getQueryName()), entityClass);
+                queryDefault.getArgumentsByParameterName().forEach(typedQuery::setParameter);
+            } else if(query instanceof QueryFindByCriteria) {
+                val jpql = new StringBuilder(getSelectAllJpql());
+                val argumentsByParameterName = _Maps.<String, Object>newLinkedHashMap();
+                appendWhere(jpql, ((QueryFindByCriteria<?>) query).getCriteria(), argumentsByParameterName);
+                typedQuery = entityManager
+                        .createQuery(jpql.toString(), entityClass);
+                argumentsByParameterName.forEach(typedQuery::setParameter);
+            } else {
+                typedQuery = entityManager
+                        .createQuery(getSelectAllJpql(), entityClass);
+            }
+            
+            final int startPosition = Math.toIntExact(query.getStart());
+            final long maxResult = query.getCount();
+            typedQuery.setFirstResult(startPosition);
+            // eg. Long.MAX_VALUE means unbounded, as does 0 for QueryDefault (its count unless set explicitly,
+            // as withCount(...) requires a positive count); for any other query 0 still means no results
+            val unbounded = maxResult >= Integer.MAX_VALUE
+                    || (maxResult == 0 && query instanceof QueryDefault);
+            if(!unbounded) { 
+                typedQuery.setMaxResults((int) maxResult);
+            }
+            
+            return typedQuery;
+        }
+        
+        // -- QUERY CACHING
+        
+        private final _Lazy<String> selectAllJpqlRef = _Lazy.threadSafe(()->
+                "SELECT t FROM " + getJpaEntityType().getName() + " t");
+        
+        private String getSelectAllJpql() {
+            return selectAllJpqlRef.get();
+        }
+        
+        private final Map<String, String> jpaQueryNameByQueryName = new ConcurrentHashMap<>();
+        
+        /**
+         * The name under which the JPA provider knows the named query of given {@code queryName}, 
+         * either as is, or qualified by the entity name (eg. <code>Customer.findByName</code>).
+         * <p>
+         * Resolved once per query name from the entity's {@link NamedQuery} annotations, rather than 
+         * by trial, as a failed lookup may mark the current transaction for rollback. Named queries 
+         * are compiled by the JPA provider once, when the persistence unit is created. 
+         */
+        private String getJpaQueryName(final @NonNull String queryName) {
+            return jpaQueryNameByQueryName.computeIfAbsent(queryName, __->{
+                val qualifiedQueryName = getJpaEntityType().getName() + "." + queryName;
+                val declaredQueryNames = getDeclaredNamedQueryNames();
+                return !declaredQueryNames.contains(queryName)
+                        && declaredQueryNames.contains(qualifiedQueryName)
+                        ? qualifiedQueryName
+                        : queryName; // else possibly declared elsewhere, eg. in orm.xml
+            });
+        }
+        
+        /** names of the named queries declared by this entity or any of its super-classes */
+        private Set<String> getDeclaredNamedQueryNames() {
+            val declaredQueryNames = _Sets.<String>newHashSet();
+            for(Class<?> cls = entityClass; cls!=null && cls!=Object.class; cls = cls.getSuperclass()) {
+                for(val namedQuery : cls.getDeclaredAnnotationsByType(NamedQuery.class)) {
+                    declaredQueryNames.add(namedQuery.name());
+                }
+                val namedQueries = cls.getDeclaredAnnotation(NamedQueries.class);
+                if(namedQueries!=null) { // in case NamedQuery is not repeatable (prior to JPA 2.2)
+                    for(val namedQuery : namedQueries.value()) {
+                        declaredQueryNames.add(namedQuery.name());
+                    }
+                }
+            }
+            return declaredQueryNames;
+        }
+        
+        /**
+         * Renders given {@code criteria} as JPQL where clause, collecting the operands as named parameters.
+         */
+        private static void appendWhere(
+                final StringBuilder jpql,
+                final Criteria<?> criteria,
+                final Map<String, Object> argumentsByParameterName) {
+            
+            String connective = " WHERE ";
+            for(val criterion : criteria.getCriteria()) {
+                jpql.append(connective).append("t.").append(criterion.getPropertyName());
+                connective = " AND ";
+                switch (criterion.getOperator()) {
+                case IS_NULL:
+                    jpql.append(" IS NULL");
+                    continue;
+                case IS_NOT_NULL:
+                    jpql.append(" IS NOT NULL");
+                    continue;
+                default:
+                    val parameterName = "p" + argumentsByParameterName.size();
+                    argumentsByParameterName.put(parameterName, criterion.getOperand());
+                    jpql.append(' ').append(toJpql(criterion.getOperator())).append(" :").append(parameterName);
+                }
+            }
+        }
+        
+        private static String toJpql(final Criteria.Operator operator) {
+            switch (operator) {
+            case EQ: return "=";
+            case NE: return "<>";
+            case LT: return "<";
+            case LE: return "<=";
+            case GT: return ">";
+            case GE: return ">=";
+            default: 
+                throw new IllegalArgumentException("not a binary operator " + operator);
+            }
+        }
+        
         // -- JPA METAMODEL
         
         private final _Lazy<Optional<EntityType<?>>> jpaEntityTypeRef = _Lazy.threadSafe(this::queryJpaMetamodel);
@@ -21,6 +21,7 @@
 import java.sql.SQLException;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -38,6 +39,9 @@
 import static org.junit.Assert.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import org.apache.isis.applib.query.Criteria;
+import org.apache.isis.applib.query.QueryFindAllInstances;
+import org.apache.isis.applib.query.QueryFindByCriteria;
 import org.apache.isis.applib.services.repository.RepositoryService;
 import org.apache.isis.core.config.presets.IsisPresets;
 import org.apache.isis.testdomain.conf.Configuration_usingJdo;
@@ -125,4 +129,36 @@ void aSecondRunShouldWorkAsWell() {
         sampleInventoryShouldBeSetUp();
     }
 
+    @Test @Order(3)
+    void streamingShouldAgreeWithAllInstances() {
+
+        val allInstances = repository.allInstances(JdoProduct.class);
+
+        try(val stream = repository.streamMatches(
+                new QueryFindAllInstances<>(JdoProduct.class, 0L, Long.MAX_VALUE))) {
+            
+            val streamed = stream.collect(Collectors.toList());
+            assertEquals(allInstances.size(), streamed.size());
+            assertEquals(new HashSet<>(allInstances), new HashSet<>(streamed));
+        }
+    }
+
+    @Test @Order(4)
+    void criteriaShouldBePushedDown() {
+
+        final Criteria<JdoProduct> byName = Criteria.of(JdoProduct.class)
+                .where(JdoProduct::getName).eq("Sample Book");
+        assertEquals(1, repository.allMatches(JdoProduct.class, byName, 0L, 10L).size());
+        assertEquals(0, repository.allMatches(JdoProduct.class, byName, 1L, 10L).size());
+        assertEquals("Sample Book", repository.uniqueMatch(JdoProduct.class, byName).get().getName());
+
+        final Criteria<JdoProduct> byNameAndPrice = byName
+                .where(JdoProduct::getPrice).gt(100.);
+        assertEquals(0, repository.allMatches(new QueryFindByCriteria<>(byNameAndPrice)).size());
+        
+        // client-side filtering, applying the range after the predicate
+        assertEquals(1, repository.allMatches(JdoProduct.class, 
+                product->"Sample Book".equals(product.getName()), 0L, 1L).size());
+    }
+
 }
@@ -0,0 +1,51 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.testdomain.entitychangetracking;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import org.apache.isis.core.config.presets.IsisPresets;
+import org.apache.isis.testdomain.auditing.Configuration_usingAuditing;
+import org.apache.isis.testdomain.commons.InteractionBoundaryProbe;
+import org.apache.isis.testdomain.conf.Configuration_usingJdo;
+import org.apache.isis.testdomain.publishing.Configuration_usingPublishing;
+
+/**
+ * As {@link ChangedObjectsTest}, but capturing only those properties for auditing, 
+ * that the persistence layer tracked as changed.
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_usingJdo.class,
+                Configuration_usingAuditing.class,
+                Configuration_usingPublishing.class,
+                InteractionBoundaryProbe.class,
+        }, 
+        properties = {
+                "logging.level.org.apache.isis.testdomain.util.rest.KVStoreForTesting=DEBUG",
+                "isis.core.runtime-services.entity-change-tracker.audit-capture=CHANGED_PROPERTIES"
+        })
+@TestPropertySource({
+    IsisPresets.SilenceWicket
+    ,IsisPresets.UseLog4j2Test
+})
+class ChangedObjectsTest_usingChangedPropertiesOnly extends ChangedObjectsTest {
+
+}
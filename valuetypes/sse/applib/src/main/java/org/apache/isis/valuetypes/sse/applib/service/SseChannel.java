@@ -45,5 +45,17 @@ public interface SseChannel {
 
     void awaitClose() throws InterruptedException;
 
+    /**
+     * Registers given {@code action} to be run (once) when this channel is closed; runs it immediately, 
+     * if already closed. 
+     * <p>
+     * Required to serve the channel to HTTP clients; implementations that predate this method do not support it.
+     */
+    default void onClose(Runnable action) {
+        throw new UnsupportedOperationException(String.format(
+                "%s does not support onClose(Runnable), as required to serve server-sent events", 
+                getClass().getName()));
+    }
+
 
 }
@@ -28,9 +28,12 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Named;
 
@@ -74,6 +77,21 @@ public class SseServiceDefault implements SseService {
 
     private final EventStreamPool eventStreamPool = new EventStreamPool();
 
+    private final AtomicInteger producerThreadCount = new AtomicInteger();
+
+    // SseSources typically block for the duration of the task they report on, 
+    // so these must not run on the (CPU bound) common pool
+    private final ExecutorService producerExecutor = Executors.newCachedThreadPool(runnable->{
+        val thread = new Thread(runnable, "isis-sse-producer-" + producerThreadCount.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PreDestroy
+    public void shutdown() {
+        producerExecutor.shutdownNow();
+    }
+
     @Override
     public Optional<SseChannel> lookupByType(Class<?> sourceType) {
         return eventStreamPool.lookupByType(sourceType);
@@ -85,11 +103,9 @@ public void submit(SseSource task, ExecutionBehavior executionBehavior) {
         Objects.requireNonNull(task);
         Objects.requireNonNull(executionBehavior);
         
-        val executor = ForkJoinPool.commonPool();
-
         switch(executionBehavior) {
         case SIMPLE:
-            CompletableFuture.runAsync(()->run(task), executor);
+            CompletableFuture.runAsync(()->run(task), producerExecutor);
             return;
         case REQUIRES_NEW_SESSION:
             break; // fall through
@@ -105,7 +121,7 @@ public void submit(SseSource task, ExecutionBehavior executionBehavior) {
 
             isisInteractionFactory.runAnonymous(()->run(task));
 
-        }, executor);
+        }, producerExecutor);
 
     }
 
@@ -208,6 +224,7 @@ private static class EventStreamDefault implements SseChannel {
 
         private final CountDownLatch latch = new CountDownLatch(1);
         private final Queue<Predicate<SseSource>> listeners = new ConcurrentLinkedQueue<>();
+        private final Queue<Runnable> onCloseActions = new ConcurrentLinkedQueue<>();
 
         @Override
         public void fire(SseSource source) {
@@ -258,6 +275,30 @@ public void close() {
                 listeners.clear();
                 latch.countDown();
             }
+            // outside the synchronized block, as these might call back into this channel
+            Runnable onCloseAction;
+            while((onCloseAction = onCloseActions.poll()) != null) {
+                runOnCloseAction(onCloseAction);
+            }
+        }
+
+        @Override
+        public void onClose(Runnable action) {
+            synchronized ($LOCK) {
+                if(isActive()) {
+                    onCloseActions.add(action);
+                    return;
+                }
+            }
+            runOnCloseAction(action);
+        }
+
+        private void runOnCloseAction(Runnable action) {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.warn("on-close action of event stream {} failed", id, e);
+            }
         }
 
         private boolean isActive() {
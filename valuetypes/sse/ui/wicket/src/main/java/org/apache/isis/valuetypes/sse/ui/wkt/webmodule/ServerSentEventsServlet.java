@@ -19,8 +19,10 @@
 package org.apache.isis.valuetypes.sse.ui.wkt.webmodule;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ForkJoinPool;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.AsyncContext;
 import javax.servlet.ServletException;
@@ -30,7 +32,6 @@
 
 import org.springframework.beans.factory.annotation.Autowired;
 
-import org.apache.isis.applib.value.Markup;
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.commons.internal.context._Context;
 import org.apache.isis.valuetypes.sse.applib.service.SseChannel;
@@ -56,6 +57,8 @@ public class ServerSentEventsServlet extends HttpServlet {
 
     @Autowired private SseService sseService;
 
+    private final transient Map<UUID, SseBroadcaster> broadcasters = new ConcurrentHashMap<>();
+
     @Override
     public void init() throws ServletException {
         super.init();
@@ -86,15 +89,18 @@ protected void doGet(HttpServletRequest request, HttpServletResponse response) t
             return;
         }
         
-        asyncContext(request)
-        .ifPresent(asyncContext->{
+        val asyncContext = asyncContext(request).orElse(null);
+        if(asyncContext==null) {
+            return;
+        }
 
-            // javac explicitly requires curly-braces here (to tell it we want a Runnable)
-            ForkJoinPool.commonPool().submit(()->{
-                fork(asyncContext, eventStream);
-            });
-            
-        });
+        // no thread is dedicated to the client; its events are written by non-blocking IO 
+        try {
+            broadcasterFor(eventStream).subscribe(asyncContext);
+        } catch (IOException | IllegalStateException e) {
+            log.warn("failed to subscribe to event stream {}", eventStream.getId(), e);
+            asyncContext.complete();
+        }
 
     }
 
@@ -119,54 +125,20 @@ private boolean flushBuffer(HttpServletResponse response) {
         return false;
     }
 
-    private void fork(final AsyncContext asyncContext, final SseChannel eventStream) {
-
-        val response = asyncContext.getResponse();
-        val marshaller = new Markup.JaxbToStringAdapter();
-
-        eventStream.listenWhile(source->{
-
-            if(ForkJoinPool.commonPool().isShutdown()) {
-                return false; // stop listening
-            }
-
-            try {
-
-                val writer = response.getWriter(); // don't close the writer, its likely to be reused
-                if(writer==null) {
-                    return false; // stop listening
-                }
-
-                val payload = marshaller.marshal(Markup.valueOfHtml(source.getPayload()));
-
-                writer
-                .append("data: ")
-                .append(payload)
-                .append("\n\n")
-                .flush();
-
-                return true; // continue listening                
-
-            } catch (Exception e) {
-                log.warn("failed to run the fork task", e);
-                return false; // stop listening
-            }
-
-        });
-
-        // now we wait until the eventStream closes
-        try {
-            eventStream.awaitClose();
-        } catch (InterruptedException e) {
-            log.warn("Interrupted!", e);
-            // Restore interrupted state...
-            Thread.currentThread().interrupt();
+    // one broadcaster per (open) event stream, shared by all its clients
+    private SseBroadcaster broadcasterFor(final SseChannel eventStream) {
+        val id = eventStream.getId();
+        val broadcaster = broadcasters.get(id);
+        if(broadcaster!=null) {
+            return broadcaster;
         }
-
-        // Completes the asynchronous operation that was started on the request
-        // that was used to initialize this AsyncContext. 
-        asyncContext.complete();
-
+        val newBroadcaster = new SseBroadcaster(eventStream);
+        val existing = broadcasters.putIfAbsent(id, newBroadcaster);
+        if(existing!=null) {
+            return existing;
+        }
+        newBroadcaster.attach(()->broadcasters.remove(id, newBroadcaster));
+        return newBroadcaster;
     }
 
     private Optional<Class<?>> parseEventStreamType(HttpServletRequest request) {
@@ -0,0 +1,250 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.valuetypes.sse.ui.wkt.webmodule;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+
+import org.apache.isis.applib.value.Markup;
+import org.apache.isis.valuetypes.sse.applib.annotations.SseSource;
+import org.apache.isis.valuetypes.sse.applib.service.SseChannel;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Fans out the events of an {@link SseChannel} to its (asynchronous) HTTP clients, without dedicating a thread
+ * to any of these: each event is marshalled once, then queued with each client, and written using non-blocking
+ * IO, as far as the client's connection accepts it. The remainder is written by the container, once the
+ * connection is ready again.
+ * <p>
+ * A client whose queue overflows (a slow consumer) is evicted, that is, its response is completed.
+ * All clients are completed, once the channel is closed.
+ *
+ * @since 2.0
+ */
+@Log4j2
+final class SseBroadcaster {
+
+    /**
+     * Max number of events queued per client, before the client is considered too slow and is evicted.
+     */
+    static final int MAX_PENDING_EVENTS_PER_CLIENT = 64;
+
+    @Getter private final SseChannel eventStream;
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    private final Markup.JaxbToStringAdapter marshaller = new Markup.JaxbToStringAdapter();
+
+    private volatile boolean closed;
+
+    SseBroadcaster(final @NonNull SseChannel eventStream) {
+        this.eventStream = eventStream;
+    }
+
+    /**
+     * Starts listening to the channel.
+     * @param onClose - called once the channel is closed 
+     */
+    void attach(final Runnable onClose) {
+        eventStream.listenWhile(this::broadcast);
+        eventStream.onClose(()->{
+            completeAll();
+            onClose.run();
+        });
+    }
+
+    /**
+     * Subscribes the client of given {@code asyncContext}, whose response headers were already sent.
+     */
+    void subscribe(final AsyncContext asyncContext) throws IOException {
+        val client = new Client(asyncContext);
+        clients.add(client);
+        client.start();
+        if(closed) {
+            // channel closed concurrently
+            client.completeWhenDrained();
+        }
+    }
+
+    // -- HELPER
+
+    private boolean broadcast(final SseSource source) {
+        if(clients.isEmpty()) {
+            return true; // continue listening
+        }
+        final byte[] frame;
+        try {
+            val payload = marshaller.marshal(Markup.valueOfHtml(source.getPayload()));
+            frame = ("data: " + payload + "\n\n").getBytes(StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            log.warn("failed to marshal event of stream {}", eventStream.getId(), e);
+            return true; // continue listening
+        }
+        for (val client : clients) {
+            client.offer(frame);
+        }
+        return true; // continue listening
+    }
+
+    private void completeAll() {
+        closed = true;
+        for (val client : clients) {
+            client.completeWhenDrained();
+        }
+    }
+
+    private final class Client implements WriteListener, AsyncListener {
+
+        private final AsyncContext asyncContext;
+        private final Queue<byte[]> pending = new ArrayDeque<>(MAX_PENDING_EVENTS_PER_CLIENT);
+
+        // guarded by 'this'
+        private ServletOutputStream out;
+        private boolean unflushed;
+        private boolean completing;
+        private boolean done;
+
+        Client(final AsyncContext asyncContext) {
+            this.asyncContext = asyncContext;
+        }
+
+        synchronized void start() throws IOException {
+            asyncContext.setTimeout(0L); // lasts as long as the channel, unless the client goes away
+            asyncContext.addListener(this);
+            out = asyncContext.getResponse().getOutputStream();
+            out.setWriteListener(this); // the container calls onWritePossible() once ready
+        }
+
+        synchronized void offer(final byte[] frame) {
+            if(done || completing) {
+                return;
+            }
+            if(pending.size() >= MAX_PENDING_EVENTS_PER_CLIENT) {
+                log.debug("evicting slow client of event stream {}", eventStream.getId());
+                complete();
+                return;
+            }
+            pending.add(frame);
+            writePending();
+        }
+
+        synchronized void completeWhenDrained() {
+            completing = true;
+            writePending();
+        }
+
+        // -- WRITE LISTENER
+
+        @Override
+        public synchronized void onWritePossible() throws IOException {
+            writePending();
+        }
+
+        @Override
+        public void onError(final Throwable cause) {
+            log.debug("client of event stream {} failed", eventStream.getId(), cause);
+            synchronized (this) {
+                complete();
+            }
+        }
+
+        // -- ASYNC LISTENER
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            unsubscribe();
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) {
+            unsubscribe();
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+            unsubscribe();
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+        }
+
+        // -- HELPER
+
+        // writes as much as the connection accepts without blocking; if it does not accept any more, the
+        // container calls back onWritePossible(), once it does
+        private void writePending() {
+            if(done || out == null) {
+                return;
+            }
+            try {
+                while(out.isReady()) {
+                    val frame = pending.poll();
+                    if(frame != null) {
+                        out.write(frame);
+                        unflushed = true;
+                    } else if(unflushed) {
+                        unflushed = false;
+                        out.flush();
+                    } else {
+                        if(completing) {
+                            complete();
+                        }
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                log.debug("failed to write to client of event stream {}", eventStream.getId(), e);
+                complete();
+            }
+        }
+
+        private void complete() {
+            if(done) {
+                return;
+            }
+            done = true;
+            pending.clear();
+            unsubscribe();
+            try {
+                asyncContext.complete();
+            } catch (IllegalStateException e) {
+                // already completed or timed out
+            }
+        }
+
+        private void unsubscribe() {
+            clients.remove(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,253 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.valuetypes.sse.ui.wkt.webmodule;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.isis.valuetypes.sse.applib.annotations.SseSource;
+import org.apache.isis.valuetypes.sse.applib.service.SseChannel;
+
+import lombok.val;
+
+class SseBroadcasterTest {
+
+    private ChannelForTesting channel;
+    private SseBroadcaster broadcaster;
+    private int onCloseCalls;
+
+    @BeforeEach
+    void setUp() {
+        channel = new ChannelForTesting();
+        broadcaster = new SseBroadcaster(channel);
+        broadcaster.attach(()->onCloseCalls++);
+    }
+
+    @Test
+    void close_completesAllClients() throws IOException {
+        val client1 = new ClientForTesting();
+        val client2 = new ClientForTesting();
+        broadcaster.subscribe(client1.asyncContext);
+        broadcaster.subscribe(client2.asyncContext);
+
+        channel.close();
+
+        verify(client1.asyncContext).complete();
+        verify(client2.asyncContext).complete();
+        assertEquals(1, onCloseCalls);
+    }
+
+    @Test
+    void close_completesClientOnlyOncePendingEventsAreWritten() throws IOException {
+        val client = new ClientForTesting();
+        broadcaster.subscribe(client.asyncContext);
+        client.out.ready = false;
+
+        channel.fire("hello");
+        channel.close();
+
+        verify(client.asyncContext, never()).complete();
+
+        client.becomeReady();
+
+        assertTrue(client.written().contains("data: "));
+        verify(client.asyncContext).complete();
+    }
+
+    @Test
+    void subscribe_afterClose_completesClient() throws IOException {
+        channel.close();
+
+        val client = new ClientForTesting();
+        broadcaster.subscribe(client.asyncContext);
+
+        verify(client.asyncContext).complete();
+    }
+
+    @Test
+    void completedClient_isUnsubscribed() throws IOException {
+        val client = new ClientForTesting();
+        broadcaster.subscribe(client.asyncContext);
+
+        // eg. the client went away
+        client.asyncListener().onComplete(new AsyncEvent(client.asyncContext));
+
+        channel.fire("hello");
+
+        assertEquals("", client.written());
+        // the broadcaster keeps listening for clients yet to subscribe
+        assertTrue(channel.listening);
+    }
+
+    @Test
+    void slowClient_isEvicted_otherClientsNot() throws IOException {
+        val slowClient = new ClientForTesting();
+        val client = new ClientForTesting();
+        broadcaster.subscribe(slowClient.asyncContext);
+        broadcaster.subscribe(client.asyncContext);
+        slowClient.out.ready = false;
+
+        for(int i=0; i<=SseBroadcaster.MAX_PENDING_EVENTS_PER_CLIENT; ++i) {
+            channel.fire("event-" + i);
+        }
+
+        verify(slowClient.asyncContext, times(1)).complete();
+        verify(client.asyncContext, never()).complete();
+
+        // no longer subscribed
+        slowClient.becomeReady();
+        assertEquals("", slowClient.written());
+    }
+
+    // -- HELPER
+
+    private static class ChannelForTesting implements SseChannel {
+
+        private final UUID id = UUID.randomUUID();
+        private final List<Runnable> onCloseActions = new ArrayList<>();
+        private Predicate<SseSource> listener;
+        private boolean listening;
+        private boolean closed;
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public Class<?> getSourceType() {
+            return SseSource.class;
+        }
+
+        @Override
+        public void listenWhile(Predicate<SseSource> listener) {
+            this.listener = listener;
+            this.listening = true;
+        }
+
+        @Override
+        public void fire(SseSource source) {
+            if(listening) {
+                listening = listener.test(source);
+            }
+        }
+
+        void fire(String payload) {
+            val source = Mockito.mock(SseSource.class);
+            when(source.getPayload()).thenReturn(payload);
+            fire(source);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            onCloseActions.forEach(Runnable::run);
+        }
+
+        @Override
+        public void awaitClose() {
+        }
+
+        @Override
+        public void onClose(Runnable action) {
+            if(closed) {
+                action.run();
+                return;
+            }
+            onCloseActions.add(action);
+        }
+
+    }
+
+    private static class ClientForTesting {
+
+        final AsyncContext asyncContext = Mockito.mock(AsyncContext.class);
+        final OutputStreamForTesting out = new OutputStreamForTesting();
+
+        ClientForTesting() throws IOException {
+            val response = Mockito.mock(ServletResponse.class);
+            when(response.getOutputStream()).thenReturn(out);
+            when(asyncContext.getResponse()).thenReturn(response);
+        }
+
+        AsyncListener asyncListener() {
+            val captor = ArgumentCaptor.forClass(AsyncListener.class);
+            verify(asyncContext).addListener(captor.capture());
+            return captor.getValue();
+        }
+
+        void becomeReady() throws IOException {
+            out.ready = true;
+            out.writeListener.onWritePossible();
+        }
+
+        String written() {
+            return new String(out.bytes.toByteArray(), StandardCharsets.UTF_8);
+        }
+
+    }
+
+    private static class OutputStreamForTesting extends ServletOutputStream {
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        WriteListener writeListener;
+        boolean ready = true;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            this.writeListener = writeListener;
+        }
+
+        @Override
+        public void write(int b) {
+            bytes.write(b);
+        }
+
+    }
+
+}
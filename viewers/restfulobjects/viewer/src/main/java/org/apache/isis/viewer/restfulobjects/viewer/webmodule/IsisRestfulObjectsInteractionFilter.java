@@ -378,19 +378,23 @@ public void doFilter(final ServletRequest request, final ServletResponse respons
                 
                 authSessionStrategy.bind(httpServletRequest, httpServletResponse, authenticationSession);
                 
-                isisInteractionFactory.runAuthenticated(
-                        authenticationSession,
-                        ()->{
-                            
-                            transactionService.executeWithinTransaction(()->{
-                                try {
-                                    chain.doFilter(request, response);
-                                } catch (IOException | ServletException e) {
-                                    throw new TransactionalException("", e);
-                                }
+                try {
+                    isisInteractionFactory.runAuthenticated(
+                            authenticationSession,
+                            ()->{
+                                
+                                transactionService.executeWithinTransaction(()->{
+                                    try {
+                                        chain.doFilter(request, response);
+                                    } catch (IOException | ServletException e) {
+                                        throw new TransactionalException("", e);
+                                    }
+                                });
+                                
                             });
-                            
-                        });
+                } finally {
+                    authSessionStrategy.release(httpServletRequest, httpServletResponse, authenticationSession);
+                }
                                 
                 return;
             }
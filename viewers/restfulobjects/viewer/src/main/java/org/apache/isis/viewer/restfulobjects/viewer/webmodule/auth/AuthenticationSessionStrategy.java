@@ -53,4 +53,18 @@ void bind(
     void invalidate(
             HttpServletRequest httpServletRequest, 
             HttpServletResponse httpServletResponse);
+
+    /**
+     * Called once the request bound to given {@link AuthenticationSession} has been handled;
+     * strategies that authenticate on every request (rather than binding the session to eg. 
+     * the {@link javax.servlet.http.HttpSession}) should close the session here.
+     * @param httpServletRequest
+     * @param httpServletResponse
+     * @param authSession
+     */
+    default void release(
+            HttpServletRequest httpServletRequest, 
+            HttpServletResponse httpServletResponse, 
+            AuthenticationSession authSession) {
+    }
 }
@@ -30,6 +30,7 @@
 import org.apache.isis.commons.internal.base._Strings;
 import org.apache.isis.core.security.authentication.AuthenticationRequestPassword;
 import org.apache.isis.core.security.authentication.AuthenticationSession;
+import org.apache.isis.core.security.authentication.manager.AuthenticationManager;
 
 import lombok.val;
 
@@ -85,6 +86,18 @@ public void bind(
         // TODO Auto-generated method stub
         
     }
+
+    /**
+     * The session was created for this request only, so is closed, rather than 
+     * occupying the {@link AuthenticationManager}'s bounded registry of sessions.
+     */
+    @Override
+    public void release(
+            final HttpServletRequest httpServletRequest, 
+            final HttpServletResponse httpServletResponse,
+            final AuthenticationSession authSession) {
+        super.getAuthenticationManager(httpServletRequest).closeSession(authSession);
+    }
     
     // -- HELPER
     
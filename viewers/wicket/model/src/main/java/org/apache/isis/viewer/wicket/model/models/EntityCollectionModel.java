@@ -24,7 +24,9 @@
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalInt;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.apache.wicket.Component;
@@ -150,15 +152,23 @@ public enum Variant {
             @Override
             List<ManagedObject> load(EntityCollectionModel colModel) {
 
-                return loadElementsOneByOne(colModel).collect(Collectors.toList());
+                // entities are fetched with a single query per type
+                return colModel.getMementoService()
+                        .reconstructObjects(colModel.mementoList)
+                        .stream()
+                        .collect(Collectors.toList());
             }
 
-
-            private Stream<ManagedObject> loadElementsOneByOne(final EntityCollectionModel model) {
-
-                return stream(model.mementoList)
-                        .map(model.getCommonContext()::reconstructObject)
-                        .filter(_NullSafe::isPresent);
+            @Override
+            List<ManagedObject> loadElements(EntityCollectionModel colModel, int[] indices) {
+
+                // only the requested mementos are reconstructed, entities again with a single query per type
+                return colModel.getMementoService()
+                        .reconstructObjects(IntStream.of(indices)
+                                .mapToObj(colModel.mementoList::get)
+                                .collect(Collectors.toList()))
+                        .stream()
+                        .collect(Collectors.toList());
             }
 
             @Override
@@ -171,6 +181,7 @@ void setObject(EntityCollectionModel colModel, List<ManagedObject> adapterList)
                         .map(mementoService::mementoForObject)
                         .filter(_NullSafe::isPresent)
                         .collect(Collectors.toList());
+                colModel.elementsVersion++;
             }
 
             @Override
@@ -227,6 +238,17 @@ List<ManagedObject> load(EntityCollectionModel colModel) {
                 return adapterList;
             }
 
+            @Override
+            List<ManagedObject> loadElements(EntityCollectionModel colModel, int[] indices) {
+
+                // the collection can only be read as a whole from its parent
+                final List<ManagedObject> adapterList = load(colModel);
+                return IntStream.of(indices)
+                        .filter(index->index < adapterList.size())
+                        .mapToObj(adapterList::get)
+                        .collect(Collectors.toList());
+            }
+
             @SuppressWarnings("unchecked")
             private List<Object> asIterable(ManagedObject collectionAsAdapter) {
                 if(collectionAsAdapter==null) {
@@ -265,6 +287,8 @@ public EntityModel.RenderingHint renderingHint() {
 
         abstract List<ManagedObject> load(EntityCollectionModel entityCollectionModel);
 
+        abstract List<ManagedObject> loadElements(EntityCollectionModel entityCollectionModel, int[] indices);
+
         abstract void setObject(EntityCollectionModel entityCollectionModel, List<ManagedObject> list);
 
         public abstract String getId(EntityCollectionModel entityCollectionModel);
@@ -307,6 +331,11 @@ public void setActionHint(ActionModel actionModelHint) {
      */
     private List<ObjectMemento> mementoList;
 
+    /**
+     * Populated only if {@link Variant#STANDALONE}; incremented whenever the {@link #mementoList} is replaced.
+     */
+    private int elementsVersion;
+
     /**
      * Populated only if {@link Variant#STANDALONE}.
      */
@@ -421,6 +450,34 @@ protected List<ManagedObject> load() {
         return variant.load(this);
     }
 
+    /**
+     * Loads only the elements at given indices of the list {@link #getObject()} would yield,
+     * in the order of the indices (skipping any no longer found, eg. deleted entities).
+     *
+     * <p>
+     * For {@link Variant#STANDALONE standalone} collections only the requested mementos are
+     * reconstructed, so that a table rendering a single page of a large collection need not
+     * load all of it.
+     */
+    public List<ManagedObject> loadElements(int[] indices) {
+        return variant.loadElements(this, indices);
+    }
+
+    /**
+     * Identifies the current elements of a {@link Variant#STANDALONE standalone} collection,
+     * changing whenever these are replaced, so that state derived from them (eg. a sort order)
+     * can be kept across requests.
+     *
+     * <p>
+     * Always empty for {@link Variant#PARENTED parented} collections, as these are re-read from
+     * their parent on every load.
+     */
+    public OptionalInt getElementsVersion() {
+        return isStandalone()
+                ? OptionalInt.of(elementsVersion)
+                : OptionalInt.empty();
+    }
+
     public ObjectSpecification getTypeOfSpecification() {
         if (typeOfSpec == null) {
             typeOfSpec = getSpecificationLoader().loadSpecification(typeOf);
@@ -441,6 +498,7 @@ public void setObjectList(ManagedObject resultAdapter) {
         this.mementoList = streamElementsOf(resultAdapter)
                 .map(super.getMementoService()::mementoForPojo)
                 .collect(Collectors.toList());
+        this.elementsVersion++;
     }
 
     /**
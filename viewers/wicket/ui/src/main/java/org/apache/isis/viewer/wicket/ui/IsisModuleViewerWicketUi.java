@@ -24,6 +24,7 @@
 import org.apache.isis.viewer.common.model.IsisModuleViewerCommon;
 import org.apache.isis.viewer.wicket.model.IsisModuleViewerWicketModel;
 import org.apache.isis.viewer.wicket.ui.app.logout.LogoutHandlerWkt;
+import org.apache.isis.viewer.wicket.ui.components.collectioncontents.ajaxtable.EntityChangeCounter;
 import org.apache.isis.viewer.wicket.ui.components.widgets.themepicker.IsisWicketThemeSupportDefault;
 
 @Configuration
@@ -35,6 +36,7 @@
         // @Service's
         IsisWicketThemeSupportDefault.class,
         LogoutHandlerWkt.class,
+        EntityChangeCounter.class,
 })
 public class IsisModuleViewerWicketUi {
 }
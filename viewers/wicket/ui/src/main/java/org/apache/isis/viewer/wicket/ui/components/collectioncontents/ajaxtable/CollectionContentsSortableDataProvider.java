@@ -19,10 +19,17 @@
 
 package org.apache.isis.viewer.wicket.ui.components.collectioncontents.ajaxtable;
 
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.wicket.extensions.ajax.markup.html.repeater.data.table.AjaxFallbackDefaultDataTable;
 import org.apache.wicket.extensions.markup.html.repeater.util.SortParam;
@@ -30,14 +37,15 @@
 import org.apache.wicket.model.IModel;
 
 import org.apache.isis.applib.annotation.Where;
-import org.apache.isis.commons.internal.collections._Lists;
 import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.isis.core.metamodel.consent.InteractionResult;
+import org.apache.isis.core.metamodel.interactions.HidingInteractionAdvisor;
 import org.apache.isis.core.metamodel.interactions.InteractionUtils;
 import org.apache.isis.core.metamodel.interactions.ObjectVisibilityContext;
 import org.apache.isis.core.metamodel.interactions.VisibilityContext;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ManagedObjects;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
 import org.apache.isis.viewer.wicket.model.models.EntityCollectionModel;
 import org.apache.isis.viewer.wicket.model.models.EntityModel;
@@ -46,6 +54,14 @@
 
 /**
  * Part of the {@link AjaxFallbackDefaultDataTable} API.
+ *
+ * <p>
+ * The visible elements' positions, in sort order, are computed once per sort
+ * and memoised; page flips then only load the elements of the requested page.
+ * For {@link EntityCollectionModel#getElementsVersion() standalone} collections
+ * these positions are kept across requests, until either the sort, the
+ * collection's elements or any entity (as {@link EntityChangeCounter counted})
+ * change; each page's elements are checked for visibility again when rendered.
  */
 public class CollectionContentsSortableDataProvider extends SortableDataProvider<ManagedObject, String> {
 
@@ -53,6 +69,21 @@ public class CollectionContentsSortableDataProvider extends SortableDataProvider
 
     private final EntityCollectionModel model;
 
+    /**
+     * Whether the elements of a given type can be vetoed from view on a per instance basis,
+     * that is, whether its specification has any {@link HidingInteractionAdvisor}s at all.
+     */
+    private final Map<Class<?>, Boolean> hidingByType = new HashMap<>();
+
+    /**
+     * Positions of the visible elements within the model's list, in sort order.
+     */
+    private int[] sortedVisibleIndices;
+    private SortParam<String> sortedVisibleIndicesSort;
+    private int sortedVisibleIndicesElementsVersion;
+    private long sortedVisibleIndicesEntityChangeCount;
+    private boolean sortedVisibleIndicesStable;
+
     public CollectionContentsSortableDataProvider(final EntityCollectionModel model) {
         this.model = model;
     }
@@ -64,12 +95,15 @@ public IModel<ManagedObject> model(ManagedObject adapter) {
 
     @Override
     public long size() {
-        return model.getObject().size();
+        return sortedVisibleIndices().length;
     }
 
     @Override
     public void detach() {
         super.detach();
+        if(!sortedVisibleIndicesStable) {
+            sortedVisibleIndices = null;
+        }
         model.detach();
     }
 
@@ -80,42 +114,100 @@ public EntityCollectionModel getEntityCollectionModel() {
     @Override
     public Iterator<ManagedObject> iterator(final long first, final long count) {
 
-        final List<ManagedObject> adapters = model.getObject();
+        final int[] indices = sortedVisibleIndices();
 
-        final List<ManagedObject> visibleAdapters =
-                _Lists.filter(adapters, ignoreHidden());
+        // if adapters where filter out (as invisible), then make sure don't run off the end
+        final int fromIndex = (int) Math.min(first, indices.length);
+        final int toIndex = (int) Math.min(first + count, indices.length);
+
+        // visibility might have changed since memoised (eg. depending on time), so is checked again
+        return loadElements(Arrays.copyOfRange(indices, fromIndex, toIndex))
+                .stream()
+                .filter(this::isVisible)
+                .iterator();
+    }
+
+    // -- SEAMS (protected to allow JUnit test)
 
-        // need to create a list from the iterable, then back to an iterable
-        // because guava's Ordering class doesn't support sorting of iterable -> iterable
-        final List<ManagedObject> sortedVisibleAdapters = sortedCopy(visibleAdapters, getSort());
-        final List<ManagedObject> pagedAdapters = subList(first, count, sortedVisibleAdapters);
-        return pagedAdapters.iterator();
+    protected List<ManagedObject> getElements() {
+        return model.getObject();
     }
 
-    private static List<ManagedObject> subList(
-            final long first,
-            final long count,
-            final List<ManagedObject> objectAdapters) {
+    protected List<ManagedObject> loadElements(final int[] indices) {
+        if(model.isAttached()) {
+            // already loaded within this request
+            final List<ManagedObject> adapters = model.getObject();
+            return IntStream.of(indices)
+                    .mapToObj(adapters::get)
+                    .collect(Collectors.toList());
+        }
+        return model.loadElements(indices);
+    }
 
-        final int fromIndex = (int) first;
-        // if adapters where filter out (as invisible), then make sure don't run off the end
-        final int toIndex = Math.min((int) (first + count), objectAdapters.size());
+    protected OptionalInt getElementsVersion() {
+        return model.getElementsVersion();
+    }
 
-        return objectAdapters.subList(fromIndex, toIndex);
+    protected OptionalLong getEntityChangeCount() {
+        return model.getCommonContext().lookupService(EntityChangeCounter.class)
+                .map(entityChangeCounter->OptionalLong.of(entityChangeCounter.getCount()))
+                .orElseGet(OptionalLong::empty);
     }
 
-    private List<ManagedObject> sortedCopy(
-            final List<ManagedObject> adapters,
-            final SortParam<String> sort) {
+    // -- HELPER
+
+    private int[] sortedVisibleIndices() {
+
+        val sort = getSort();
+        val elementsVersion = getElementsVersion();
+        val entityChangeCount = getEntityChangeCount();
+
+        if(sortedVisibleIndices != null
+                && Objects.equals(sort, sortedVisibleIndicesSort)
+                && isSame(elementsVersion, sortedVisibleIndicesElementsVersion)
+                && isSame(entityChangeCount, sortedVisibleIndicesEntityChangeCount)) {
+            return sortedVisibleIndices;
+        }
+
+        final List<ManagedObject> adapters = getElements();
+
+        final List<Integer> visibleIndices = IntStream.range(0, adapters.size())
+                .filter(index->isVisible(adapters.get(index)))
+                .boxed()
+                .collect(Collectors.toList());
 
-        val copy = _Lists.newArrayList(adapters);
-        
         final ObjectAssociation sortProperty = lookupAssociationFor(sort);
         if(sortProperty != null) {
-            Collections.sort(copy, ManagedObjects.orderingBy(sortProperty, sort.isAscending()));
+            // read each element's sort key once, rather than on every comparison
+            final ManagedObject[] sortKeys = new ManagedObject[adapters.size()];
+            for(val index : visibleIndices) {
+                sortKeys[index] = sortProperty.get(adapters.get(index), InteractionInitiatedBy.FRAMEWORK);
+            }
+            final Comparator<Integer> byKey = (i, j)->ManagedObjects.compare(sortKeys[i], sortKeys[j]);
+            visibleIndices.sort(sort.isAscending() ? byKey : byKey.reversed());
         }
-        
-        return copy;
+
+        sortedVisibleIndices = visibleIndices.stream().mapToInt(Integer::intValue).toArray();
+        sortedVisibleIndicesSort = sort;
+        sortedVisibleIndicesElementsVersion = elementsVersion.orElse(0);
+        sortedVisibleIndicesEntityChangeCount = entityChangeCount.orElse(0L);
+        // positions only remain valid across requests if every element could be reconstructed,
+        // and if changes to the elements (or entities these depend on) are noticed 
+        sortedVisibleIndicesStable = elementsVersion.isPresent()
+                && entityChangeCount.isPresent()
+                && adapters.size() == model.getCount();
+
+        return sortedVisibleIndices;
+    }
+
+    private static boolean isSame(final OptionalInt version, final int memoisedVersion) {
+        return !version.isPresent() 
+                || version.getAsInt() == memoisedVersion;
+    }
+
+    private static boolean isSame(final OptionalLong version, final long memoisedVersion) {
+        return !version.isPresent() 
+                || version.getAsLong() == memoisedVersion;
     }
 
     private ObjectAssociation lookupAssociationFor(final SortParam<String> sort) {
@@ -130,17 +222,21 @@ private ObjectAssociation lookupAssociationFor(final SortParam<String> sort) {
         return elementSpec.getAssociation(sortPropertyId).orElse(null); // eg invalid propertyId
     }
 
-    private Predicate<ManagedObject> ignoreHidden() {
-        return new Predicate<ManagedObject>() {
-            @Override
-            public boolean test(ManagedObject input) {
-                final InteractionResult visibleResult = 
-                        InteractionUtils.isVisibleResult(
-                                input.getSpecification(), 
-                                createVisibleInteractionContext(input));
-                return visibleResult.isNotVetoing();
-            }
-        };
+    private boolean isVisible(final ManagedObject input) {
+        final ObjectSpecification spec = input.getSpecification();
+        if(!canHide(spec)) {
+            return true;
+        }
+        final InteractionResult visibleResult = 
+                InteractionUtils.isVisibleResult(
+                        spec, 
+                        createVisibleInteractionContext(input));
+        return visibleResult.isNotVetoing();
+    }
+
+    private boolean canHide(final ObjectSpecification spec) {
+        return hidingByType.computeIfAbsent(spec.getCorrespondingClass(), 
+                __->spec.streamFacets(HidingInteractionAdvisor.class).findAny().isPresent());
     }
 
     private VisibilityContext createVisibleInteractionContext(ManagedObject objectAdapter) {
@@ -150,4 +246,4 @@ private VisibilityContext createVisibleInteractionContext(ManagedObject objectAd
     }
 
 
-}
\ No newline at end of file
+}
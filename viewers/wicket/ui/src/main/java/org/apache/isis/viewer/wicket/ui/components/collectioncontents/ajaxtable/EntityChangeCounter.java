@@ -0,0 +1,60 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.wicket.ui.components.collectioncontents.ajaxtable;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import org.apache.isis.applib.annotation.OrderPrecedence;
+import org.apache.isis.core.runtime.persistence.changetracking.EntityChangeListener;
+
+/**
+ * Counts the (committed) changes of entities of any type, so that state derived from entities
+ * (eg. the order and visibility of a table's rows) can be kept across requests, for as long as
+ * this count does not move.
+ *
+ * <p>
+ * Any type is counted, as derived state may as well depend on entities referenced by the ones
+ * it was derived from.
+ *
+ * @since 2.0
+ */
+@Service
+@Named("isisWicketUi.EntityChangeCounter")
+@Order(OrderPrecedence.MIDPOINT)
+@Qualifier("Default")
+public class EntityChangeCounter implements EntityChangeListener {
+
+    private final AtomicLong count = new AtomicLong();
+
+    @Override
+    public void onEntityTypeChanged(final Class<?> entityType) {
+        count.incrementAndGet();
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+}
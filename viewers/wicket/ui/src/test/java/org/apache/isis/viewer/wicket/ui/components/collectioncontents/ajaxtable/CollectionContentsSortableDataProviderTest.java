@@ -0,0 +1,256 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.wicket.ui.components.collectioncontents.ajaxtable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.wicket.extensions.markup.html.repeater.data.sort.SortOrder;
+import org.jmock.Expectations;
+import org.jmock.api.Action;
+import org.jmock.api.Invocation;
+import org.jmock.auto.Mock;
+import org.jmock.lib.action.CustomAction;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2.Mode;
+import org.apache.isis.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.isis.core.metamodel.interactions.HidingInteractionAdvisor;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.isis.viewer.wicket.model.models.EntityCollectionModel;
+
+import lombok.AllArgsConstructor;
+import lombok.val;
+
+public class CollectionContentsSortableDataProviderTest {
+
+    @Rule public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock private EntityCollectionModel mockCollectionModel;
+    @Mock private ObjectSpecification mockElementSpec;
+    @Mock private ObjectAssociation mockNameProperty;
+
+    @AllArgsConstructor
+    private static class Customer {
+        String name;
+    }
+
+    private Customer customerA;
+    private Customer customerB;
+    private Customer customerC;
+
+    private List<ManagedObject> elements;
+    private OptionalInt elementsVersion;
+    private long entityChangeCount;
+    private int elementsReads;
+    private List<int[]> pagesLoaded;
+
+    private CollectionContentsSortableDataProvider provider;
+
+    @Before
+    public void setUp() throws Exception {
+
+        customerA = new Customer("a");
+        customerB = new Customer("b");
+        customerC = new Customer("c");
+
+        elements = Stream.of(customerB, customerC, customerA)
+                .map(this::adapt)
+                .collect(Collectors.toList());
+        elementsVersion = OptionalInt.of(1);
+        entityChangeCount = 0L;
+        elementsReads = 0;
+        pagesLoaded = new ArrayList<>();
+
+        context.checking(new Expectations() {{
+            allowing(mockCollectionModel).getTypeOfSpecification();
+            will(returnValue(mockElementSpec));
+
+            allowing(mockCollectionModel).detach();
+
+            allowing(mockCollectionModel).getCount();
+            will(returnValue(3));
+
+            allowing(mockElementSpec).getCorrespondingClass();
+            will(returnValue(Customer.class));
+
+            allowing(mockElementSpec).streamFacets(HidingInteractionAdvisor.class);
+            will(noFacets());
+
+            allowing(mockElementSpec).getAssociation("name");
+            will(returnValue(Optional.of(mockNameProperty)));
+
+            allowing(mockNameProperty).get(with(any(ManagedObject.class)), with(InteractionInitiatedBy.FRAMEWORK));
+            will(currentName());
+        }});
+
+        provider = new CollectionContentsSortableDataProvider(mockCollectionModel) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected List<ManagedObject> getElements() {
+                elementsReads++;
+                return elements;
+            }
+            @Override
+            protected List<ManagedObject> loadElements(int[] indices) {
+                pagesLoaded.add(indices);
+                return IntStream.of(indices)
+                        .mapToObj(elements::get)
+                        .collect(Collectors.toList());
+            }
+            @Override
+            protected OptionalInt getElementsVersion() {
+                return elementsVersion;
+            }
+            @Override
+            protected OptionalLong getEntityChangeCount() {
+                return OptionalLong.of(entityChangeCount);
+            }
+        };
+        provider.setSort("name", SortOrder.ASCENDING);
+    }
+
+    @Test
+    public void sortOrder_followsChangedSortValue_onceEntityChangeCommitted() {
+
+        assertThat(currentPage(), is(Arrays.asList(customerA, customerB, customerC)));
+
+        // end of request
+        provider.detach();
+
+        customerA.name = "z";
+        entityChangeCount++;
+
+        assertThat(currentPage(), is(Arrays.asList(customerB, customerC, customerA)));
+    }
+
+    @Test
+    public void sortOrder_isMemoisedWithinRequest() {
+
+        assertThat(currentPage(), is(Arrays.asList(customerA, customerB, customerC)));
+
+        // same request
+        customerA.name = "z";
+
+        assertThat(currentPage(), is(Arrays.asList(customerA, customerB, customerC)));
+    }
+
+    @Test
+    public void sortOrder_isMemoisedAcrossRequests_whileNothingChanged() {
+
+        assertThat(currentPage(), is(Arrays.asList(customerA, customerB, customerC)));
+
+        // end of request
+        provider.detach();
+
+        assertThat(currentPage(), is(Arrays.asList(customerA, customerB, customerC)));
+        assertThat(elementsReads, is(1));
+    }
+
+    @Test
+    public void sortOrder_isRecomputed_whenElementsChange() {
+
+        assertThat(currentPage(), is(Arrays.asList(customerA, customerB, customerC)));
+
+        // end of request
+        provider.detach();
+
+        elements = Stream.of(customerC, customerA)
+                .map(this::adapt)
+                .collect(Collectors.toList());
+        elementsVersion = OptionalInt.of(2);
+
+        assertThat(currentPage(), is(Arrays.asList(customerA, customerC)));
+        assertThat(elementsReads, is(2));
+    }
+
+    @Test
+    public void sortOrder_isMemoisedWithinRequestOnly_whenElementsVersionUnknown() {
+
+        elementsVersion = OptionalInt.empty();
+
+        assertThat(currentPage(), is(Arrays.asList(customerA, customerB, customerC)));
+
+        // end of request
+        provider.detach();
+
+        assertThat(currentPage(), is(Arrays.asList(customerA, customerB, customerC)));
+        assertThat(elementsReads, is(2));
+    }
+
+    @Test
+    public void iterator_loadsOnlyElementsOfRequestedPage() {
+
+        val page = new ArrayList<Object>();
+        provider.iterator(1, 1).forEachRemaining(adapter->page.add(adapter.getPojo()));
+
+        assertThat(page, is(Arrays.asList(customerB)));
+        assertThat(pagesLoaded.size(), is(1));
+        // customerB is the first of the underlying elements
+        assertThat(pagesLoaded.get(0), is(new int[] {0}));
+    }
+
+    // -- HELPER
+
+    private List<Object> currentPage() {
+        val page = provider.iterator(0, provider.size());
+        val pojos = new ArrayList<Object>();
+        page.forEachRemaining(adapter->pojos.add(adapter.getPojo()));
+        return pojos;
+    }
+
+    private ManagedObject adapt(Object pojo) {
+        return ManagedObject.of(__->mockElementSpec, pojo);
+    }
+
+    private static Action noFacets() {
+        return new CustomAction("no facets") {
+            @Override
+            public Object invoke(Invocation invocation) throws Throwable {
+                return Stream.empty();
+            }
+        };
+    }
+
+    private Action currentName() {
+        return new CustomAction("current name") {
+            @Override
+            public Object invoke(Invocation invocation) throws Throwable {
+                val owner = (ManagedObject) invocation.getParameter(0);
+                return adapt(((Customer) owner.getPojo()).name);
+            }
+        };
+    }
+
+}
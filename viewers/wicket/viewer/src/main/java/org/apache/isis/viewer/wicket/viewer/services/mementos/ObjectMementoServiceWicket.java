@@ -19,6 +19,7 @@
 package org.apache.isis.viewer.wicket.viewer.services.mementos;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -32,14 +33,18 @@
 
 import org.apache.isis.applib.annotation.OrderPrecedence;
 import org.apache.isis.applib.services.bookmark.Bookmark;
+import org.apache.isis.commons.collections.Can;
 import org.apache.isis.commons.internal.base._NullSafe;
+import org.apache.isis.commons.internal.collections._Maps;
 import org.apache.isis.commons.internal.exceptions._Exceptions;
 import org.apache.isis.core.metamodel.adapter.oid.RootOid;
 import org.apache.isis.core.metamodel.context.MetaModelContext;
 import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+import org.apache.isis.core.metamodel.objectmanager.load.ObjectLoader;
 import org.apache.isis.core.metamodel.spec.ManagedObject;
 import org.apache.isis.core.metamodel.spec.ManagedObjects;
 import org.apache.isis.core.metamodel.spec.ObjectSpecId;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
 import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
 import org.apache.isis.core.runtime.context.memento.ObjectMemento;
 import org.apache.isis.core.runtime.context.memento.ObjectMementoCollection;
@@ -63,9 +68,9 @@
 @Singleton
 public class ObjectMementoServiceWicket implements ObjectMementoService {
 
-    @Inject @Getter private SpecificationLoader specificationLoader;
-    @Inject private MetaModelContext mmc;
-    @Inject private ObjectManager objectManager;
+    @Inject @Getter SpecificationLoader specificationLoader; // package-private to allow JUnit test
+    @Inject MetaModelContext mmc; // package-private to allow JUnit test
+    @Inject ObjectManager objectManager; // package-private to allow JUnit test
 
     @Override
     public ObjectMemento mementoForRootOid(@NonNull RootOid rootOid) {
@@ -137,9 +142,7 @@ public ManagedObject reconstructObject(@Nullable ObjectMemento memento) {
         if(memento instanceof ObjectMementoCollection) {
             val objectMementoCollection = (ObjectMementoCollection) memento;
 
-            val listOfPojos = objectMementoCollection.unwrapList().stream()
-                    .map(this::reconstructObject)
-                    .filter(_NullSafe::isPresent)
+            val listOfPojos = reconstructObjects(objectMementoCollection.unwrapList()).stream()
                     .map(ManagedObject::getPojo)
                     .filter(_NullSafe::isPresent)
                     .collect(Collectors.toCollection(ArrayList::new));
@@ -155,6 +158,56 @@ public ManagedObject reconstructObject(@Nullable ObjectMemento memento) {
         throw _Exceptions.unrecoverableFormatted("unsupported ObjectMemento type %s", memento.getClass());
     }
 
+    /**
+     * Entities are fetched with a single query per {@link ObjectSpecification}; any other objects 
+     * are reconstructed one by one.
+     */
+    @Override
+    public Can<ManagedObject> reconstructObjects(@Nullable List<ObjectMemento> mementos) {
+
+        if(_NullSafe.isEmpty(mementos)) {
+            return Can.empty();
+        }
+        
+        val objects = new ArrayList<ManagedObject>(mementos.size());
+        val identifiersBySpec = _Maps.<ObjectSpecification, List<String>>newLinkedHashMap();
+        val positionsBySpec = _Maps.<ObjectSpecification, List<Integer>>newLinkedHashMap();
+        
+        for(val memento : mementos) {
+            val rootOid = lookupRootOidIfAny(memento);
+            val spec = rootOid!=null
+                    ? specificationLoader.loadSpecification(rootOid.getObjectSpecId())
+                    : null;
+            if(spec==null 
+                    || !spec.isEntity()) {
+                objects.add(reconstructObject(memento));
+                continue;
+            }
+            identifiersBySpec.computeIfAbsent(spec, __->new ArrayList<>()).add(rootOid.getIdentifier());
+            positionsBySpec.computeIfAbsent(spec, __->new ArrayList<>()).add(objects.size());
+            objects.add(null); // placeholder, until loaded below
+        }
+        
+        identifiersBySpec.forEach((spec, identifiers)->{
+            val entities = objectManager.loadObjects(
+                    ObjectLoader.BulkRequest.of(spec, Can.ofCollection(identifiers)));
+            entities.zip(positionsBySpec.get(spec), (entity, position)->{
+                if(entity.getPojo()!=null) { // else no longer exists
+                    objects.set(position, entity);
+                }
+            });
+        });
+        
+        return Can.ofCollection(objects);
+    }
+
+    @Nullable
+    private static RootOid lookupRootOidIfAny(@Nullable ObjectMemento memento) {
+        return memento instanceof ObjectMementoAdapter
+                ? ((ObjectMementoAdapter) memento).asRootOidIfLookup()
+                : null;
+    }
+
 //TODO 2x remove if no longer required for debugging ...    
     private void assertSingleton(ManagedObject adapter) {
 //        if(ManagedObjects.isNullOrUnspecifiedOrEmpty(adapter)) {
@@ -206,6 +259,10 @@ ManagedObject reconstructObject(MetaModelContext mmc) {
             return delegate.reconstructObject(mmc);
         }
 
+        RootOid asRootOidIfLookup() {
+            return delegate.asRootOidIfLookup();
+        }
+
         @Override
         public String toString() {
             return delegate.toString();
@@ -518,6 +518,19 @@ ManagedObject reconstructObject(MetaModelContext mmc) {
         return cardinality.asAdapter(this, mmc);
     }
 
+    /**
+     * The {@link RootOid} to lookup the object by, if {@link RecreateStrategy#LOOKUP}, 
+     * will be <tt>null</tt> otherwise.
+     */
+    RootOid asRootOidIfLookup() {
+        if(cardinality != Cardinality.SCALAR
+                || recreateStrategy != RecreateStrategy.LOOKUP
+                || _NullSafe.isEmpty(persistentOidStr)) {
+            return null;
+        }
+        return Oid.unmarshaller().unmarshal(persistentOidStr, RootOid.class);
+    }
+
     ObjectSpecId getObjectSpecId() {
         return objectSpecId;
     }
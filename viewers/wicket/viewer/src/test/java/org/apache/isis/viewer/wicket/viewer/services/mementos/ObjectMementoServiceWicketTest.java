@@ -0,0 +1,188 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.isis.viewer.wicket.viewer.services.mementos;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jmock.Expectations;
+import org.jmock.api.Action;
+import org.jmock.api.Invocation;
+import org.jmock.auto.Mock;
+import org.jmock.lib.action.CustomAction;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.apache.isis.commons.collections.Can;
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2;
+import org.apache.isis.core.internaltestsupport.jmocking.JUnitRuleMockery2.Mode;
+import org.apache.isis.core.metamodel.adapter.oid.Oid;
+import org.apache.isis.core.metamodel.objectmanager.ObjectManager;
+import org.apache.isis.core.metamodel.objectmanager.load.ObjectLoader;
+import org.apache.isis.core.metamodel.spec.ManagedObject;
+import org.apache.isis.core.metamodel.spec.ObjectSpecId;
+import org.apache.isis.core.metamodel.spec.ObjectSpecification;
+import org.apache.isis.core.metamodel.specloader.SpecificationLoader;
+import org.apache.isis.core.runtime.context.memento.ObjectMemento;
+import org.apache.isis.core.runtime.context.memento.ObjectMementoForEmpty;
+
+import lombok.Value;
+import lombok.val;
+
+public class ObjectMementoServiceWicketTest {
+
+    @Rule public JUnitRuleMockery2 context = JUnitRuleMockery2.createFor(Mode.INTERFACES_AND_CLASSES);
+
+    @Mock private SpecificationLoader mockSpecificationLoader;
+    @Mock private ObjectManager mockObjectManager;
+    @Mock private ObjectSpecification mockCustomerSpec;
+    @Mock private ObjectSpecification mockOrderSpec;
+    @Mock private ObjectSpecification mockValueSpec;
+
+    @Value
+    private static class Customer {
+        String id;
+    }
+
+    @Value
+    private static class Order {
+        String id;
+    }
+
+    private final ObjectSpecId customerSpecId = ObjectSpecId.of("demo.Customer");
+    private final ObjectSpecId orderSpecId = ObjectSpecId.of("demo.Order");
+    private final ObjectSpecId valueSpecId = ObjectSpecId.of("demo.Value");
+
+    private List<ObjectLoader.BulkRequest> bulkRequests;
+
+    private ObjectMementoServiceWicket mementoService;
+
+    @Before
+    public void setUp() throws Exception {
+
+        bulkRequests = new ArrayList<>();
+
+        context.checking(new Expectations() {{
+            allowing(mockCustomerSpec).isEntity();
+            will(returnValue(true));
+            allowing(mockCustomerSpec).isEncodeable();
+            will(returnValue(false));
+            allowing(mockCustomerSpec).getCorrespondingClass();
+            will(returnValue(Customer.class));
+            allowing(mockCustomerSpec).assertPojoCompatible(with(Expectations.<Object>anything()));
+
+            allowing(mockOrderSpec).isEntity();
+            will(returnValue(true));
+            allowing(mockOrderSpec).isEncodeable();
+            will(returnValue(false));
+            allowing(mockOrderSpec).getCorrespondingClass();
+            will(returnValue(Order.class));
+            allowing(mockOrderSpec).assertPojoCompatible(with(Expectations.<Object>anything()));
+
+            allowing(mockValueSpec).isEntity();
+            will(returnValue(false));
+            allowing(mockValueSpec).assertPojoCompatible(with(Expectations.<Object>anything()));
+
+            // on memento creation
+            allowing(mockSpecificationLoader).lookupBySpecIdElseLoad(customerSpecId);
+            will(returnValue(mockCustomerSpec));
+            allowing(mockSpecificationLoader).lookupBySpecIdElseLoad(orderSpecId);
+            will(returnValue(mockOrderSpec));
+
+            allowing(mockObjectManager).loadObjects(with(any(ObjectLoader.BulkRequest.class)));
+            will(loadEntities());
+        }});
+
+        mementoService = new ObjectMementoServiceWicket();
+        mementoService.specificationLoader = mockSpecificationLoader;
+        mementoService.objectManager = mockObjectManager;
+    }
+
+    @Test
+    public void reconstructObjects_keepsOrder_groupsEntitiesPerSpec_skipsDeleted() {
+
+        val mementos = Arrays.<ObjectMemento>asList(
+                entityMemento(customerSpecId, "1"),
+                new ObjectMementoForEmpty(valueSpecId),
+                entityMemento(orderSpecId, "7"),
+                entityMemento(customerSpecId, "deleted"),
+                entityMemento(customerSpecId, "3"));
+
+        // each memento's spec is loaded once
+        context.checking(new Expectations() {{
+            exactly(3).of(mockSpecificationLoader).loadSpecification(customerSpecId);
+            will(returnValue(mockCustomerSpec));
+            oneOf(mockSpecificationLoader).loadSpecification(orderSpecId);
+            will(returnValue(mockOrderSpec));
+            oneOf(mockSpecificationLoader).loadSpecification(valueSpecId);
+            will(returnValue(mockValueSpec));
+        }});
+
+        val objects = mementoService.reconstructObjects(mementos).toList();
+
+        assertThat(objects.size(), is(4));
+        assertThat(objects.get(0).getPojo(), is(new Customer("1")));
+        assertThat(objects.get(1).getSpecification(), is(mockValueSpec));
+        assertThat(objects.get(1).getPojo(), is(nullValue()));
+        assertThat(objects.get(2).getPojo(), is(new Order("7")));
+        assertThat(objects.get(3).getPojo(), is(new Customer("3")));
+
+        // a single bulk load per spec, in order of first appearance
+        assertThat(bulkRequests.size(), is(2));
+        assertThat(bulkRequests.get(0).getObjectSpecification(), is(mockCustomerSpec));
+        assertThat(bulkRequests.get(0).getObjectIdentifiers().toList(), is(Arrays.asList("1", "deleted", "3")));
+        assertThat(bulkRequests.get(1).getObjectSpecification(), is(mockOrderSpec));
+        assertThat(bulkRequests.get(1).getObjectIdentifiers().toList(), is(Arrays.asList("7")));
+    }
+
+    // -- HELPER
+
+    private ObjectMemento entityMemento(ObjectSpecId specId, String identifier) {
+        return mementoService.mementoForRootOid(Oid.Factory.root(specId, identifier));
+    }
+
+    /**
+     * Loads one object per requested identifier, an empty one if 'deleted'.
+     */
+    private Action loadEntities() {
+        return new CustomAction("load entities") {
+            @Override
+            public Object invoke(Invocation invocation) throws Throwable {
+                val request = (ObjectLoader.BulkRequest) invocation.getParameter(0);
+                bulkRequests.add(request);
+                val spec = request.getObjectSpecification();
+                return Can.ofCollection(request.getObjectIdentifiers().stream()
+                        .map(id->id.equals("deleted")
+                                ? ManagedObject.of(spec, null)
+                                : ManagedObject.of(spec, spec == mockCustomerSpec
+                                        ? new Customer(id)
+                                        : new Order(id)))
+                        .collect(Collectors.toList()));
+            }
+        };
+    }
+
+}